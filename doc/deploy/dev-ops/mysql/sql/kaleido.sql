@@ -198,10 +198,13 @@ CREATE TABLE IF NOT EXISTS `t_ai_workflow_execution` (
   `error_message` text CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci COMMENT '错误信息',
   `started_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '开始时间',
   `completed_at` datetime DEFAULT NULL COMMENT '完成时间',
+  `node_id` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '执行节点标识',
+  `recovery_count` int NOT NULL DEFAULT '0' COMMENT '恢复执行次数',
   PRIMARY KEY (`id`),
   KEY `idx_workflow_status` (`workflow_id`,`status`),
   KEY `idx_started_at` (`started_at`),
-  KEY `user_id` (`user_id`)
+  KEY `user_id` (`user_id`),
+  KEY `idx_status_updated` (`status`,`updated_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='工作流执行记录表';
 
 -- 正在导出表  kaleido_0.t_ai_workflow_execution 的数据：~21 rows (大约)
@@ -231,6 +234,20 @@ INSERT INTO `t_ai_workflow_execution` (`id`, `created_at`, `updated_at`, `delete
 	('2019255819933302784', '2026-02-05 03:44:38', '2026-02-05 03:44:39', 0, 0, '2018297740714528768', '2', 'SUCCESS', '周末去深圳玩', '["2018943145387134976", "2018943455459446784", "2018943556999352320"]', NULL, '2026-02-05 03:44:38', '2026-02-05 03:44:39');
 /*!40000 ALTER TABLE `t_ai_workflow_execution` ENABLE KEYS */;
 
+-- 导出  表 kaleido_0.t_ai_workflow_step_checkpoint 结构
+CREATE TABLE IF NOT EXISTS `t_ai_workflow_step_checkpoint` (
+  `id` varchar(32) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '主键ID',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  `deleted` tinyint NOT NULL DEFAULT '0' COMMENT '是否删除：0-未删除，1-已删除',
+  `lock_version` int NOT NULL DEFAULT '0' COMMENT '乐观锁版本号',
+  `execution_id` varchar(32) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '执行记录ID',
+  `step_id` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '步骤ID',
+  `output_data` mediumtext COLLATE utf8mb4_unicode_ci COMMENT '步骤输出',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_execution_step` (`execution_id`,`step_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='工作流步骤检查点表';
+
 -- 导出  表 kaleido_0.t_dict 结构
 CREATE TABLE IF NOT EXISTS `t_dict` (
   `id` varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '主键ID',
@@ -864,7 +881,7 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_clothing` (
   `current_location_id` varchar(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '当前位置ID',
   `primary_image_id` varchar(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '主图ID',
   PRIMARY KEY (`id`),
-  KEY `idx_user_id` (`user_id`),
+  KEY `idx_user_created` (`user_id`,`created_at`,`id`),
   KEY `idx_brand_id` (`brand_id`),
   KEY `idx_current_location_id` (`current_location_id`),
   KEY `idx_primary_image_id` (`primary_image_id`)
@@ -919,8 +936,12 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_clothing_image` (
   `image_type` varchar(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '图片类型',
   `width` int DEFAULT NULL COMMENT '图片宽度（像素）',
   `height` int DEFAULT NULL COMMENT '图片高度（像素）',
+  `thumbnail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列表缩略图路径',
+  `detail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '详情图路径',
+  `compressed_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '原尺寸压缩图路径',
   PRIMARY KEY (`id`),
-  KEY `idx_clothing_id` (`clothing_id`)
+  KEY `idx_clothing_id` (`clothing_id`),
+  KEY `idx_path` (`path`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='服装图片表';
 
 -- 正在导出表  kaleido_0.t_wardrobe_clothing_image 的数据：~29 rows (大约)
@@ -973,8 +994,12 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_location_image` (
   `image_type` varchar(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '文件类型',
   `width` int DEFAULT NULL COMMENT '图片宽度',
   `height` int DEFAULT NULL COMMENT '图片高度',
+  `thumbnail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列表缩略图路径',
+  `detail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '详情图路径',
+  `compressed_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '原尺寸压缩图路径',
   PRIMARY KEY (`id`),
-  KEY `idx_location_id` (`location_id`)
+  KEY `idx_location_id` (`location_id`),
+  KEY `idx_path` (`path`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='位置图片表';
 
 -- 正在导出表  kaleido_0.t_wardrobe_location_image 的数据：~5 rows (大约)
@@ -1052,7 +1077,7 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_outfit` (
   `name` varchar(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '穿搭名称',
   `description` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '穿搭描述',
   PRIMARY KEY (`id`),
-  KEY `idx_user_id` (`user_id`)
+  KEY `idx_user_created` (`user_id`,`created_at`,`id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='穿搭表';
 
 -- 正在导出表  kaleido_0.t_wardrobe_outfit 的数据：~16 rows (大约)
@@ -1154,8 +1179,12 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_outfit_image` (
   `width` int DEFAULT NULL COMMENT '图片宽度（像素）',
   `height` int DEFAULT NULL COMMENT '图片高度（像素）',
   `description` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '图片描述',
+  `thumbnail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '列表缩略图路径',
+  `detail_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '详情图路径',
+  `compressed_path` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '原尺寸压缩图路径',
   PRIMARY KEY (`id`),
-  KEY `idx_outfit_id` (`outfit_id`)
+  KEY `idx_outfit_id` (`outfit_id`),
+  KEY `idx_path` (`path`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='穿搭图片表';
 
 -- 正在导出表  kaleido_0.t_wardrobe_outfit_image 的数据：~16 rows (大约)
@@ -1193,7 +1222,7 @@ CREATE TABLE IF NOT EXISTS `t_wardrobe_storage_location` (
   `address` varchar(500) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '具体地址',
   `primary_image_id` varchar(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '主图ID',
   PRIMARY KEY (`id`),
-  KEY `idx_user_id` (`user_id`),
+  KEY `idx_user_created` (`user_id`,`created_at`,`id`),
   KEY `idx_primary_image_id` (`primary_image_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='存储位置表';
 
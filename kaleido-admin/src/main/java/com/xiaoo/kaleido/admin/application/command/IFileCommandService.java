@@ -18,4 +18,14 @@ public interface IFileCommandService {
      * @return 文件上传响应
      */
     FileUploadResponse uploadFile(MultipartFile file);
+
+    /**
+     * 按内容哈希上传文件，相同内容只保存一份
+     * <p>
+     * 返回的对象由使用方维护引用计数，只能用于登记和释放引用的业务（如衣橱图片）
+     *
+     * @param file 上传的文件
+     * @return 文件上传响应
+     */
+    FileUploadResponse uploadContent(MultipartFile file);
 }
@@ -2,6 +2,9 @@ package com.xiaoo.kaleido.admin.application.command.impl;
 
 import com.xiaoo.kaleido.admin.application.command.IFileCommandService;
 import com.xiaoo.kaleido.api.file.response.FileUploadResponse;
+import com.xiaoo.kaleido.file.model.ContentObject;
+import com.xiaoo.kaleido.file.model.UploadResult;
+import com.xiaoo.kaleido.file.service.IContentStore;
 import com.xiaoo.kaleido.file.service.IMinIOService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class FileCommandService implements IFileCommandService {
 
     private final IMinIOService minIOService;
+    private final IContentStore contentStore;
 
     /**
      * 上传文件
@@ -51,8 +55,8 @@ public class FileCommandService implements IFileCommandService {
             // 3. 获取文件内容类型
             String contentType = file.getContentType();
 
-            // 4. 上传文件到MinIO
-            minIOService.uploadFile(file, objectName, contentType);
+            // 4. 流式上传文件到MinIO，同时计算内容哈希
+            UploadResult uploadResult = minIOService.uploadStream(file, objectName, contentType);
 
             // 5. 获取文件访问URL
             String basisUrl = minIOService.getBasisUrl();
@@ -63,10 +67,11 @@ public class FileCommandService implements IFileCommandService {
                     .objectName(objectName)
                     .fileUrl(fileUrl)
                     .originalName(originalFilename)
-                    .fileSize(file.getSize())
+                    .fileSize(uploadResult.getSize())
+                    .contentHash(uploadResult.getContentHash())
                     .build();
 
-            log.info("文件上传成功，对象名称: {}, 文件URL: {}", objectName, fileUrl);
+            log.info("文件上传成功，对象名称: {}, 文件URL: {}, 内容哈希: {}", objectName, fileUrl, uploadResult.getContentHash());
             return response;
 
         } catch (Exception e) {
@@ -75,6 +80,43 @@ public class FileCommandService implements IFileCommandService {
         }
     }
 
+    /**
+     * 按内容哈希上传文件
+     *
+     * @param file 上传的文件
+     * @return 文件上传响应
+     */
+    @Override
+    public FileUploadResponse uploadContent(MultipartFile file) {
+        try {
+            log.info("开始按内容上传文件，原始文件名: {}, 文件大小: {} bytes",
+                    file.getOriginalFilename(), file.getSize());
+
+            // 1. 按内容哈希存储文件，相同内容只保存一份
+            ContentObject content = contentStore.store(file);
+            String objectName = content.getObjectName();
+
+            // 2. 获取文件访问URL
+            String fileUrl = minIOService.getBasisUrl() + objectName;
+
+            // 3. 构建响应
+            FileUploadResponse response = FileUploadResponse.builder()
+                    .objectName(objectName)
+                    .fileUrl(fileUrl)
+                    .originalName(Optional.ofNullable(file.getOriginalFilename()).orElse("unknown"))
+                    .fileSize(content.getFileSize())
+                    .contentHash(content.getHash())
+                    .build();
+
+            log.info("按内容上传文件成功，对象名称: {}, 文件URL: {}", objectName, fileUrl);
+            return response;
+
+        } catch (Exception e) {
+            log.error("按内容上传文件失败，原始文件名: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("文件上传失败", e);
+        }
+    }
+
     /**
      * 生成对象名称（基于文件标识）
      *
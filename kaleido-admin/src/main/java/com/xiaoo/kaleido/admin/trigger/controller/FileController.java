@@ -39,4 +39,20 @@ public class FileController {
         FileUploadResponse response = fileCommandService.uploadFile(file);
         return Result.success(response);
     }
+
+    /**
+     * 按内容上传文件
+     * 服务端计算内容哈希去重，已存在的内容不会重复存储，用于衣橱图片等维护引用计数的业务
+     *
+     * @param file 上传的文件
+     * @return 文件上传响应
+     */
+    @PostMapping("/upload/content")
+    public Result<FileUploadResponse> uploadContent(
+            @RequestParam("file") MultipartFile file) {
+
+        log.info("接收到按内容上传请求，原始文件名: {}, 文件大小: {} bytes", file.getOriginalFilename(), file.getSize());
+        FileUploadResponse response = fileCommandService.uploadContent(file);
+        return Result.success(response);
+    }
 }
@@ -1,5 +1,6 @@
 package com.xiaoo.kaleido.ai.application.command;
 
+import com.xiaoo.kaleido.ai.domain.agent.adapter.event.IAgentChangePublisher;
 import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
 import com.xiaoo.kaleido.ai.domain.agent.model.aggregate.AgentAggregate;
 import com.xiaoo.kaleido.ai.domain.agent.model.entity.AgentTool;
@@ -30,6 +31,7 @@ public class AgentCommandService {
     private final IAgentDomainService agentDomainService;
     private final IAgentRepository agentRepository;
     private final AgentFactory agentFactory;
+    private final IAgentChangePublisher agentChangePublisher;
 
     /**
      * 创建Agent
@@ -70,11 +72,7 @@ public class AgentCommandService {
      * @param command 更新Agent命令
      */
     public void updateAgent(String agentId, UpdateAgentCommand command) {
-        // 1.获取旧的Agent状态
-        AgentAggregate oldAgent = agentRepository.findByIdOrThrow(agentId);
-        AgentStatus oldStatus = oldAgent.getStatus();
-
-        // 2.调用领域服务更新Agent
+        // 1.调用领域服务更新Agent
         AgentAggregate agent = agentDomainService.updateAgent(
                 agentId,
                 command.getName(),
@@ -85,13 +83,13 @@ public class AgentCommandService {
                 command.getMaxTokens()
         );
 
-        // 3.保存Agent
+        // 2.保存Agent
         agentRepository.update(agent);
 
-        // 4.处理注册状态变化
-        handleRegistrationStatusChange(agentId, oldStatus, agent.getStatus());
+        // 3.同步集群注册中心
+        syncRegistry(agentId);
 
-        // 5.记录日志
+        // 4.记录日志
         log.info("Agent更新成功，Agent ID: {}, 新名称: {}", agentId, command.getName());
     }
 
@@ -107,8 +105,8 @@ public class AgentCommandService {
         // 2.保存Agent
         agentRepository.update(agent);
 
-        // 3.注册Agent到注册中心
-        agentFactory.registerAgent(agentId);
+        // 3.同步集群注册中心
+        syncRegistry(agentId);
 
         // 4.记录日志
         log.info("Agent启用成功，Agent ID: {}", agentId);
@@ -126,8 +124,8 @@ public class AgentCommandService {
         // 2.保存Agent
         agentRepository.update(agent);
 
-        // 3.从注册中心注销Agent
-        agentFactory.unregisterAgent(agentId);
+        // 3.同步集群注册中心
+        syncRegistry(agentId);
 
         // 4.记录日志
         log.info("Agent禁用成功，Agent ID: {}", agentId);
@@ -152,7 +150,10 @@ public class AgentCommandService {
         // 2.保存工具到数据库
         agentRepository.addTool(newTool);
 
-        // 3.记录日志
+        // 3.同步集群注册中心（工具配置发生了变化）
+        syncRegistry(agentId);
+
+        // 4.记录日志
         log.info("工具添加到Agent成功，Agent ID: {}, 工具编码: {}", agentId, command.getToolCode());
     }
 
@@ -164,43 +165,28 @@ public class AgentCommandService {
      */
     public void removeAgentTool(String agentId, String toolCode) {
         // 1.调用领域服务移除工具（验证工具存在并执行业务逻辑）
-        AgentAggregate agent = agentDomainService.removeTool(agentId, toolCode);
+        agentDomainService.removeTool(agentId, toolCode);
 
         // 2.从数据库中删除工具
         agentRepository.removeTool(agentId, toolCode);
 
-        // 3.刷新Agent配置（因为工具配置发生了变化）
-        if (agent.getStatus() == AgentStatus.NORMAL) {
-            agentFactory.refreshAgent(agentId);
-        }
+        // 3.同步集群注册中心（工具配置发生了变化）
+        syncRegistry(agentId);
 
         // 4.记录日志
         log.info("工具从Agent移除成功，Agent ID: {}, 工具编码: {}", agentId, toolCode);
     }
 
     /**
-     * 处理注册状态变化
+     * 同步集群注册中心
+     * <p>
+     * 先广播变更让其他节点失效对应条目，再按同一版本刷新本节点，
+     * 本节点自身收到的广播会因版本已应用而被忽略
      *
-     * @param agentId   Agent ID
-     * @param oldStatus 旧状态
-     * @param newStatus 新状态
+     * @param agentId Agent ID
      */
-    private void handleRegistrationStatusChange(String agentId, AgentStatus oldStatus, AgentStatus newStatus) {
-        if (oldStatus == newStatus) {
-            // 状态未变化，如果状态为NORMAL则刷新配置
-            if (newStatus == AgentStatus.NORMAL) {
-                agentFactory.refreshAgent(agentId);
-            }
-            return;
-        }
-
-        // 状态发生变化
-        if (newStatus == AgentStatus.NORMAL) {
-            // 从其他状态变为NORMAL，注册Agent
-            agentFactory.registerAgent(agentId);
-        } else if (oldStatus == AgentStatus.NORMAL) {
-            // 从NORMAL变为其他状态，注销Agent
-            agentFactory.unregisterAgent(agentId);
-        }
+    private void syncRegistry(String agentId) {
+        long version = agentChangePublisher.publishAgentChanged(agentId);
+        agentFactory.refreshAgent(agentId, version);
     }
 }
@@ -0,0 +1,266 @@
+package com.xiaoo.kaleido.ai.application.command;
+
+import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingIndexCheckpointRepository;
+import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingVectorRepository;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexCheckpoint;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexRebuildResult;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingVector;
+import com.xiaoo.kaleido.ai.trigger.convertor.ClothingEventConvertor;
+import com.xiaoo.kaleido.ai.types.config.ClothingIndexRebuildProperties;
+import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.xiaoo.kaleido.ai.types.exception.AiException;
+import com.xiaoo.kaleido.api.wardrobe.IRpcClothingService;
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
+import com.xiaoo.kaleido.base.result.Result;
+import com.xiaoo.kaleido.rpc.constant.RpcConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.redisson.api.RLock;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 服装向量索引命令服务
+ * <p>
+ * 负责服装向量索引的全量重建：从衣橱服装服务按游标分页拉取全部服装，限流向量化后写入影子集合，
+ * 全部写入后把对外服务的别名原子切换到影子集合。每页完成后保存检查点，中断后再次执行从检查点继续。
+ * 重建期间增量事件写入过的服装以事件数据为准，快照中的这些服装不再写入
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClothingIndexCommandService {
+
+    private static final String LOCK_KEY = "ai:clothing:index:rebuild:lock";
+
+    private static final String RATE_LIMITER_KEY = "ai:clothing:index:rebuild:rate";
+
+    private final IClothingVectorRepository clothingVectorRepository;
+    private final IClothingIndexCheckpointRepository checkpointRepository;
+    private final ClothingEventConvertor clothingEventConvertor;
+    private final ClothingIndexRebuildProperties properties;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @DubboReference(version = RpcConstants.DUBBO_VERSION)
+    private IRpcClothingService rpcClothingService;
+
+    /**
+     * 当前重建累计写入的服装数量
+     */
+    private final AtomicLong progress = new AtomicLong();
+
+    /**
+     * 本实例是否正在执行重建
+     */
+    private final AtomicInteger running = new AtomicInteger();
+
+    private Counter indexedCounter;
+
+    private Timer pageTimer;
+
+    @PostConstruct
+    public void bindMetrics() {
+        Gauge.builder("ai.clothing.index.rebuild.progress", progress, AtomicLong::get)
+                .description("当前重建累计写入影子集合的服装数量")
+                .register(meterRegistry);
+        Gauge.builder("ai.clothing.index.rebuild.running", running, AtomicInteger::get)
+                .description("本实例是否正在执行重建")
+                .register(meterRegistry);
+        indexedCounter = Counter.builder("ai.clothing.index.rebuild.indexed")
+                .description("重建写入影子集合的服装数量")
+                .register(meterRegistry);
+        pageTimer = Timer.builder("ai.clothing.index.rebuild.page.latency")
+                .description("重建单页拉取、向量化和写入耗时")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 执行全量重建
+     * <p>
+     * 集群内同一时间只允许一个实例执行。执行线程被中断时在当前页完成后停止，检查点保留，下次执行继续
+     *
+     * @param restart 是否放弃进行中的重建并从头开始
+     * @return 重建结果
+     * @throws AiException 其他实例正在执行，或拉取、写入、切换别名失败时抛出
+     */
+    public ClothingIndexRebuildResult rebuild(boolean restart) {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        if (!lock.tryLock()) {
+            throw AiException.of(AiErrorCode.RESOURCE_LIMIT_EXCEEDED, "服装向量索引重建正在其他实例执行");
+        }
+        running.set(1);
+        try {
+            return doRebuild(restart);
+        } finally {
+            running.set(0);
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private ClothingIndexRebuildResult doRebuild(boolean restart) {
+        // 1.加载检查点，没有进行中的重建时创建影子集合
+        ClothingIndexCheckpoint checkpoint = prepareCheckpoint(restart);
+        ClothingIndexRebuildResult result = new ClothingIndexRebuildResult();
+        result.setCollectionName(checkpoint.getCollectionName());
+        progress.set(checkpoint.getIndexed());
+        log.info("开始服装向量索引重建，影子集合: {}, 游标: {}, 已写入: {}",
+                checkpoint.getCollectionName(), checkpoint.getCursor(), checkpoint.getIndexed());
+
+        // 2.单批数量不超过每秒许可数，保证一次能取到足够的令牌
+        RRateLimiter rateLimiter = rateLimiter();
+        int batchSize = Math.max(1, properties.getEmbedPermitsPerSecond() > 0
+                ? Math.min(properties.getEmbedBatchSize(), properties.getEmbedPermitsPerSecond())
+                : properties.getEmbedBatchSize());
+
+        // 3.逐页拉取、向量化并写入影子集合，每页完成后推进检查点
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("服装向量索引重建被中断，影子集合: {}, 游标: {}",
+                        checkpoint.getCollectionName(), checkpoint.getCursor());
+                result.setTotalIndexed(checkpoint.getIndexed());
+                return result;
+            }
+
+            long start = System.nanoTime();
+            CursorPageResponse<ClothingEventMessage> page = fetchPage(checkpoint.getCursor());
+            List<ClothingVector> clothingVectors = page.getItems() == null ? List.of() : page.getItems().stream()
+                    .map(clothingEventConvertor::toDomain)
+                    .toList();
+            for (int from = 0; from < clothingVectors.size(); from += batchSize) {
+                List<ClothingVector> batch = clothingVectors.subList(from, Math.min(from + batchSize, clothingVectors.size()));
+                if (rateLimiter != null) {
+                    rateLimiter.acquire(batch.size());
+                }
+                writeSnapshot(checkpoint.getCollectionName(), batch);
+                indexedCounter.increment(batch.size());
+            }
+            pageTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            checkpoint.setIndexed(checkpoint.getIndexed() + clothingVectors.size());
+            progress.set(checkpoint.getIndexed());
+            result.setPages(result.getPages() + 1);
+            result.setIndexed(result.getIndexed() + clothingVectors.size());
+            if (!Boolean.TRUE.equals(page.getHasMore())) {
+                break;
+            }
+            // 最后一页不推进游标，别名切换失败时重做最后一页后再次切换
+            checkpoint.setCursor(page.getNextCursor());
+            checkpointRepository.save(checkpoint);
+        }
+
+        // 4.切换别名并结束重建
+        String previous = clothingVectorRepository.switchAlias(checkpoint.getCollectionName());
+        checkpointRepository.delete();
+        if (previous != null && properties.isDropPreviousCollection()) {
+            clothingVectorRepository.dropCollection(previous);
+        }
+
+        result.setTotalIndexed(checkpoint.getIndexed());
+        result.setCompleted(true);
+        result.setPreviousCollectionName(previous);
+        log.info("服装向量索引重建完成，影子集合: {}, 累计写入: {}, 切换前集合: {}",
+                checkpoint.getCollectionName(), checkpoint.getIndexed(), previous);
+        return result;
+    }
+
+    /**
+     * 准备检查点
+     * <p>
+     * 重新开始时先删除检查点再删除影子集合，避免增量事件继续写入即将删除的集合；
+     * 继续执行时影子集合已不存在则从头开始
+     */
+    private ClothingIndexCheckpoint prepareCheckpoint(boolean restart) {
+        ClothingIndexCheckpoint checkpoint = checkpointRepository.find();
+        if (checkpoint != null && restart) {
+            log.info("放弃进行中的服装向量索引重建，影子集合: {}", checkpoint.getCollectionName());
+            checkpointRepository.delete();
+            clothingVectorRepository.dropCollection(checkpoint.getCollectionName());
+            checkpoint = null;
+        }
+
+        if (checkpoint == null) {
+            checkpoint = new ClothingIndexCheckpoint();
+            checkpoint.setCollectionName(clothingVectorRepository.servingAlias() + "_" + System.currentTimeMillis());
+            checkpoint.setStartedAt(new Date());
+            clothingVectorRepository.createCollection(checkpoint.getCollectionName());
+            checkpointRepository.save(checkpoint);
+        } else if (clothingVectorRepository.createCollection(checkpoint.getCollectionName())) {
+            log.warn("影子集合不存在，从头开始重建，影子集合: {}", checkpoint.getCollectionName());
+            // 增量事件写入的数据随集合一起丢失，不能再跳过这些服装
+            checkpointRepository.clearTouched(checkpoint.getCollectionName());
+            checkpoint.setCursor(null);
+            checkpoint.setIndexed(0);
+            checkpointRepository.save(checkpoint);
+        }
+        return checkpoint;
+    }
+
+    /**
+     * 写入快照数据
+     * <p>
+     * 快照读取后到写入前，增量事件可能已把更新或删除写入影子集合。持有影子集合写入锁后跳过这些服装，
+     * 事件写入的数据更新，快照数据不能覆盖，已删除的服装也不能被恢复
+     */
+    private void writeSnapshot(String collectionName, List<ClothingVector> batch) {
+        Lock shadowLock = checkpointRepository.shadowWriteLock().writeLock();
+        shadowLock.lock();
+        try {
+            Set<String> touched = checkpointRepository.findTouched(collectionName,
+                    batch.stream().map(ClothingVector::getClothingId).toList());
+            List<ClothingVector> snapshot = touched.isEmpty() ? batch : batch.stream()
+                    .filter(clothingVector -> !touched.contains(clothingVector.getClothingId()))
+                    .toList();
+            if (!snapshot.isEmpty()) {
+                clothingVectorRepository.save(collectionName, snapshot);
+            }
+            if (!touched.isEmpty()) {
+                log.debug("跳过已由增量事件写入的服装，影子集合: {}, 数量: {}", collectionName, touched.size());
+            }
+        } finally {
+            shadowLock.unlock();
+        }
+    }
+
+    private RRateLimiter rateLimiter() {
+        if (properties.getEmbedPermitsPerSecond() <= 0) {
+            return null;
+        }
+        RRateLimiter rateLimiter = redissonClient.getRateLimiter(RATE_LIMITER_KEY);
+        rateLimiter.setRate(RateType.OVERALL, properties.getEmbedPermitsPerSecond(), Duration.ofSeconds(1));
+        return rateLimiter;
+    }
+
+    private CursorPageResponse<ClothingEventMessage> fetchPage(String cursor) {
+        Result<CursorPageResponse<ClothingEventMessage>> response =
+                rpcClothingService.scanClothingForIndex(cursor, properties.getPageSize());
+        if (response == null || !Boolean.TRUE.equals(response.getSuccess()) || response.getData() == null) {
+            throw AiException.of(AiErrorCode.EXTERNAL_SERVICE_ERROR,
+                    "拉取服装数据失败，游标: " + cursor + ", 响应: " + (response != null ? response.getMsg() : null));
+        }
+        return response.getData();
+    }
+}
@@ -1,16 +1,21 @@
 package com.xiaoo.kaleido.ai.application.command;
 
+import com.xiaoo.kaleido.ai.application.command.executor.AbstractWorkflowExecutor;
 import com.xiaoo.kaleido.ai.application.command.executor.GenericWorkflowExecutor;
 import com.xiaoo.kaleido.ai.application.command.executor.OutfitRecommendWorkflowExecutor;
+import com.xiaoo.kaleido.ai.application.command.executor.WorkflowExecutionDispatcher;
 import com.xiaoo.kaleido.ai.application.command.executor.WorkflowExecutorFactory;
+import com.xiaoo.kaleido.ai.domain.workflow.adapter.event.IWorkflowChangePublisher;
 import com.xiaoo.kaleido.ai.domain.workflow.adapter.event.IWorkflowEventPublisher;
 import com.xiaoo.kaleido.ai.domain.workflow.armory.WorkflowFactory;
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowAggregate;
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowExecutionAggregate;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
 import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowExecutionRepository;
 import com.xiaoo.kaleido.ai.domain.workflow.service.IWorkflowExecutionService;
 import com.xiaoo.kaleido.ai.domain.workflow.service.IWorkflowManagementService;
 import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowRepository;
+import com.xiaoo.kaleido.ai.types.config.WorkflowRecoveryProperties;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.api.ai.command.CreateWorkflowCommand;
@@ -20,7 +25,10 @@ import com.xiaoo.kaleido.api.ai.enums.WorkflowExecutionStatusEnum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
+import java.util.Date;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -40,7 +48,10 @@ public class WorkflowCommandService {
     private final IWorkflowExecutionRepository workflowExecutionRepository;
     private final WorkflowFactory workflowFactory;
     private final IWorkflowEventPublisher workflowEventPublisher;
+    private final IWorkflowChangePublisher workflowChangePublisher;
     private final WorkflowExecutorFactory executorFactory;
+    private final WorkflowExecutionDispatcher workflowExecutionDispatcher;
+    private final WorkflowRecoveryProperties recoveryProperties;
 
     /**
      * 创建工作流
@@ -84,7 +95,10 @@ public class WorkflowCommandService {
         // 2.保存工作流
         workflowRepository.update(workflow);
 
-        // 3.记录日志
+        // 3.同步集群注册中心
+        syncRegistry(workflowId);
+
+        // 4.记录日志
         log.info("工作流更新成功，工作流ID: {}, 新名称: {}", workflowId, command.getName());
     }
 
@@ -100,7 +114,10 @@ public class WorkflowCommandService {
         // 2.保存工作流
         workflowRepository.update(workflow);
 
-        // 3.记录日志
+        // 3.同步集群注册中心
+        syncRegistry(workflowId);
+
+        // 4.记录日志
         log.info("工作流启用成功，工作流ID: {}", workflowId);
     }
 
@@ -116,7 +133,10 @@ public class WorkflowCommandService {
         // 2.保存工作流
         workflowRepository.update(workflow);
 
-        // 3.记录日志
+        // 3.同步集群注册中心
+        syncRegistry(workflowId);
+
+        // 4.记录日志
         log.info("工作流禁用成功，工作流ID: {}", workflowId);
     }
 
@@ -139,6 +159,20 @@ public class WorkflowCommandService {
         return executor.execute();
     }
 
+    /**
+     * 流式执行工作流
+     * <p>
+     * 步骤开始、模型增量输出和步骤完成时立即推送事件，首个事件的延迟取决于第一个步骤而不是整个工作流
+     *
+     * @param command 执行工作流命令
+     * @param userId  用户ID
+     * @return 流式执行事件
+     */
+    public Flux<WorkflowStreamEvent> streamWorkflow(ExecuteWorkflowCommand command, String userId) {
+        GenericWorkflowExecutor executor = executorFactory.createGenericExecutor(command, userId);
+        return executor.executeStream();
+    }
+
     /**
      * 执行服装推荐工作流（异步）
      * <p>
@@ -154,4 +188,105 @@ public class WorkflowCommandService {
         OutfitRecommendWorkflowExecutor executor = executorFactory.createOutfitRecommendExecutor(prompt, userId);
         return executor.execute();
     }
+
+    /**
+     * 重试失败的工作流执行
+     * <p>
+     * 复用原执行记录和已保存的步骤检查点，从最后完成的步骤继续执行，已完成的步骤不再重复调用模型。
+     * 同一记录被并发重试时只有一个请求会恢复执行，其余请求抛出状态冲突
+     *
+     * @param executionId 执行记录ID
+     * @param userId      用户ID
+     * @return 执行记录ID
+     */
+    public String retryWorkflowExecution(String executionId, String userId) {
+        WorkflowExecutionAggregate execution = workflowExecutionService.findWorkflowExecutionByIdOrThrow(executionId);
+        if (!execution.getUserId().equals(userId)) {
+            throw AiException.of(AiErrorCode.PERMISSION_DENIED, "无权重试该执行记录");
+        }
+
+        WorkflowAggregate workflow = workflowManagementService.findWorkflowByIdOrThrow(execution.getWorkflowId());
+        if (!workflow.isEnabled()) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "工作流已禁用，无法重试: " + workflow.getId());
+        }
+
+        // 先在内存中校验状态，再以状态和版本号为条件更新，并发重试时只有一个请求能继续执行
+        String nodeId = workflowExecutionDispatcher.getNodeId();
+        execution.retry(nodeId);
+        if (!workflowExecutionRepository.retry(execution, nodeId)) {
+            throw AiException.of(AiErrorCode.EXECUTION_STATE_CONFLICT, "执行记录已被重试或状态已变更: " + executionId);
+        }
+
+        WorkflowExecutionAggregate claimed = workflowExecutionRepository.findByIdOrThrow(executionId);
+        executorFactory.createResumeExecutor(workflow, claimed).resume(executionId);
+
+        log.info("工作流执行重试成功，执行记录ID: {}, 用户ID: {}", executionId, userId);
+        return executionId;
+    }
+
+    /**
+     * 恢复遗留的工作流执行
+     * <p>
+     * 查找本节点启动前遗留或心跳超时的执行中记录，以乐观锁认领后从检查点恢复执行；
+     * 恢复次数超过上限或工作流已不可执行时直接置为失败
+     *
+     * @param startedBefore 当前节点启动时间
+     * @return 恢复执行的记录数量
+     */
+    public int recoverOrphanedExecutions(Date startedBefore) {
+        String nodeId = workflowExecutionDispatcher.getNodeId();
+        Date staleBefore = new Date(System.currentTimeMillis() - recoveryProperties.getStaleTimeoutMillis());
+        List<WorkflowExecutionAggregate> orphans = workflowExecutionRepository.findOrphanedExecutions(
+                nodeId, startedBefore, staleBefore, recoveryProperties.getBatchSize());
+
+        int recovered = 0;
+        for (WorkflowExecutionAggregate orphan : orphans) {
+            // 多个节点同时启动时只有一个节点能认领成功
+            if (!workflowExecutionRepository.claim(orphan, nodeId)) {
+                continue;
+            }
+            WorkflowExecutionAggregate execution = workflowExecutionRepository.findByIdOrThrow(orphan.getId());
+
+            if (execution.isRecoveryExhausted(recoveryProperties.getMaxRecoveryCount())) {
+                failOrphanedExecution(execution, "执行节点多次宕机，恢复次数超过上限");
+                continue;
+            }
+            try {
+                WorkflowAggregate workflow = workflowManagementService.findWorkflowByIdOrThrow(execution.getWorkflowId());
+                AbstractWorkflowExecutor executor = executorFactory.createResumeExecutor(workflow, execution);
+                executor.resume(execution.getId());
+                recovered++;
+            } catch (AiException e) {
+                // 线程池饱和时执行器已将记录置为失败
+                if (AiErrorCode.RESOURCE_LIMIT_EXCEEDED.getCode().equals(e.getErrorCode())) {
+                    continue;
+                }
+                failOrphanedExecution(execution, "恢复执行失败: " + e.getMessage());
+            } catch (Exception e) {
+                failOrphanedExecution(execution, "恢复执行失败: " + e.getMessage());
+            }
+        }
+
+        log.info("遗留工作流执行恢复完成，节点标识: {}, 待恢复数量: {}, 已恢复数量: {}", nodeId, orphans.size(), recovered);
+        return recovered;
+    }
+
+    private void failOrphanedExecution(WorkflowExecutionAggregate execution, String errorMessage) {
+        execution.fail(errorMessage);
+        workflowExecutionRepository.update(execution);
+        log.warn("遗留工作流执行置为失败，执行记录ID: {}, 原因: {}", execution.getId(), errorMessage);
+    }
+
+    /**
+     * 同步集群注册中心
+     * <p>
+     * 先广播变更让其他节点失效对应工作流，再按同一版本失效本节点，
+     * 本节点自身收到的广播会因版本已应用而被忽略
+     *
+     * @param workflowId 工作流ID
+     */
+    private void syncRegistry(String workflowId) {
+        long version = workflowChangePublisher.publishWorkflowChanged(workflowId);
+        workflowFactory.invalidateWorkflow(workflowId, version);
+    }
 }
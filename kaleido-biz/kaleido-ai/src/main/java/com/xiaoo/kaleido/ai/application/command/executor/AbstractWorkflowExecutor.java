@@ -4,6 +4,8 @@ import com.xiaoo.kaleido.ai.domain.workflow.adapter.event.IWorkflowEventPublishe
 import com.xiaoo.kaleido.ai.domain.workflow.armory.WorkflowFactory;
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowAggregate;
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowExecutionAggregate;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEventType;
 import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowExecutionRepository;
 import com.xiaoo.kaleido.ai.domain.workflow.service.IWorkflowExecutionService;
 import com.xiaoo.kaleido.ai.domain.workflow.service.IWorkflowManagementService;
@@ -11,8 +13,11 @@ import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.api.ai.enums.WorkflowExecutionStatusEnum;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 工作流执行器抽象模板类
@@ -30,18 +35,21 @@ public abstract class AbstractWorkflowExecutor {
     protected final IWorkflowExecutionService workflowExecutionService;
     protected final IWorkflowExecutionRepository workflowExecutionRepository;
     protected final IWorkflowEventPublisher workflowEventPublisher;
+    protected final WorkflowExecutionDispatcher workflowExecutionDispatcher;
     
     public AbstractWorkflowExecutor(
             IWorkflowManagementService workflowManagementService,
             WorkflowFactory workflowFactory,
             IWorkflowExecutionService workflowExecutionService,
             IWorkflowExecutionRepository workflowExecutionRepository,
-            IWorkflowEventPublisher workflowEventPublisher) {
+            IWorkflowEventPublisher workflowEventPublisher,
+            WorkflowExecutionDispatcher workflowExecutionDispatcher) {
         this.workflowManagementService = workflowManagementService;
         this.workflowFactory = workflowFactory;
         this.workflowExecutionService = workflowExecutionService;
         this.workflowExecutionRepository = workflowExecutionRepository;
         this.workflowEventPublisher = workflowEventPublisher;
+        this.workflowExecutionDispatcher = workflowExecutionDispatcher;
     }
     
     // 抽象方法 - 由子类实现
@@ -86,6 +94,107 @@ public abstract class AbstractWorkflowExecutor {
         return executionId;
     }
     
+    /**
+     * 流式执行工作流
+     * <p>
+     * 与{@link #execute()}使用相同的执行记录和检查点，步骤事件直接推送给调用方；
+     * 完成或失败事件到达时更新执行记录，调用方中途断开时执行记录置为失败，可通过重试从检查点继续。
+     * 订阅后与异步执行一样占用工作流执行线程池的一个线程直到流结束，线程池饱和时执行记录置为失败并以错误结束流
+     *
+     * @return 流式执行事件
+     */
+    public final Flux<WorkflowStreamEvent> executeStream() {
+        String workflowIdentifier = getWorkflowIdentifier();
+        WorkflowAggregate workflow = findWorkflow(workflowIdentifier);
+        validateWorkflowEnabled(workflow, workflowIdentifier);
+        ensureWorkflowRegistered(workflow);
+        
+        WorkflowExecutionAggregate execution = createWorkflowExecution(workflow);
+        String executionId = execution.getId();
+        logStartExecution(executionId, workflow);
+        
+        Flux<WorkflowStreamEvent> events = workflowFactory.streamWorkflow(workflow.getId(), executionId, getInputData(), getUserId())
+                .doOnNext(event -> {
+                    if (event.getType() == WorkflowStreamEventType.COMPLETED) {
+                        updateExecutionToSuccess(executionId, event.getContent());
+                        onSuccess(executionId, workflow.getId(), getUserId(), event.getContent());
+                        logSuccess(executionId, workflow);
+                    } else if (event.getType() == WorkflowStreamEventType.FAILED) {
+                        updateExecutionToFailure(executionId, event.getContent());
+                        onFailure(executionId, workflow.getId(), getUserId(), event.getContent());
+                    }
+                })
+                .doOnCancel(() -> {
+                    try {
+                        updateExecutionToFailure(executionId, "客户端已断开连接，执行中止");
+                        onFailure(executionId, workflow.getId(), getUserId(), "客户端已断开连接，执行中止");
+                    } catch (Exception e) {
+                        // 断开时执行可能刚好结束，状态已更新
+                        log.warn("流式执行取消后更新执行记录失败，执行记录ID: {}, 错误: {}", executionId, e.getMessage());
+                    }
+                });
+        return dispatchStream(workflow, executionId, events);
+    }
+
+    /**
+     * 在工作流执行线程池中订阅流式执行，线程在流结束或调用方取消前一直占用，
+     * 使流式执行与异步执行共用同一并发上限
+     */
+    private Flux<WorkflowStreamEvent> dispatchStream(WorkflowAggregate workflow, String executionId,
+                                                     Flux<WorkflowStreamEvent> events) {
+        return Flux.create(sink -> {
+            CountDownLatch finished = new CountDownLatch(1);
+            AtomicReference<Disposable> subscription = new AtomicReference<>();
+            sink.onDispose(() -> {
+                Disposable disposable = subscription.get();
+                if (disposable != null) {
+                    disposable.dispose();
+                }
+                finished.countDown();
+            });
+            try {
+                workflowExecutionDispatcher.dispatch(() -> {
+                    subscription.set(events
+                            .doFinally(signal -> finished.countDown())
+                            .subscribe(sink::next, sink::error, sink::complete));
+                    if (sink.isCancelled()) {
+                        subscription.get().dispose();
+                    }
+                    try {
+                        finished.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        subscription.get().dispose();
+                    }
+                });
+            } catch (AiException e) {
+                // 线程池饱和被拒绝，执行记录直接置为失败，避免一直处于执行中
+                updateExecutionToFailure(executionId, e.getMessage());
+                onFailure(executionId, workflow.getId(), getUserId(), e.getMessage());
+                sink.error(e);
+            }
+        });
+    }
+    
+    /**
+     * 恢复执行已有的执行记录
+     * <p>
+     * 用于节点宕机后的恢复和失败后的重试，引擎会加载步骤检查点，从最后完成的步骤继续执行
+     *
+     * @param executionId 执行记录ID，执行记录需已处于RUNNING状态
+     */
+    public final void resume(String executionId) {
+        String workflowIdentifier = getWorkflowIdentifier();
+        WorkflowAggregate workflow = findWorkflow(workflowIdentifier);
+        validateWorkflowEnabled(workflow, workflowIdentifier);
+        ensureWorkflowRegistered(workflow);
+        
+        executeAsync(workflow, executionId);
+        
+        log.info("工作流恢复执行，执行记录ID: {}, 工作流ID: {}, 用户ID: {}",
+                executionId, workflow.getId(), getUserId());
+    }
+    
     // 具体步骤实现（protected允许子类访问）
     protected void validateWorkflowEnabled(WorkflowAggregate workflow, String workflowIdentifier) {
         if (!workflow.isEnabled()) {
@@ -106,36 +215,47 @@ public abstract class AbstractWorkflowExecutor {
                 getInputData(),
                 getUserId()
         );
+        execution.setNodeId(workflowExecutionDispatcher.getNodeId());
         workflowExecutionRepository.save(execution);
         return execution;
     }
     
     protected void executeAsync(WorkflowAggregate workflow, String executionId) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                String result = workflowFactory.executeWorkflow(
-                        workflow.getId(),
-                        getInputData(),
-                        getUserId()
-                );
-                
-                // 更新执行状态为成功
-                updateExecutionToSuccess(executionId, result);
-                
-                // 调用成功钩子方法
-                onSuccess(executionId, workflow.getId(), getUserId(), result);
-                
-                logSuccess(executionId, workflow);
-            } catch (Exception e) {
-                // 更新执行状态为失败
-                updateExecutionToFailure(executionId, e.getMessage());
-                
-                // 调用失败钩子方法
-                onFailure(executionId, workflow.getId(), getUserId(), e.getMessage());
-                
-                logFailure(executionId, workflow, e);
-            }
-        });
+        try {
+            workflowExecutionDispatcher.dispatch(() -> runWorkflow(workflow, executionId));
+        } catch (AiException e) {
+            // 线程池饱和被拒绝，执行记录直接置为失败，避免一直处于执行中
+            updateExecutionToFailure(executionId, e.getMessage());
+            onFailure(executionId, workflow.getId(), getUserId(), e.getMessage());
+            throw e;
+        }
+    }
+    
+    protected void runWorkflow(WorkflowAggregate workflow, String executionId) {
+        try {
+            String result = workflowFactory.executeWorkflow(
+                    workflow.getId(),
+                    executionId,
+                    getInputData(),
+                    getUserId()
+            );
+            
+            // 更新执行状态为成功
+            updateExecutionToSuccess(executionId, result);
+            
+            // 调用成功钩子方法
+            onSuccess(executionId, workflow.getId(), getUserId(), result);
+            
+            logSuccess(executionId, workflow);
+        } catch (Exception e) {
+            // 更新执行状态为失败
+            updateExecutionToFailure(executionId, e.getMessage());
+            
+            // 调用失败钩子方法
+            onFailure(executionId, workflow.getId(), getUserId(), e.getMessage());
+            
+            logFailure(executionId, workflow, e);
+        }
     }
     
     // 辅助方法
@@ -143,6 +263,8 @@ public abstract class AbstractWorkflowExecutor {
         WorkflowExecutionAggregate execution = 
             workflowExecutionService.succeedWorkflowExecution(executionId, result);
         workflowExecutionRepository.update(execution);
+        // 执行成功后检查点不再需要，失败时保留用于重试
+        workflowExecutionRepository.deleteStepCheckpoints(executionId);
     }
     
     protected void updateExecutionToFailure(String executionId, String errorMessage) {
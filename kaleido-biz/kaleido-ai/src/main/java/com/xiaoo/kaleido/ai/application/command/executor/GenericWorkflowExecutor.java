@@ -35,9 +35,10 @@ public class GenericWorkflowExecutor extends AbstractWorkflowExecutor {
             WorkflowFactory workflowFactory,
             IWorkflowExecutionService workflowExecutionService,
             IWorkflowExecutionRepository workflowExecutionRepository,
-            IWorkflowEventPublisher workflowEventPublisher) {
+            IWorkflowEventPublisher workflowEventPublisher,
+            WorkflowExecutionDispatcher workflowExecutionDispatcher) {
         super(workflowManagementService, workflowFactory, workflowExecutionService, 
-              workflowExecutionRepository, workflowEventPublisher);
+              workflowExecutionRepository, workflowEventPublisher, workflowExecutionDispatcher);
     }
     
     /**
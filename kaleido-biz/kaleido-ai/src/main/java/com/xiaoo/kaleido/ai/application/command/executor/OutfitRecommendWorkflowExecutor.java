@@ -27,6 +27,11 @@ import org.springframework.stereotype.Component;
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class OutfitRecommendWorkflowExecutor extends AbstractWorkflowExecutor {
     
+    /**
+     * 服装推荐工作流编码
+     */
+    public static final String WORKFLOW_CODE = "OUTFIT_RECOMMEND";
+    
     private String prompt;
     
     private String userId;
@@ -37,9 +42,10 @@ public class OutfitRecommendWorkflowExecutor extends AbstractWorkflowExecutor {
             WorkflowFactory workflowFactory,
             IWorkflowExecutionService workflowExecutionService,
             IWorkflowExecutionRepository workflowExecutionRepository,
-            IWorkflowEventPublisher workflowEventPublisher) {
+            IWorkflowEventPublisher workflowEventPublisher,
+            WorkflowExecutionDispatcher workflowExecutionDispatcher) {
         super(workflowManagementService, workflowFactory, workflowExecutionService, 
-              workflowExecutionRepository, workflowEventPublisher);
+              workflowExecutionRepository, workflowEventPublisher, workflowExecutionDispatcher);
     }
     
     /**
@@ -52,7 +58,7 @@ public class OutfitRecommendWorkflowExecutor extends AbstractWorkflowExecutor {
     
     @Override
     protected String getWorkflowIdentifier() {
-        return "OUTFIT_RECOMMEND";
+        return WORKFLOW_CODE;
     }
     
     @Override
@@ -99,7 +105,7 @@ public class OutfitRecommendWorkflowExecutor extends AbstractWorkflowExecutor {
     @Override
     protected void logStartExecution(String executionId, WorkflowAggregate workflow) {
         log.info("服装推荐工作流开始异步执行，执行记录ID: {}, 工作流Code: {}, 用户ID: {}",
-                executionId, "OUTFIT_RECOMMEND", getUserId());
+                executionId, WORKFLOW_CODE, getUserId());
     }
     
     @Override
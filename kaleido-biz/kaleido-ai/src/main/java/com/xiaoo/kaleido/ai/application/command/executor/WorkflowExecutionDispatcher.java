@@ -0,0 +1,86 @@
+package com.xiaoo.kaleido.ai.application.command.executor;
+
+import cn.hutool.core.util.StrUtil;
+import com.xiaoo.kaleido.ai.domain.workflow.armory.WorkflowMetrics;
+import com.xiaoo.kaleido.ai.types.config.WorkflowRecoveryProperties;
+import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.xiaoo.kaleido.ai.types.exception.AiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 工作流异步执行调度器
+ * <p>
+ * 将工作流执行提交到独立的Dynamic-TP线程池，避免长时间阻塞的模型调用占用公共ForkJoinPool；
+ * 并发数、队列容量和拒绝策略由Nacos中的workflowExecutor配置动态调整
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowExecutionDispatcher {
+
+    private final WorkflowMetrics workflowMetrics;
+    private final WorkflowRecoveryProperties recoveryProperties;
+
+    /**
+     * 工作流执行线程池（Dynamic-TP管理）
+     */
+    @Resource
+    private ThreadPoolExecutor workflowExecutor;
+
+    @Value("${server.port:0}")
+    private int serverPort;
+
+    /**
+     * 当前节点标识，记录在执行记录上，用于节点重启后识别遗留的执行
+     */
+    @Getter
+    private String nodeId;
+
+    @PostConstruct
+    public void init() {
+        workflowMetrics.bindExecutor("workflowExecutor", workflowExecutor);
+        nodeId = StrUtil.isNotBlank(recoveryProperties.getNodeId())
+                ? recoveryProperties.getNodeId()
+                : resolveHostName() + ":" + serverPort;
+        log.info("工作流执行调度器初始化完成，节点标识: {}", nodeId);
+    }
+
+    /**
+     * 提交工作流执行任务
+     *
+     * @param task 工作流执行任务
+     * @throws AiException 线程池饱和拒绝任务时抛出
+     */
+    public void dispatch(Runnable task) {
+        try {
+            workflowExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            workflowMetrics.recordRejected();
+            log.warn("工作流执行线程池已满，拒绝执行，运行中: {}, 排队中: {}",
+                    workflowExecutor.getActiveCount(), workflowExecutor.getQueue().size());
+            throw AiException.of(AiErrorCode.RESOURCE_LIMIT_EXCEEDED, "工作流执行繁忙，请稍后重试");
+        }
+    }
+
+    private String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
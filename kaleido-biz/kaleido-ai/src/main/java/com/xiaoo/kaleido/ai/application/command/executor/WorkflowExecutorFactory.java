@@ -1,5 +1,7 @@
 package com.xiaoo.kaleido.ai.application.command.executor;
 
+import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowAggregate;
+import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowExecutionAggregate;
 import com.xiaoo.kaleido.api.ai.command.ExecuteWorkflowCommand;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
@@ -43,4 +45,24 @@ public class WorkflowExecutorFactory {
         executor.setExecutionParams(prompt, userId);
         return executor;
     }
+    
+    /**
+     * 创建恢复执行用的工作流执行器
+     * <p>
+     * 按工作流编码选择执行器类型，保证恢复后的成功/失败钩子与首次执行一致
+     * 
+     * @param workflow 工作流聚合根
+     * @param execution 待恢复的执行记录
+     * @return 工作流执行器实例
+     */
+    public AbstractWorkflowExecutor createResumeExecutor(WorkflowAggregate workflow, WorkflowExecutionAggregate execution) {
+        if (OutfitRecommendWorkflowExecutor.WORKFLOW_CODE.equals(workflow.getCode())) {
+            return createOutfitRecommendExecutor(execution.getInputData(), execution.getUserId());
+        }
+        ExecuteWorkflowCommand command = ExecuteWorkflowCommand.builder()
+                .workflowId(workflow.getId())
+                .inputData(execution.getInputData())
+                .build();
+        return createGenericExecutor(command, execution.getUserId());
+    }
 }
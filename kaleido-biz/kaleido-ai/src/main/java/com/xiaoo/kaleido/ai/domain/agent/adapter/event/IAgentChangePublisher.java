@@ -0,0 +1,19 @@
+package com.xiaoo.kaleido.ai.domain.agent.adapter.event;
+
+/**
+ * Agent变更发布器接口
+ * 领域层接口，定义向集群广播Agent配置变更的能力
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public interface IAgentChangePublisher {
+
+    /**
+     * 广播Agent变更
+     *
+     * @param agentId Agent ID
+     * @return 本次变更的版本号，广播失败时返回0
+     */
+    long publishAgentChanged(String agentId);
+}
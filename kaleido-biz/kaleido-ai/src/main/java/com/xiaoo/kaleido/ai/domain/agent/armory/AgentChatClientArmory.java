@@ -6,22 +6,23 @@ import com.xiaoo.kaleido.ai.domain.agent.armory.config.MemoryConfig;
 import com.xiaoo.kaleido.ai.domain.agent.armory.config.VectorStoreConfig;
 import com.xiaoo.kaleido.ai.domain.agent.model.aggregate.AgentAggregate;
 import com.xiaoo.kaleido.ai.domain.agent.model.entity.AgentTool;
-import io.modelcontextprotocol.client.McpClient;
-import io.modelcontextprotocol.client.McpSyncClient;
-import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
+import com.xiaoo.kaleido.api.ai.enums.ToolType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
 import org.springframework.ai.chat.client.advisor.vectorstore.QuestionAnswerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
 import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.ai.chat.memory.repository.mongo.MongoChatMemoryRepository;
 import org.springframework.ai.chat.model.ChatModel;
-import org.springframework.ai.mcp.SyncMcpToolCallbackProvider;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.rag.advisor.RetrievalAugmentationAdvisor;
+import org.springframework.ai.rag.generation.augmentation.ContextualQueryAugmenter;
+import org.springframework.ai.rag.retrieval.search.VectorStoreDocumentRetriever;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.milvus.MilvusVectorStore;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,7 +30,6 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -53,7 +53,7 @@ public class AgentChatClientArmory {
     private final MongoChatMemoryRepository mongoChatMemoryRepository;
     private final ChatMemory myChatMemory;
     private final Environment environment;
-    private final List<McpSyncClient> mcpSyncClients = new ArrayList<>();
+    private final McpClientPool mcpClientPool;
 
     /**
      * 根据Agent配置创建ChatClient
@@ -81,11 +81,34 @@ public class AgentChatClientArmory {
         return chatClient;
     }
 
+    /**
+     * 根据Agent配置创建每次请求附加的Advisor
+     * <p>
+     * 工具配置在此解析一次，构建好的Advisor不持有请求状态，随ChatClient一起缓存并被所有请求共享
+     *
+     * @param agent Agent聚合根
+     * @return 请求Advisor列表，没有需要附加的Advisor时返回空列表
+     */
+    public List<Advisor> createRequestAdvisors(AgentAggregate agent) {
+        if (agent.getTools() == null || agent.getTools().isEmpty()) {
+            return List.of();
+        }
+
+        // 每个Agent只使用第一个向量存储工具
+        for (AgentTool tool : agent.getTools()) {
+            if (tool.getToolType() == ToolType.VECTOR_STORE) {
+                Advisor advisor = buildRetrievalAdvisor(tool);
+                return advisor != null ? List.of(advisor) : List.of();
+            }
+        }
+        return List.of();
+    }
+
     /**
      * 创建默认ChatClient
      * <p>
      * 创建与ChatController中完全一样的ChatClient配置
-     * 包含：记忆工具、向量存储工具、MCP工具
+     * 包含：记忆工具、向量存储工具
      *
      * @return 默认ChatClient实例
      */
@@ -110,14 +133,6 @@ public class AgentChatClientArmory {
         // 3.2 向量存储工具
         builder.defaultAdvisors(QuestionAnswerAdvisor.builder(vectorStore).build());
 
-        // 4. 添加MCP工具回调（如果可用）
-        if (!mcpSyncClients.isEmpty()) {
-            SyncMcpToolCallbackProvider callbackProvider = SyncMcpToolCallbackProvider.builder()
-                    .mcpClients(mcpSyncClients)
-                    .build();
-            builder.defaultToolCallbacks(callbackProvider);
-        }
-
         ChatClient defaultChatClient = builder.build();
         log.info("默认ChatClient创建成功");
 
@@ -162,7 +177,7 @@ public class AgentChatClientArmory {
             return;
         }
 
-        List<McpSyncClient> mcpClients = new ArrayList<>();
+        List<McpConfig> mcpConfigs = new ArrayList<>();
 
         for (AgentTool tool : tools) {
             try {
@@ -173,9 +188,9 @@ public class AgentChatClientArmory {
                     case VECTOR_STORE:
                         break;
                     case MCP:
-                        McpSyncClient mcpClient = configureMcpTool(tool);
-                        if (mcpClient != null) {
-                            mcpClients.add(mcpClient);
+                        McpConfig mcpConfig = configureMcpTool(tool);
+                        if (mcpConfig != null) {
+                            mcpConfigs.add(mcpConfig);
                         }
                         break;
                     default:
@@ -187,8 +202,8 @@ public class AgentChatClientArmory {
         }
 
         // 配置MCP工具回调
-        if (!mcpClients.isEmpty()) {
-            configureMcpToolCallbacks(builder, mcpClients);
+        if (!mcpConfigs.isEmpty()) {
+            configureMcpToolCallbacks(builder, mcpConfigs);
         }
     }
 
@@ -229,10 +244,41 @@ public class AgentChatClientArmory {
         builder.defaultAdvisors(advisor);
     }
 
+    /**
+     * 构建检索增强Advisor
+     */
+    private Advisor buildRetrievalAdvisor(AgentTool tool) {
+        try {
+            VectorStoreConfig config = objectMapper.readValue(tool.getToolConfig(), VectorStoreConfig.class);
+            if (config.getEnabled() != null && !config.getEnabled()) {
+                log.debug("向量存储工具已禁用，工具编码: {}", tool.getToolCode());
+                return null;
+            }
+
+            Advisor advisor = RetrievalAugmentationAdvisor.builder()
+                    .documentRetriever(VectorStoreDocumentRetriever.builder()
+                            .similarityThreshold(config.getSimilarityThreshold())
+                            .topK(config.getTopK())
+                            .vectorStore(vectorStore)
+                            .build())
+                    .queryAugmenter(ContextualQueryAugmenter.builder()
+                            .allowEmptyContext(true)
+                            .build())
+                    .build();
+            log.debug("向量存储工具配置成功，工具编码: {}, topK: {}", tool.getToolCode(), config.getTopK());
+            return advisor;
+        } catch (Exception e) {
+            log.error("配置向量存储工具失败，工具编码: {}, 错误: {}", tool.getToolCode(), e.getMessage(), e);
+            return null;
+        }
+    }
+
     /**
      * 配置MCP工具
+     * <p>
+     * 只解析和校验配置，连接由MCP客户端连接池按地址共享和维护
      */
-    private McpSyncClient configureMcpTool(AgentTool tool) {
+    private McpConfig configureMcpTool(AgentTool tool) {
         try {
             McpConfig config = objectMapper.readValue(tool.getToolConfig(), McpConfig.class);
             if (config.getEnabled() != null && !config.getEnabled()) {
@@ -245,17 +291,8 @@ public class AgentChatClientArmory {
                 return null;
             }
 
-            HttpClientSseClientTransport sseClientTransport = HttpClientSseClientTransport.builder(config.getBaseUri())
-                    .sseEndpoint(config.getEndpoint())
-                    .build();
-
-            McpSyncClient mcpSyncClient = McpClient
-                    .sync(sseClientTransport)
-                    .requestTimeout(Duration.ofMinutes(config.getConnectTimeout()))
-                    .build();
-
             log.debug("MCP工具配置成功，工具编码: {}, baseUri: {}", tool.getToolCode(), config.getBaseUri());
-            return mcpSyncClient;
+            return config;
         } catch (Exception e) {
             log.error("配置MCP工具失败，工具编码: {}, 错误: {}", tool.getToolCode(), e.getMessage(), e);
             return null;
@@ -265,13 +302,10 @@ public class AgentChatClientArmory {
     /**
      * 配置MCP工具回调
      */
-    private void configureMcpToolCallbacks(ChatClient.Builder builder, List<McpSyncClient> mcpClients) {
+    private void configureMcpToolCallbacks(ChatClient.Builder builder, List<McpConfig> mcpConfigs) {
         try {
-            SyncMcpToolCallbackProvider callbackProvider = SyncMcpToolCallbackProvider.builder()
-                    .mcpClients(mcpClients)
-                    .build();
-            builder.defaultToolCallbacks(callbackProvider);
-            log.debug("MCP工具回调配置成功，MCP客户端数量: {}", mcpClients.size());
+            builder.defaultToolCallbacks(mcpClientPool.createToolCallbackProvider(mcpConfigs));
+            log.debug("MCP工具回调配置成功，MCP服务数量: {}", mcpConfigs.size());
         } catch (Exception e) {
             log.error("配置MCP工具回调失败，错误: {}", e.getMessage(), e);
         }
@@ -6,11 +6,14 @@ import com.xiaoo.kaleido.ai.domain.agent.model.vo.AgentStatus;
 import com.xiaoo.kaleido.ai.domain.agent.adapter.repository.IAgentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
@@ -47,6 +50,20 @@ public class AgentFactory {
      */
     private final Cache<String, AgentAggregate> agentConfigCache;
 
+    /**
+     * 请求Advisor缓存
+     * key: Agent ID
+     * value: 由工具配置预先构建的请求Advisor
+     */
+    private final Cache<String, List<Advisor>> requestAdvisorCache;
+
+    /**
+     * 已应用的变更版本号
+     * key: Agent ID
+     * value: 最近一次应用的版本号
+     */
+    private final Map<String, Long> appliedVersions = new ConcurrentHashMap<>();
+
     private final AgentChatClientArmory chatClientFactory;
     private final IAgentRepository agentRepository;
 
@@ -71,6 +88,11 @@ public class AgentFactory {
         this.agentConfigCache = Caffeine.newBuilder()
             .maximumSize(1000)
             .build();
+
+        // 初始化请求Advisor缓存，最大容量1000
+        this.requestAdvisorCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .build();
     }
 
     /**
@@ -107,8 +129,9 @@ public class AgentFactory {
 
         try {
             ChatClient chatClient = chatClientFactory.createChatClient(agent);
-            chatClientCache.put(agentId, chatClient);
+            requestAdvisorCache.put(agentId, chatClientFactory.createRequestAdvisors(agent));
             agentConfigCache.put(agentId, agent);
+            chatClientCache.put(agentId, chatClient);
             log.info("Agent注册成功，Agent ID: {}, 名称: {}", agentId, agent.getName());
         } catch (Exception e) {
             log.error("Agent注册失败，Agent ID: {}, 错误: {}", agentId, e.getMessage(), e);
@@ -124,9 +147,10 @@ public class AgentFactory {
         // 检查是否存在于缓存中
         boolean wasPresent = chatClientCache.getIfPresent(agentId) != null;
         
-        // 从两个缓存中移除
+        // 从所有缓存中移除
         chatClientCache.invalidate(agentId);
         agentConfigCache.invalidate(agentId);
+        requestAdvisorCache.invalidate(agentId);
 
         if (wasPresent) {
             log.info("Agent注销成功，Agent ID: {}", agentId);
@@ -166,6 +190,7 @@ public class AgentFactory {
         try {
             chatClient = chatClientCache.get(agentId, id -> {
                 ChatClient newChatClient = chatClientFactory.createChatClient(agent);
+                requestAdvisorCache.put(id, chatClientFactory.createRequestAdvisors(agent));
                 agentConfigCache.put(id, agent);
                 log.debug("ChatClient懒加载成功，Agent ID: {}", id);
                 return newChatClient;
@@ -215,6 +240,39 @@ public class AgentFactory {
         registerAgent(agentId);
     }
 
+    /**
+     * 按版本号刷新Agent配置
+     * <p>
+     * 只应用比本节点更新的版本，重复或乱序到达的变更直接忽略。
+     * 本节点未注册的Agent不主动加载，由首次使用时懒加载，版本号小于等于0时视为未知版本，总是应用
+     *
+     * @param agentId Agent ID
+     * @param version 变更版本号
+     */
+    public void refreshAgent(String agentId, long version) {
+        if (version > 0 && !advanceVersion(agentId, version)) {
+            log.debug("Agent变更版本已应用，跳过刷新，Agent ID: {}, 版本: {}", agentId, version);
+            return;
+        }
+
+        if (isAgentRegistered(agentId)) {
+            refreshAgent(agentId);
+        } else {
+            unregisterAgent(agentId);
+        }
+    }
+
+    /**
+     * 清理所有Agent缓存，默认ChatClient不受影响
+     */
+    public void clearAll() {
+        long count = chatClientCache.estimatedSize();
+        chatClientCache.invalidateAll();
+        agentConfigCache.invalidateAll();
+        requestAdvisorCache.invalidateAll();
+        log.info("清理所有Agent缓存，清理数量: {}", count);
+    }
+
     /**
      * 检查Agent是否已注册
      *
@@ -235,6 +293,36 @@ public class AgentFactory {
         return agentConfigCache.getIfPresent(agentId);
     }
 
+    /**
+     * 推进已应用的版本号
+     *
+     * @return 版本号比已应用的更新时返回true
+     */
+    private boolean advanceVersion(String agentId, long version) {
+        boolean[] advanced = new boolean[1];
+        appliedVersions.compute(agentId, (id, applied) -> {
+            if (applied != null && applied >= version) {
+                return applied;
+            }
+            advanced[0] = true;
+            return version;
+        });
+        return advanced[0];
+    }
+
+    /**
+     * 获取请求Advisor
+     * <p>
+     * 与ChatClient一起构建和失效，请求时直接附加，不再解析工具配置
+     *
+     * @param agentId Agent ID
+     * @return 请求Advisor列表，Agent未注册时返回空列表
+     */
+    public List<Advisor> getRequestAdvisors(String agentId) {
+        List<Advisor> advisors = requestAdvisorCache.getIfPresent(agentId);
+        return advisors != null ? advisors : List.of();
+    }
+
     /**
      * 加载Agent
      */
@@ -0,0 +1,359 @@
+package com.xiaoo.kaleido.ai.domain.agent.armory;
+
+import com.xiaoo.kaleido.ai.domain.agent.armory.config.McpConfig;
+import com.xiaoo.kaleido.ai.types.config.McpClientPoolProperties;
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.HttpClientSseClientTransport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.mcp.SyncMcpToolCallbackProvider;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MCP客户端连接池
+ * <p>
+ * 按baseUri和endpoint共享MCP连接，引用同一MCP服务的所有Agent使用同一个连接。
+ * ChatClient只持有按连接键解析的工具回调提供者，每次请求时从连接池取当前连接的工具回调，
+ * 因此重连或回收连接后无需重建ChatClient，刷新Agent也不会再泄漏SSE连接
+ * <p>
+ * 后台定时任务负责健康检查（ping）、失败后按指数退避重连，以及回收长时间未使用的连接。
+ * 回收与取工具回调在同一把锁内判断最后使用时间，刚被取用的连接不会被回收，取到已回收的连接时重新登记
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class McpClientPool {
+
+    private static final ToolCallback[] NO_TOOLS = new ToolCallback[0];
+
+    /**
+     * 连接缓存
+     * key: MCP服务地址
+     * value: MCP连接
+     */
+    private final Map<McpEndpoint, McpConnection> connections = new ConcurrentHashMap<>();
+
+    private final McpClientPoolProperties properties;
+
+    private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "mcp-client-pool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        scheduler.scheduleWithFixedDelay(this::maintain,
+                properties.getHealthCheckIntervalMillis(),
+                properties.getHealthCheckIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("MCP客户端连接池初始化完成，健康检查间隔: {}ms", properties.getHealthCheckIntervalMillis());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+        connections.values().forEach(McpConnection::close);
+        connections.clear();
+    }
+
+    /**
+     * 创建工具回调提供者
+     * <p>
+     * 只登记连接，不在此处建立连接，连接在首次使用或下一次健康检查时建立
+     *
+     * @param configs MCP工具配置
+     * @return 按连接池当前连接解析工具回调的提供者
+     */
+    public ToolCallbackProvider createToolCallbackProvider(List<McpConfig> configs) {
+        // 同一Agent重复引用同一MCP服务时只保留一份工具
+        Map<McpEndpoint, McpConfig> endpoints = new LinkedHashMap<>();
+        for (McpConfig config : configs) {
+            McpEndpoint endpoint = new McpEndpoint(config.getBaseUri(), config.getEndpoint());
+            endpoints.putIfAbsent(endpoint, config);
+            register(endpoint, config);
+        }
+        return () -> endpoints.entrySet().stream()
+                .flatMap(entry -> Arrays.stream(borrow(entry.getKey(), entry.getValue())))
+                .toArray(ToolCallback[]::new);
+    }
+
+    /**
+     * 登记连接，已被空闲回收的连接会重新登记
+     */
+    private McpConnection register(McpEndpoint endpoint, McpConfig config) {
+        return connections.computeIfAbsent(endpoint, key -> new McpConnection(key, config));
+    }
+
+    /**
+     * 取连接的工具回调，取到的连接恰好被空闲回收时重新登记一个新连接
+     */
+    private ToolCallback[] borrow(McpEndpoint endpoint, McpConfig config) {
+        while (true) {
+            ToolCallback[] toolCallbacks = register(endpoint, config).toolCallbacks();
+            if (toolCallbacks != null) {
+                return toolCallbacks;
+            }
+        }
+    }
+
+    /**
+     * 定时维护：回收空闲连接、检查已建立连接的健康状态、重连退避到期的连接
+     */
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        for (McpConnection connection : connections.values()) {
+            try {
+                if (connection.evictIfIdle(now - properties.getIdleTimeoutMillis())) {
+                    connections.remove(connection.endpoint, connection);
+                    log.info("MCP连接空闲回收，地址: {}", connection.endpoint);
+                } else if (connection.isConnected()) {
+                    connection.healthCheck();
+                } else {
+                    connection.tryConnect();
+                }
+            } catch (Exception e) {
+                log.error("MCP连接维护失败，地址: {}, 错误: {}", connection.endpoint, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * MCP服务地址
+     *
+     * @param baseUri     MCP服务器基础URI
+     * @param sseEndpoint SSE端点
+     */
+    private record McpEndpoint(String baseUri, String sseEndpoint) {
+
+        @Override
+        public String toString() {
+            return baseUri + (sseEndpoint != null ? sseEndpoint : "");
+        }
+    }
+
+    /**
+     * 单个MCP服务的共享连接
+     * <p>
+     * 超时配置取首个登记该地址的工具配置。对象锁只保护状态切换，建立连接、初始化和ping都在锁外执行，
+     * 慢速或不可达的MCP服务不会阻塞其他请求取工具回调
+     */
+    private final class McpConnection {
+
+        private final McpEndpoint endpoint;
+        private final Duration initializationTimeout;
+        private final Duration requestTimeout;
+
+        private McpSyncClient client;
+        private ToolCallback[] toolCallbacks = NO_TOOLS;
+        private CompletableFuture<Void> connecting;
+        private boolean closed;
+        private int failures;
+        private long nextRetryAt;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private McpConnection(McpEndpoint endpoint, McpConfig config) {
+            this.endpoint = endpoint;
+            this.initializationTimeout = Duration.ofMillis(config.getConnectTimeout() != null ? config.getConnectTimeout() : 5000);
+            this.requestTimeout = Duration.ofMillis(config.getReadTimeout() != null ? config.getReadTimeout() : 30000);
+        }
+
+        private synchronized boolean isConnected() {
+            return client != null;
+        }
+
+        /**
+         * 获取工具回调，未连接时尝试建立连接，处于重连退避期时返回空数组
+         *
+         * @return 工具回调，连接已被回收时返回null，调用方应重新登记
+         */
+        private ToolCallback[] toolCallbacks() {
+            synchronized (this) {
+                if (closed) {
+                    return null;
+                }
+                // 与空闲回收在同一把锁内更新，回收只会关闭在此之前已空闲的连接
+                lastUsedAt = System.currentTimeMillis();
+                if (client != null) {
+                    return toolCallbacks;
+                }
+            }
+            tryConnect();
+            synchronized (this) {
+                return closed ? null : toolCallbacks;
+            }
+        }
+
+        /**
+         * 最后一次使用早于给定时间时标记为已关闭并关闭连接
+         *
+         * @param idleBefore 空闲判定时间点
+         * @return 是否已回收
+         */
+        private boolean evictIfIdle(long idleBefore) {
+            McpSyncClient evicted;
+            synchronized (this) {
+                if (closed || lastUsedAt >= idleBefore) {
+                    return false;
+                }
+                closed = true;
+                evicted = client;
+                client = null;
+                toolCallbacks = NO_TOOLS;
+            }
+            if (evicted != null) {
+                closeQuietly(evicted);
+            }
+            return true;
+        }
+
+        /**
+         * 建立连接并加载工具列表，处于退避期时直接返回，其他线程正在建立连接时等待其完成
+         */
+        private void tryConnect() {
+            CompletableFuture<Void> inFlight;
+            CompletableFuture<Void> attempt;
+            synchronized (this) {
+                if (closed || client != null) {
+                    return;
+                }
+                inFlight = connecting;
+                if (inFlight == null) {
+                    if (System.currentTimeMillis() < nextRetryAt) {
+                        return;
+                    }
+                    connecting = new CompletableFuture<>();
+                }
+                attempt = connecting;
+            }
+            if (inFlight != null) {
+                inFlight.join();
+                return;
+            }
+
+            McpSyncClient newClient = null;
+            ToolCallback[] newToolCallbacks = NO_TOOLS;
+            Exception failure = null;
+            try {
+                HttpClientSseClientTransport transport = HttpClientSseClientTransport.builder(endpoint.baseUri())
+                        .sseEndpoint(endpoint.sseEndpoint())
+                        .build();
+                newClient = McpClient.sync(transport)
+                        .initializationTimeout(initializationTimeout)
+                        .requestTimeout(requestTimeout)
+                        .build();
+                newClient.initialize();
+
+                newToolCallbacks = SyncMcpToolCallbackProvider.builder()
+                        .mcpClients(List.of(newClient))
+                        .build()
+                        .getToolCallbacks();
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            boolean discard = true;
+            try {
+                synchronized (this) {
+                    connecting = null;
+                    if (failure != null) {
+                        scheduleRetry(failure);
+                    } else if (!closed) {
+                        client = newClient;
+                        toolCallbacks = newToolCallbacks;
+                        failures = 0;
+                        discard = false;
+                        log.info("MCP连接建立成功，地址: {}, 工具数量: {}", endpoint, newToolCallbacks.length);
+                    }
+                }
+            } finally {
+                if (discard && newClient != null) {
+                    closeQuietly(newClient);
+                }
+                attempt.complete(null);
+            }
+        }
+
+        /**
+         * 健康检查，ping失败时摘除该连接并进入退避，之后由重连换上新连接
+         */
+        private void healthCheck() {
+            McpSyncClient current;
+            synchronized (this) {
+                current = client;
+            }
+            if (current == null) {
+                return;
+            }
+            try {
+                current.ping();
+            } catch (Exception e) {
+                boolean detached;
+                synchronized (this) {
+                    detached = client == current;
+                    if (detached) {
+                        client = null;
+                        toolCallbacks = NO_TOOLS;
+                        scheduleRetry(e);
+                    }
+                }
+                if (detached) {
+                    closeQuietly(current);
+                }
+            }
+        }
+
+        /**
+         * 计算下一次重连时间，调用方需持有对象锁
+         */
+        private void scheduleRetry(Exception e) {
+            failures++;
+            long backoff = Math.min(
+                    properties.getInitialBackoffMillis() << Math.min(failures - 1, 20),
+                    properties.getMaxBackoffMillis());
+            nextRetryAt = System.currentTimeMillis() + backoff;
+            log.warn("MCP连接不可用，地址: {}, 连续失败次数: {}, {}ms后重试, 错误: {}",
+                    endpoint, failures, backoff, e.getMessage());
+        }
+
+        private void close() {
+            McpSyncClient closing;
+            synchronized (this) {
+                closed = true;
+                closing = client;
+                client = null;
+                toolCallbacks = NO_TOOLS;
+            }
+            if (closing != null) {
+                closeQuietly(closing);
+            }
+        }
+
+        private void closeQuietly(McpSyncClient mcpClient) {
+            try {
+                mcpClient.closeGracefully();
+            } catch (Exception e) {
+                log.debug("关闭MCP连接失败，地址: {}, 错误: {}", endpoint, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.xiaoo.kaleido.ai.domain.agent.model.aggregate;
 
 import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
 import com.xiaoo.kaleido.base.model.entity.BaseEntity;
 import com.xiaoo.kaleido.distribute.util.SnowflakeUtil;
 import com.xiaoo.kaleido.ai.domain.agent.model.entity.AgentTool;
@@ -12,7 +13,9 @@ import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * AI Agent聚合根
@@ -226,6 +229,26 @@ public class AgentAggregate extends BaseEntity {
         }
     }
 
+    /**
+     * 计算Agent配置指纹
+     * <p>
+     * 由模型参数、系统提示词和工具配置计算，任一配置变化指纹即变化，用于使依赖Agent配置的缓存自动失效
+     *
+     * @return 配置指纹
+     */
+    public String configFingerprint() {
+        String toolConfigs = tools == null ? "" : tools.stream()
+                .sorted(Comparator.comparing(AgentTool::getToolCode, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(tool -> tool.getToolCode() + ":" + tool.getToolType() + ":" + tool.getToolConfig())
+                .collect(Collectors.joining("|"));
+        return DigestUtil.sha256Hex(String.join("\n",
+                String.valueOf(modelName),
+                String.valueOf(temperature),
+                String.valueOf(maxTokens),
+                String.valueOf(systemPrompt),
+                toolConfigs));
+    }
+
     /**
      * 检查工具是否存在
      *
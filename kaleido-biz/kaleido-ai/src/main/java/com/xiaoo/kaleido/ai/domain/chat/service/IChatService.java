@@ -44,6 +44,21 @@ public interface IChatService {
             String message,
             String userId);
 
+    /**
+     * 基于工作流节点的流式聊天
+     * <p>
+     * 与{@link #chatWithWorkflowNode}使用相同的Agent配置，以流的形式返回模型输出
+     *
+     * @param agentId        Agent ID
+     * @param message        用户消息
+     * @param userId         用户id
+     * @return 聊天响应流
+     */
+    Flux<String> streamWithWorkflowNode(
+            String agentId,
+            String message,
+            String userId);
+
     /**
      * 基于默认ChatClient的聊天（带用户ID过滤）
      * <p>
@@ -1,28 +1,19 @@
 package com.xiaoo.kaleido.ai.domain.chat.service.impl;
 
-import cn.hutool.json.JSONUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
-import com.xiaoo.kaleido.ai.domain.agent.armory.config.VectorStoreConfig;
-import com.xiaoo.kaleido.ai.domain.agent.model.aggregate.AgentAggregate;
-import com.xiaoo.kaleido.ai.domain.agent.model.entity.AgentTool;
 import com.xiaoo.kaleido.ai.domain.chat.service.IChatService;
-import com.xiaoo.kaleido.api.ai.enums.ToolType;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingSearchQuery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.api.Advisor;
 import org.springframework.ai.chat.client.advisor.vectorstore.QuestionAnswerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.rag.advisor.RetrievalAugmentationAdvisor;
-import org.springframework.ai.rag.generation.augmentation.ContextualQueryAugmenter;
 import org.springframework.ai.rag.retrieval.search.VectorStoreDocumentRetriever;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.milvus.MilvusVectorStore;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
-import java.util.UUID;
+import java.util.List;
 
 /**
  * 聊天服务实现类
@@ -38,7 +29,6 @@ import java.util.UUID;
 public class ChatServiceImpl implements IChatService {
 
     private final AgentFactory agentFactory;
-    private final MilvusVectorStore vectorStore;
 
     /**
      * 基于Agent的聊天（带过滤表达式）
@@ -62,45 +52,18 @@ public class ChatServiceImpl implements IChatService {
             return Flux.empty();
         }
 
-        // 获取Agent配置
-        AgentAggregate agentConfig = agentFactory.getAgentConfig(agentId);
-
-        // 提取向量存储配置
-        VectorStoreConfig vectorConfig = extractVectorStoreConfig(agentConfig);
-
-
-        // 如果有向量存储配置，添加相关参数
-        if (vectorConfig != null) {
-            Advisor retrievalAugmentationAdvisor = RetrievalAugmentationAdvisor.builder()
-                    .documentRetriever(VectorStoreDocumentRetriever.builder()
-                            .similarityThreshold(vectorConfig.getSimilarityThreshold())
-                            .topK(vectorConfig.getTopK())
-                            .vectorStore(vectorStore)
-                            .build())
-                    .queryAugmenter(ContextualQueryAugmenter.builder()
-                            .allowEmptyContext(true)
-                            .build())
-                    .build();
-
-            return chatClient.prompt()
-                    .advisors(retrievalAugmentationAdvisor)
-                    .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
-                    .advisors(advisorSpec -> advisorSpec.param(
-                            QuestionAnswerAdvisor.FILTER_EXPRESSION,
-                            String.format("userId == '%s'", userId)))
-                    .user(message)
-                    .stream()
-                    .content();
-        } else {
-            return chatClient.prompt()
-                    .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
-                    .advisors(advisorSpec -> advisorSpec.param(
-                            QuestionAnswerAdvisor.FILTER_EXPRESSION,
-                            String.format("userId == '%s'", userId)))
-                    .user(message)
-                    .stream()
-                    .content();
-        }
+        // 获取预先构建的请求Advisor（向量检索等）
+        List<Advisor> requestAdvisors = agentFactory.getRequestAdvisors(agentId);
+
+        return chatClient.prompt()
+                .advisors(requestAdvisors)
+                .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
+                .advisors(advisorSpec -> advisorSpec.param(
+                        VectorStoreDocumentRetriever.FILTER_EXPRESSION,
+                        ClothingSearchQuery.userScope(userId)))
+                .user(message)
+                .stream()
+                .content();
     }
 
     @Override
@@ -108,6 +71,34 @@ public class ChatServiceImpl implements IChatService {
         log.info("开始执行工作流节点，Agent ID: {}, 消息长度: {}",
                 agentId, message.length());
 
+        ChatClient.ChatClientRequestSpec prompt = buildWorkflowNodePrompt(agentId, message, userId);
+        if (prompt == null) {
+            return null;
+        }
+        return prompt.call().content();
+    }
+
+    @Override
+    public Flux<String> streamWithWorkflowNode(String agentId, String message, String userId) {
+        log.info("开始流式执行工作流节点，Agent ID: {}, 消息长度: {}",
+                agentId, message.length());
+
+        ChatClient.ChatClientRequestSpec prompt = buildWorkflowNodePrompt(agentId, message, userId);
+        if (prompt == null) {
+            return Flux.empty();
+        }
+        return prompt.stream().content();
+    }
+
+    /**
+     * 构建工作流节点的请求
+     *
+     * @param agentId Agent ID
+     * @param message 用户消息
+     * @param userId  用户ID
+     * @return 请求，如果获取ChatClient失败则返回null
+     */
+    private ChatClient.ChatClientRequestSpec buildWorkflowNodePrompt(String agentId, String message, String userId) {
         // 获取ChatClient
         ChatClient chatClient = agentFactory.getChatClient(agentId);
         if (chatClient == null) {
@@ -115,41 +106,15 @@ public class ChatServiceImpl implements IChatService {
             return null;
         }
 
-        // 获取Agent配置
-        AgentAggregate agentConfig = agentFactory.getAgentConfig(agentId);
-
-        // 提取向量存储配置
-        VectorStoreConfig vectorConfig = extractVectorStoreConfig(agentConfig);
-        // 如果有向量存储配置，添加相关参数
-        if (vectorConfig != null) {
-            Advisor retrievalAugmentationAdvisor = RetrievalAugmentationAdvisor.builder()
-                    .documentRetriever(VectorStoreDocumentRetriever.builder()
-                            .similarityThreshold(vectorConfig.getSimilarityThreshold())
-                            .topK(vectorConfig.getTopK())
-                            .vectorStore(vectorStore)
-                            .build())
-                    .queryAugmenter(ContextualQueryAugmenter.builder()
-                            .allowEmptyContext(true)
-                            .build())
-                    .build();
-
-            return chatClient.prompt()
-                    .advisors(retrievalAugmentationAdvisor)
-                    .advisors(advisorSpec -> advisorSpec.param(
-                            QuestionAnswerAdvisor.FILTER_EXPRESSION,
-                            String.format("userId == '%s'", userId)))
-                    .user(message)
-                    .call()
-                    .content();
-        } else {
-            return chatClient.prompt()
-                    .advisors(advisorSpec -> advisorSpec.param(
-                            QuestionAnswerAdvisor.FILTER_EXPRESSION,
-                            String.format("userId == '%s'", userId)))
-                    .user(message)
-                    .call()
-                    .content();
-        }
+        // 获取预先构建的请求Advisor（向量检索等）
+        List<Advisor> requestAdvisors = agentFactory.getRequestAdvisors(agentId);
+
+        return chatClient.prompt()
+                .advisors(requestAdvisors)
+                .advisors(advisorSpec -> advisorSpec.param(
+                        VectorStoreDocumentRetriever.FILTER_EXPRESSION,
+                        ClothingSearchQuery.userScope(userId)))
+                .user(message);
     }
 
     /**
@@ -170,7 +135,7 @@ public class ChatServiceImpl implements IChatService {
         // 获取默认ChatClient
         ChatClient chatClient = agentFactory.getDefaultChatClient();
 
-        // 执行聊天，添加用户ID过滤
+        // 执行聊天，添加用户ID过滤（QuestionAnswerAdvisor只接受文本形式的过滤表达式）
         return chatClient.prompt()
                 .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
                 .advisors(advisorSpec -> advisorSpec.param(
@@ -180,24 +145,4 @@ public class ChatServiceImpl implements IChatService {
                 .stream()
                 .content();
     }
-
-    /**
-     * 从Agent配置中提取向量存储配置
-     *
-     * @param agentConfig Agent配置
-     * @return 向量存储配置，如果未找到则返回null
-     */
-    private VectorStoreConfig extractVectorStoreConfig(AgentAggregate agentConfig) {
-        if (agentConfig == null || agentConfig.getTools() == null) {
-            return null;
-        }
-
-        for (AgentTool tool : agentConfig.getTools()) {
-            // 使用字符串比较工具类型，避免导入ToolType枚举
-            if (ToolType.VECTOR_STORE.equals(tool.getToolType())) {
-                return JSONUtil.toBean(tool.getToolConfig(), VectorStoreConfig.class);
-            }
-        }
-        return null;
-    }
 }
@@ -0,0 +1,71 @@
+package com.xiaoo.kaleido.ai.domain.clothing.adapter.repository;
+
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexCheckpoint;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * 服装向量索引重建检查点仓储接口
+ * <p>
+ * 检查点在集群内共享，任一实例执行重建或处理增量事件时看到的是同一份进度
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public interface IClothingIndexCheckpointRepository {
+
+    /**
+     * 查询当前检查点
+     *
+     * @return 检查点，没有进行中的重建时返回null
+     */
+    ClothingIndexCheckpoint find();
+
+    /**
+     * 保存检查点
+     *
+     * @param checkpoint 检查点，不能为空
+     */
+    void save(ClothingIndexCheckpoint checkpoint);
+
+    /**
+     * 删除检查点及其记录的变更服装，重建完成或放弃时调用
+     */
+    void delete();
+
+    /**
+     * 记录重建期间由增量事件写入影子集合的服装，调用方需持有影子集合写入锁的读锁
+     *
+     * @param collectionName 影子集合名称
+     * @param clothingIds    服装ID列表
+     */
+    void markTouched(String collectionName, Collection<String> clothingIds);
+
+    /**
+     * 查询给定服装中已由增量事件写入影子集合的部分，调用方需持有影子集合写入锁的写锁
+     *
+     * @param collectionName 影子集合名称
+     * @param clothingIds    服装ID列表
+     * @return 已被增量事件写入的服装ID
+     */
+    Set<String> findTouched(String collectionName, Collection<String> clothingIds);
+
+    /**
+     * 清除影子集合记录的变更服装，影子集合被重新创建时调用
+     *
+     * @param collectionName 影子集合名称
+     */
+    void clearTouched(String collectionName);
+
+    /**
+     * 影子集合写入锁
+     * <p>
+     * 增量事件持有读锁写入影子集合并记录变更服装，重建持有写锁过滤已变更服装后写入快照页，
+     * 保证快照中的旧数据不会覆盖事件写入的新数据，也不会恢复已删除的服装
+     *
+     * @return 集群内共享的读写锁
+     */
+    ReadWriteLock shadowWriteLock();
+}
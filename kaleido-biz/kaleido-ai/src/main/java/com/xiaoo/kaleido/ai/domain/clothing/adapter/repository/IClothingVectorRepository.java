@@ -1,7 +1,9 @@
 package com.xiaoo.kaleido.ai.domain.clothing.adapter.repository;
 
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingSearchQuery;
 import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingVector;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -18,24 +20,36 @@ public interface IClothingVectorRepository {
     /**
      * 保存服装向量列表到向量存储
      * <p>
-     * 将服装向量列表转换为向量文档并保存到Milvus向量存储
+     * 将服装向量列表转换为向量文档并按主键覆盖写入Milvus向量存储，
+     * 文档ID由服装ID确定性生成，同一服装重复保存只保留最新一份
      *
      * @param clothingVectors 服装向量列表，不能为空
      * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当保存失败时抛出
      */
     void save(List<ClothingVector> clothingVectors);
 
+    /**
+     * 保存服装向量列表到指定集合
+     * <p>
+     * 与{@link #save(List)}相同，但写入指定的物理集合，用于全量重建时写入影子集合
+     *
+     * @param collectionName  集合名称，不能为空
+     * @param clothingVectors 服装向量列表，不能为空
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当保存失败时抛出
+     */
+    void save(String collectionName, List<ClothingVector> clothingVectors);
+
     /**
      * 根据相似度搜索服装向量
      * <p>
-     * 根据查询文本在向量存储中搜索相似的服装向量
+     * 先按检索条件中的用户、季节、类型和颜色过滤元数据，再在过滤后的范围内做相似度检索，
+     * 结果按相似度得分倒序并带有得分，不做重排
      *
-     * @param queryText 查询文本，不能为空
-     * @param topK 返回最相似的前K个结果，必须大于0
+     * @param query 检索条件，用户ID不能为空
      * @return 相似的服装向量列表
      * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当搜索失败时抛出
      */
-    List<ClothingVector> searchBySimilarity(String queryText, int topK);
+    List<ClothingVector> searchBySimilarity(ClothingSearchQuery query);
 
     /**
      * 根据服装ID删除向量
@@ -47,6 +61,25 @@ public interface IClothingVectorRepository {
      */
     void deleteByClothingId(String clothingId);
 
+    /**
+     * 根据服装ID批量删除向量
+     * <p>
+     * 按元数据过滤条件一次删除所有指定服装的向量，不存在的服装ID直接忽略
+     *
+     * @param clothingIds 服装ID集合，为空时不做任何操作
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当删除失败时抛出
+     */
+    void deleteByClothingIds(Collection<String> clothingIds);
+
+    /**
+     * 根据服装ID从指定集合批量删除向量
+     *
+     * @param collectionName 集合名称，不能为空
+     * @param clothingIds    服装ID集合，为空时不做任何操作
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当删除失败时抛出
+     */
+    void deleteByClothingIds(String collectionName, Collection<String> clothingIds);
+
     /**
      * 根据用户ID删除所有向量
      * <p>
@@ -67,4 +100,41 @@ public interface IClothingVectorRepository {
      * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当查询失败时抛出
      */
     boolean existsByClothingId(String clothingId);
+
+    /**
+     * 获取对外服务的集合别名
+     * <p>
+     * 检索和增量写入都通过别名访问，全量重建完成后把别名切换到新集合
+     *
+     * @return 集合别名
+     */
+    String servingAlias();
+
+    /**
+     * 创建集合
+     * <p>
+     * 字段布局、索引和向量维度与对外服务的集合一致，创建后立即加载，集合已存在时不做任何操作
+     *
+     * @param collectionName 集合名称，不能为空
+     * @return 是否新建了集合
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当创建失败时抛出
+     */
+    boolean createCollection(String collectionName);
+
+    /**
+     * 将对外服务的别名原子切换到指定集合
+     *
+     * @param collectionName 目标集合名称，不能为空
+     * @return 切换前别名指向的集合名称，别名首次创建时返回null
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当切换失败或别名与已有集合重名时抛出
+     */
+    String switchAlias(String collectionName);
+
+    /**
+     * 删除集合，集合不存在时不做任何操作
+     *
+     * @param collectionName 集合名称，不能为空
+     * @throws com.xiaoo.kaleido.ai.types.exception.AiException 当删除失败时抛出
+     */
+    void dropCollection(String collectionName);
 }
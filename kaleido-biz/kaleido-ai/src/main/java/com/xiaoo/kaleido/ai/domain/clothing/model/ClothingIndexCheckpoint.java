@@ -0,0 +1,38 @@
+package com.xiaoo.kaleido.ai.domain.clothing.model;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 服装向量索引重建检查点
+ * <p>
+ * 记录正在进行的全量重建写入的影子集合和已完成的扫描位置，重建中断后从游标处继续。
+ * 检查点存在期间增量事件会同时写入影子集合，保证别名切换时影子集合不落后
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+public class ClothingIndexCheckpoint {
+
+    /**
+     * 影子集合名称
+     */
+    private String collectionName;
+
+    /**
+     * 已处理的最后一页的游标，为空表示从头开始
+     */
+    private String cursor;
+
+    /**
+     * 已写入影子集合的服装数量
+     */
+    private long indexed;
+
+    /**
+     * 重建开始时间
+     */
+    private Date startedAt;
+}
@@ -0,0 +1,43 @@
+package com.xiaoo.kaleido.ai.domain.clothing.model;
+
+import lombok.Data;
+
+/**
+ * 服装向量索引重建结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+public class ClothingIndexRebuildResult {
+
+    /**
+     * 影子集合名称
+     */
+    private String collectionName;
+
+    /**
+     * 本次执行处理的页数
+     */
+    private long pages;
+
+    /**
+     * 本次执行写入的服装数量
+     */
+    private long indexed;
+
+    /**
+     * 重建累计写入的服装数量，包含之前中断前已写入的部分
+     */
+    private long totalIndexed;
+
+    /**
+     * 是否已完成并切换别名，为false表示中途停止，下次执行从检查点继续
+     */
+    private boolean completed;
+
+    /**
+     * 切换前别名指向的集合名称
+     */
+    private String previousCollectionName;
+}
@@ -0,0 +1,135 @@
+package com.xiaoo.kaleido.ai.domain.clothing.model;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 服装向量检索条件
+ * <p>
+ * 用户ID必填，季节、类型和颜色可选，均作为元数据标量条件在向量检索前过滤，缩小候选集。
+ * 过滤条件通过表达式构建器生成，不拼接字符串
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+@Builder
+public class ClothingSearchQuery {
+
+    /**
+     * 元数据中的用户ID字段
+     */
+    public static final String USER_ID_KEY = "userId";
+
+    /**
+     * 默认返回数量
+     */
+    public static final int DEFAULT_TOP_K = 10;
+
+    /**
+     * 返回数量上限
+     */
+    public static final int MAX_TOP_K = 100;
+
+    private static final String SEASON_NAME_KEY = "seasonName";
+    private static final String TYPE_NAME_KEY = "typeName";
+    private static final String COLOR_NAME_KEY = "colorName";
+
+    /**
+     * 用户ID，必填
+     */
+    private String userId;
+
+    /**
+     * 查询文本
+     */
+    private String queryText;
+
+    /**
+     * 季节名称，可选
+     */
+    private String seasonName;
+
+    /**
+     * 服装类型名称，可选
+     */
+    private String typeName;
+
+    /**
+     * 颜色名称，可选
+     */
+    private String colorName;
+
+    /**
+     * 返回数量，为空时使用默认值，超过上限时截断
+     */
+    private Integer topK;
+
+    /**
+     * 相似度得分下限，取值0到1，为空表示不限制
+     */
+    private Double similarityThreshold;
+
+    /**
+     * 排序方式，为空时按相似度排序
+     */
+    private ClothingSearchSort sort;
+
+    /**
+     * 获取规范化后的返回数量
+     */
+    public int resolveTopK() {
+        if (topK == null || topK < 1) {
+            return DEFAULT_TOP_K;
+        }
+        return Math.min(topK, MAX_TOP_K);
+    }
+
+    /**
+     * 获取排序方式
+     */
+    public ClothingSearchSort resolveSort() {
+        return sort != null ? sort : ClothingSearchSort.RELEVANCE;
+    }
+
+    /**
+     * 构建元数据过滤表达式
+     *
+     * @return 用户ID与各可选条件的与组合
+     */
+    public Filter.Expression toFilterExpression() {
+        FilterExpressionBuilder builder = new FilterExpressionBuilder();
+        List<FilterExpressionBuilder.Op> conditions = new ArrayList<>(4);
+        conditions.add(builder.eq(USER_ID_KEY, userId));
+        if (seasonName != null && !seasonName.isBlank()) {
+            conditions.add(builder.eq(SEASON_NAME_KEY, seasonName));
+        }
+        if (typeName != null && !typeName.isBlank()) {
+            conditions.add(builder.eq(TYPE_NAME_KEY, typeName));
+        }
+        if (colorName != null && !colorName.isBlank()) {
+            conditions.add(builder.eq(COLOR_NAME_KEY, colorName));
+        }
+
+        FilterExpressionBuilder.Op expression = conditions.get(0);
+        for (int i = 1; i < conditions.size(); i++) {
+            expression = builder.and(expression, conditions.get(i));
+        }
+        return expression.build();
+    }
+
+    /**
+     * 构建只按用户隔离的过滤表达式
+     *
+     * @param userId 用户ID
+     * @return 过滤表达式
+     */
+    public static Filter.Expression userScope(String userId) {
+        return new FilterExpressionBuilder().eq(USER_ID_KEY, userId).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.xiaoo.kaleido.ai.domain.clothing.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 服装向量检索结果排序方式
+ * <p>
+ * 在预过滤和相似度检索得到的候选集内重排，值相同时按相似度得分排序
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Getter
+public enum ClothingSearchSort {
+
+    /**
+     * 按相似度得分倒序
+     */
+    RELEVANCE("RELEVANCE", "相似度优先"),
+
+    /**
+     * 按穿着次数倒序
+     */
+    WEAR_COUNT("WEAR_COUNT", "常穿优先"),
+
+    /**
+     * 按购买日期倒序
+     */
+    RECENCY("RECENCY", "新购优先");
+
+    private static final Comparator<ClothingVector> BY_SCORE = Comparator.comparing(ClothingVector::getScore,
+            Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final String code;
+    private final String description;
+
+    ClothingSearchSort(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    /**
+     * 获取排序比较器
+     */
+    public Comparator<ClothingVector> comparator() {
+        return switch (this) {
+            case RELEVANCE -> BY_SCORE;
+            case WEAR_COUNT -> Comparator.comparing(ClothingVector::getWearCount,
+                    Comparator.<Integer>nullsLast(Comparator.reverseOrder())).thenComparing(BY_SCORE);
+            case RECENCY -> Comparator.comparing(ClothingVector::getPurchaseDate,
+                    Comparator.<LocalDateTime>nullsLast(Comparator.reverseOrder())).thenComparing(BY_SCORE);
+        };
+    }
+}
@@ -4,8 +4,10 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * 服装向量领域模型
@@ -91,6 +93,37 @@ public class ClothingVector {
      */
     private List<String> images;
 
+    /**
+     * 相似度得分，仅检索结果有值
+     */
+    private Double score;
+
+    /**
+     * 向量文档ID命名空间前缀
+     */
+    private static final String DOCUMENT_ID_PREFIX = "clothing:";
+
+    /**
+     * 生成向量文档ID
+     * <p>
+     * 由服装ID确定性生成，同一服装始终对应同一文档，写入时按主键覆盖
+     *
+     * @return 向量文档ID
+     */
+    public String documentId() {
+        return documentId(clothingId);
+    }
+
+    /**
+     * 根据服装ID生成向量文档ID
+     *
+     * @param clothingId 服装ID
+     * @return 向量文档ID
+     */
+    public static String documentId(String clothingId) {
+        return UUID.nameUUIDFromBytes((DOCUMENT_ID_PREFIX + clothingId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
     /**
      * 生成向量存储的描述性文本内容
      * <p>
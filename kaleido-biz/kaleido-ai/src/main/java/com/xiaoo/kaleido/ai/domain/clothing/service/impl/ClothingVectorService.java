@@ -1,15 +1,26 @@
 package com.xiaoo.kaleido.ai.domain.clothing.service.impl;
 
+import cn.hutool.core.util.StrUtil;
+import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingIndexCheckpointRepository;
 import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingVectorRepository;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexCheckpoint;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingSearchQuery;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingSearchSort;
 import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingVector;
+import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.trigger.convertor.ClothingEventConvertor;
+import com.xiaoo.kaleido.api.wardrobe.enums.ClothingEventTypeEnums;
 import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 /**
  * 服装向量服务
@@ -24,95 +35,99 @@ import java.util.List;
 public class ClothingVectorService {
 
     private final IClothingVectorRepository clothingVectorRepository;
+    private final IClothingIndexCheckpointRepository checkpointRepository;
     private final ClothingEventConvertor clothingEventConvertor;
 
     /**
-     * 处理服装创建事件
+     * 批量处理服装事件
+     * <p>
+     * 同一批内同一服装的多个事件只保留最后一个：删除事件删除向量，创建和更新事件按主键覆盖写入向量。
+     * 整批只执行一次按服装ID过滤的删除和一次覆盖写入，写入时整批文本一次完成向量化，重复投递天然幂等。
+     * 全量重建进行中时同样的变更也写入影子集合并记录服装ID，避免别名切换后丢失重建期间的修改，
+     * 也避免重建稍后写入的快照旧数据覆盖这些修改
      *
-     * @param clothingEventMessage 服装事件消息接口
+     * @param clothingEventMessages 服装事件消息，按投递顺序排列
      */
-    @Transactional
-    public void handleCreateEvent(ClothingEventMessage clothingEventMessage) {
-        try {
-            log.info("处理服装创建事件，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId());
-            
-            // 1. 检查是否已存在（幂等性处理）
-            boolean exists = clothingVectorRepository.existsByClothingId(clothingEventMessage.getClothingId());
-            if (exists) {
-                log.warn("服装向量已存在，跳过创建，服装ID: {}", clothingEventMessage.getClothingId());
-                return;
+    public void handleEvents(List<ClothingEventMessage> clothingEventMessages) {
+        // 1. 合并同一服装的事件，后到的事件覆盖先到的
+        Map<String, ClothingEventMessage> latestEvents = new LinkedHashMap<>();
+        for (ClothingEventMessage message : clothingEventMessages) {
+            if (message.getClothingId() == null || message.getEventType() == null) {
+                log.warn("服装事件缺少服装ID或事件类型，跳过处理，服装ID: {}, 事件类型: {}",
+                        message.getClothingId(), message.getEventType());
+                continue;
             }
-            
-            // 2. 转换事件消息为领域模型
-            ClothingVector clothingVector = clothingEventConvertor.toDomain(clothingEventMessage);
-            
-            // 3. 保存到向量存储
-            clothingVectorRepository.save(List.of(clothingVector));
-            
-            log.info("服装创建事件处理完成，成功保存到向量存储，服装ID: {}", clothingEventMessage.getClothingId());
-        } catch (Exception e) {
-            log.error("处理服装创建事件失败，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId(), e);
-            throw e;
+            latestEvents.put(message.getClothingId(), message);
+        }
+        if (latestEvents.isEmpty()) {
+            return;
         }
-    }
 
-    /**
-     * 处理服装更新事件
-     *
-     * @param clothingEventMessage 服装事件消息接口
-     */
-    @Transactional
-    public void handleUpdateEvent(ClothingEventMessage clothingEventMessage) {
+        // 2. 按事件类型拆分
+        List<String> deletedClothingIds = new ArrayList<>();
+        List<ClothingVector> clothingVectors = new ArrayList<>();
+        for (ClothingEventMessage message : latestEvents.values()) {
+            if (message.getEventType() == ClothingEventTypeEnums.DELETE) {
+                deletedClothingIds.add(message.getClothingId());
+            } else {
+                clothingVectors.add(clothingEventConvertor.toDomain(message));
+            }
+        }
+
+        // 3. 批量删除
+        if (!deletedClothingIds.isEmpty()) {
+            clothingVectorRepository.deleteByClothingIds(deletedClothingIds);
+        }
+
+        // 4. 批量覆盖写入向量存储
+        if (!clothingVectors.isEmpty()) {
+            clothingVectorRepository.save(clothingVectors);
+        }
+
+        // 5. 同步写入正在重建的影子集合，并记录变更的服装，重建时跳过这些服装的快照数据
+        Lock shadowLock = checkpointRepository.shadowWriteLock().readLock();
+        shadowLock.lock();
         try {
-            log.info("处理服装更新事件，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId());
-            
-            // 1. 先删除旧的向量
-            clothingVectorRepository.deleteByClothingId(clothingEventMessage.getClothingId());
-            log.info("已删除旧的服装向量，服装ID: {}", clothingEventMessage.getClothingId());
-            
-            // 2. 转换事件消息为领域模型
-            ClothingVector clothingVector = clothingEventConvertor.toDomain(clothingEventMessage);
-            
-            // 3. 保存到向量存储
-            clothingVectorRepository.save(List.of(clothingVector));
-            
-            log.info("服装更新事件处理完成，成功更新向量存储，服装ID: {}", clothingEventMessage.getClothingId());
-        } catch (Exception e) {
-            log.error("处理服装更新事件失败，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId(), e);
-            throw e;
+            ClothingIndexCheckpoint checkpoint = checkpointRepository.find();
+            if (checkpoint != null) {
+                checkpointRepository.markTouched(checkpoint.getCollectionName(), latestEvents.keySet());
+                clothingVectorRepository.deleteByClothingIds(checkpoint.getCollectionName(), deletedClothingIds);
+                if (!clothingVectors.isEmpty()) {
+                    clothingVectorRepository.save(checkpoint.getCollectionName(), clothingVectors);
+                }
+            }
+        } finally {
+            shadowLock.unlock();
         }
+
+        log.info("服装事件批量处理完成，事件数: {}, 合并后服装数: {}, 重建向量数: {}, 删除服装数: {}",
+                clothingEventMessages.size(), latestEvents.size(), clothingVectors.size(),
+                deletedClothingIds.size());
     }
 
     /**
-     * 处理服装删除事件
+     * 检索用户的服装
+     * <p>
+     * 用户、季节、类型和颜色在向量检索前作为元数据条件过滤，得分低于阈值的结果不返回，
+     * 之后在候选集内按指定方式重排
      *
-     * @param clothingEventMessage 服装事件消息接口
+     * @param query 检索条件，用户ID和查询文本不能为空
+     * @return 服装向量列表，带相似度得分
+     * @throws AiException 参数缺失或检索失败时抛出
      */
-    @Transactional
-    public void handleDeleteEvent(ClothingEventMessage clothingEventMessage) {
-        try {
-            log.info("处理服装删除事件，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId());
-            
-            // 1. 检查向量是否存在
-            boolean exists = clothingVectorRepository.existsByClothingId(clothingEventMessage.getClothingId());
-            if (!exists) {
-                log.warn("服装向量不存在，跳过删除，服装ID: {}", clothingEventMessage.getClothingId());
-                return;
-            }
-            
-            // 2. 从向量存储中删除向量
-            clothingVectorRepository.deleteByClothingId(clothingEventMessage.getClothingId());
-            
-            log.info("服装删除事件处理完成，成功从向量存储中删除，服装ID: {}", clothingEventMessage.getClothingId());
-        } catch (Exception e) {
-            log.error("处理服装删除事件失败，服装ID: {}, 用户ID: {}", 
-                    clothingEventMessage.getClothingId(), clothingEventMessage.getUserId(), e);
-            throw e;
+    public List<ClothingVector> search(ClothingSearchQuery query) {
+        if (StrUtil.isBlank(query.getUserId())) {
+            throw AiException.of(AiErrorCode.USER_ID_NOT_NULL);
+        }
+        if (StrUtil.isBlank(query.getQueryText())) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "查询文本不能为空");
+        }
+
+        List<ClothingVector> candidates = new ArrayList<>(clothingVectorRepository.searchBySimilarity(query));
+        ClothingSearchSort sort = query.resolveSort();
+        if (sort != ClothingSearchSort.RELEVANCE) {
+            candidates.sort(sort.comparator());
         }
+        return candidates;
     }
 }
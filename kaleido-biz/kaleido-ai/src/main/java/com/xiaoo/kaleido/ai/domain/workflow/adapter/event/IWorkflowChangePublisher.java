@@ -0,0 +1,19 @@
+package com.xiaoo.kaleido.ai.domain.workflow.adapter.event;
+
+/**
+ * 工作流变更发布器接口
+ * 领域层接口，定义向集群广播工作流定义变更的能力
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public interface IWorkflowChangePublisher {
+
+    /**
+     * 广播工作流变更
+     *
+     * @param workflowId 工作流ID
+     * @return 本次变更的版本号，广播失败时返回0
+     */
+    long publishWorkflowChanged(String workflowId);
+}
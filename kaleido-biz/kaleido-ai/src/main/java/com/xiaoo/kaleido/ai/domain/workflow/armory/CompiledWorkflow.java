@@ -0,0 +1,287 @@
+package com.xiaoo.kaleido.ai.domain.workflow.armory;
+
+import cn.hutool.core.util.StrUtil;
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowDefinition;
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowStep;
+import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.xiaoo.kaleido.ai.types.exception.AiException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+/**
+ * 编译后的工作流执行计划
+ * <p>
+ * 注册工作流时由工作流定义编译一次：校验定义、按拓扑顺序排列步骤、建立步骤ID到下标的索引，
+ * 并预先解析每个步骤的输入来源和输入模板。执行时只按下标读取，不再排序、查找或解析模板
+ * <p>
+ * 编译结果不可变，可以被同一工作流的多次执行并发共享
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+public final class CompiledWorkflow {
+
+    /**
+     * 模板中引用工作流输入的下标
+     */
+    private static final int SOURCE_WORKFLOW_INPUT = -1;
+
+    /**
+     * 工作流名称
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 拓扑排序后的步骤
+     */
+    private final WorkflowStep[] steps;
+
+    /**
+     * 步骤ID到步骤下标的映射
+     */
+    private final Map<String, Integer> indexById;
+
+    /**
+     * 每个步骤依赖的步骤下标，按声明顺序
+     */
+    private final int[][] dependencies;
+
+    /**
+     * 终止步骤下标，按order顺序
+     */
+    private final int[] terminals;
+
+    /**
+     * 每个步骤的输入来源
+     */
+    private final InputWiring[] inputs;
+
+    /**
+     * 合并输出时每个步骤的标题
+     */
+    private final String[] mergeHeaders;
+
+    private CompiledWorkflow(String name, WorkflowStep[] steps, Map<String, Integer> indexById,
+                             int[][] dependencies, int[] terminals, InputWiring[] inputs, String[] mergeHeaders) {
+        this.name = name;
+        this.steps = steps;
+        this.indexById = indexById;
+        this.dependencies = dependencies;
+        this.terminals = terminals;
+        this.inputs = inputs;
+        this.mergeHeaders = mergeHeaders;
+    }
+
+    /**
+     * 编译工作流定义
+     *
+     * @param definition 工作流定义
+     * @return 编译后的执行计划
+     * @throws AiException 工作流定义无效时抛出
+     */
+    public static CompiledWorkflow compile(WorkflowDefinition definition) {
+        if (!definition.isValid()) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "工作流定义无效");
+        }
+
+        WorkflowStep[] steps = definition.getTopologicalSteps().toArray(WorkflowStep[]::new);
+        Map<String, Integer> indexById = new HashMap<>(steps.length * 2);
+        for (int i = 0; i < steps.length; i++) {
+            indexById.put(steps[i].getId(), i);
+        }
+
+        Map<String, List<String>> resolved = definition.resolveDependencies();
+        int[][] dependencies = new int[steps.length][];
+        InputWiring[] inputs = new InputWiring[steps.length];
+        String[] mergeHeaders = new String[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            WorkflowStep step = steps[i];
+            dependencies[i] = resolved.get(step.getId()).stream()
+                    .mapToInt(indexById::get)
+                    .toArray();
+            inputs[i] = wire(step, dependencies[i], indexById);
+            mergeHeaders[i] = "【" + (step.getName() != null ? step.getName() : step.getId()) + "】\n";
+        }
+
+        int[] terminals = definition.getTerminalSteps().stream()
+                .mapToInt(step -> indexById.get(step.getId()))
+                .toArray();
+
+        return new CompiledWorkflow(definition.getName(), steps, Map.copyOf(indexById),
+                dependencies, terminals, inputs, mergeHeaders);
+    }
+
+    /**
+     * 获取步骤数量
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    /**
+     * 获取步骤
+     *
+     * @param index 步骤下标
+     * @return 步骤定义
+     */
+    public WorkflowStep step(int index) {
+        return steps[index];
+    }
+
+    /**
+     * 获取步骤下标
+     *
+     * @param stepId 步骤ID
+     * @return 步骤下标，步骤不存在时返回null
+     */
+    public Integer indexOf(String stepId) {
+        return indexById.get(stepId);
+    }
+
+    /**
+     * 获取步骤依赖的步骤下标，返回内部数组，调用方不得修改
+     *
+     * @param index 步骤下标
+     * @return 依赖的步骤下标
+     */
+    int[] dependencies(int index) {
+        return dependencies[index];
+    }
+
+    /**
+     * 获取终止步骤下标，返回内部数组，调用方不得修改
+     *
+     * @return 终止步骤下标
+     */
+    int[] terminals() {
+        return terminals;
+    }
+
+    /**
+     * 按预先解析的输入来源构建步骤输入
+     *
+     * @param index   步骤下标
+     * @param context 执行上下文
+     * @return 步骤输入
+     */
+    String buildInput(int index, WorkflowExecutionContext context) {
+        InputWiring wiring = inputs[index];
+        return switch (wiring.kind()) {
+            case WORKFLOW_INPUT -> context.getInputData();
+            case UPSTREAM -> requireResult(index, wiring.sources()[0], context);
+            case MERGE -> merge(index, wiring.sources(), context);
+            case TEMPLATE -> render(index, wiring, context);
+        };
+    }
+
+    /**
+     * 构建工作流最终结果：单个终止步骤直接使用其输出，多个终止步骤按order顺序合并
+     *
+     * @param context 执行上下文
+     * @return 最终结果
+     */
+    String buildResult(WorkflowExecutionContext context) {
+        return terminals.length == 1
+                ? context.getStepResult(terminals[0])
+                : merge(-1, terminals, context);
+    }
+
+    private String merge(int index, int[] sources, WorkflowExecutionContext context) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sources.length; i++) {
+            if (i > 0) {
+                builder.append("\n\n");
+            }
+            builder.append(mergeHeaders[sources[i]]).append(requireResult(index, sources[i], context));
+        }
+        return builder.toString();
+    }
+
+    private String render(int index, InputWiring wiring, WorkflowExecutionContext context) {
+        String[] literals = wiring.literals();
+        int[] sources = wiring.sources();
+        StringBuilder builder = new StringBuilder(wiring.literalLength());
+        for (int i = 0; i < sources.length; i++) {
+            builder.append(literals[i]);
+            builder.append(sources[i] == SOURCE_WORKFLOW_INPUT
+                    ? context.getInputData()
+                    : requireResult(index, sources[i], context));
+        }
+        builder.append(literals[sources.length]);
+        return builder.toString();
+    }
+
+    private String requireResult(int index, int upstream, WorkflowExecutionContext context) {
+        String result = context.getStepResult(upstream);
+        if (result == null) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR,
+                    "无法获取输入：上游步骤结果未找到，步骤ID: " + (index >= 0 ? steps[index].getId() : name) +
+                            ", 上游步骤ID: " + steps[upstream].getId());
+        }
+        return result;
+    }
+
+    /**
+     * 解析步骤输入来源
+     * <p>
+     * 配置了输入模板时按模板拆分为字面量和引用；否则无依赖的步骤使用工作流输入，
+     * 单个依赖使用该依赖的输出，多个依赖按声明顺序合并输出
+     */
+    private static InputWiring wire(WorkflowStep step, int[] dependencies, Map<String, Integer> indexById) {
+        if (StrUtil.isNotBlank(step.getInputTemplate())) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> sources = new ArrayList<>();
+            int literalLength = 0;
+            int last = 0;
+            Matcher matcher = WorkflowStep.TEMPLATE_PLACEHOLDER.matcher(step.getInputTemplate());
+            while (matcher.find()) {
+                String literal = step.getInputTemplate().substring(last, matcher.start());
+                literals.add(literal);
+                literalLength += literal.length();
+                sources.add(matcher.group(2) == null ? SOURCE_WORKFLOW_INPUT : indexById.get(matcher.group(2)));
+                last = matcher.end();
+            }
+            String tail = step.getInputTemplate().substring(last);
+            literals.add(tail);
+            literalLength += tail.length();
+            return new InputWiring(InputKind.TEMPLATE,
+                    sources.stream().mapToInt(Integer::intValue).toArray(),
+                    literals.toArray(String[]::new),
+                    literalLength);
+        }
+        if (dependencies.length == 0) {
+            return new InputWiring(InputKind.WORKFLOW_INPUT, dependencies, null, 0);
+        }
+        if (dependencies.length == 1) {
+            return new InputWiring(InputKind.UPSTREAM, dependencies, null, 0);
+        }
+        return new InputWiring(InputKind.MERGE, dependencies, null, 0);
+    }
+
+    /**
+     * 步骤输入类型
+     */
+    private enum InputKind {
+        WORKFLOW_INPUT,
+        UPSTREAM,
+        MERGE,
+        TEMPLATE
+    }
+
+    /**
+     * 步骤输入来源
+     *
+     * @param kind          输入类型
+     * @param sources       引用的步骤下标，模板中引用工作流输入时为-1
+     * @param literals      模板字面量片段，数量比引用多一个
+     * @param literalLength 模板字面量总长度，用于预分配渲染缓冲区
+     */
+    private record InputWiring(InputKind kind, int[] sources, String[] literals, int literalLength) {
+    }
+}
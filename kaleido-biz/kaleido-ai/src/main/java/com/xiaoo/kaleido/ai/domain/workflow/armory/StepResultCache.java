@@ -0,0 +1,118 @@
+package com.xiaoo.kaleido.ai.domain.workflow.armory;
+
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
+import com.xiaoo.kaleido.ai.domain.agent.model.aggregate.AgentAggregate;
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowStep;
+import com.xiaoo.kaleido.ai.domain.workflow.repository.IStepResultCacheRepository;
+import com.xiaoo.kaleido.ai.types.config.WorkflowStepCacheProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 工作流步骤结果缓存
+ * <p>
+ * 缓存键由Agent ID、Agent配置指纹、缓存范围和规范化后的输入摘要组成，
+ * Agent配置变化后旧缓存自然不再命中，无需主动清理。缓存读写失败只记录日志，不影响步骤执行
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StepResultCache {
+
+    /**
+     * 连续空白字符
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final IStepResultCacheRepository stepResultCacheRepository;
+    private final AgentFactory agentFactory;
+    private final WorkflowMetrics workflowMetrics;
+    private final WorkflowStepCacheProperties properties;
+
+    /**
+     * 构建步骤结果缓存键
+     *
+     * @param step   步骤定义
+     * @param input  步骤输入
+     * @param userId 用户ID
+     * @return 缓存键，步骤未开启缓存、按用户隔离但缺少用户ID或无法获取Agent配置时返回null
+     */
+    public String buildKey(WorkflowStep step, String input, String userId) {
+        if (!properties.isEnabled() || !step.isCacheEnabled()) {
+            return null;
+        }
+        // 按用户隔离的步骤缺少用户ID时无法隔离，不缓存，避免不同匿名调用共用同一缓存
+        if (step.isUserScopedCache() && StrUtil.isBlank(userId)) {
+            return null;
+        }
+        AgentAggregate agentConfig = agentFactory.getAgentConfig(step.getAgentId());
+        if (agentConfig == null) {
+            return null;
+        }
+
+        String scope = step.isUserScopedCache() ? "u:" + userId : "g";
+        return step.getAgentId() + ":" + agentConfig.configFingerprint() + ":" + scope + ":"
+                + DigestUtil.sha256Hex(normalize(input));
+    }
+
+    /**
+     * 查询缓存的步骤结果
+     *
+     * @param step     步骤定义
+     * @param cacheKey 缓存键
+     * @return 步骤结果，未命中时返回null
+     */
+    public String get(WorkflowStep step, String cacheKey) {
+        String cached = null;
+        try {
+            cached = stepResultCacheRepository.find(cacheKey);
+        } catch (Exception e) {
+            log.warn("读取步骤结果缓存失败，步骤ID: {}, 错误: {}", step.getId(), e.getMessage());
+        }
+        workflowMetrics.recordCacheLookup(step.getAgentId(), cached != null);
+        return cached;
+    }
+
+    /**
+     * 缓存步骤结果
+     * <p>
+     * 空结果和超长结果不缓存
+     *
+     * @param step     步骤定义
+     * @param cacheKey 缓存键
+     * @param result   步骤结果
+     */
+    public void put(WorkflowStep step, String cacheKey, String result) {
+        if (StrUtil.isBlank(result) || result.length() > properties.getMaxResultLength()) {
+            return;
+        }
+        try {
+            stepResultCacheRepository.save(cacheKey, result, resolveTtl(step));
+        } catch (Exception e) {
+            log.warn("写入步骤结果缓存失败，步骤ID: {}, 错误: {}", step.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 规范化输入：去除首尾空白并合并连续空白，使仅有空白差异的输入命中同一缓存
+     */
+    private String normalize(String input) {
+        return input == null ? "" : WHITESPACE.matcher(input.strip()).replaceAll(" ");
+    }
+
+    private Duration resolveTtl(WorkflowStep step) {
+        long ttlSeconds = step.getCacheTtlSeconds() != null && step.getCacheTtlSeconds() > 0
+                ? step.getCacheTtlSeconds()
+                : properties.getDefaultTtlSeconds();
+        return Duration.ofSeconds(Math.min(ttlSeconds, properties.getMaxTtlSeconds()));
+    }
+}
@@ -0,0 +1,161 @@
+package com.xiaoo.kaleido.ai.domain.workflow.armory;
+
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 工作流单次执行上下文
+ * <p>
+ * 保存一次执行的输入和各步骤的中间结果，每次执行独立创建，
+ * 同一工作流的多次执行可以共享缓存的执行引擎并发运行而互不影响；
+ * 步骤结果按编译后的步骤下标存取
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+public class WorkflowExecutionContext {
+
+    /**
+     * 执行记录ID，为空时不保存检查点
+     */
+    @Getter
+    private final String executionId;
+
+    /**
+     * 工作流输入数据
+     */
+    @Getter
+    private final String inputData;
+
+    /**
+     * 用户ID
+     */
+    @Getter
+    private final String userId;
+
+    /**
+     * 步骤执行结果，下标为编译后的步骤下标
+     */
+    private final AtomicReferenceArray<String> stepResults;
+
+    /**
+     * 失败信号，任一步骤失败时以该步骤的异常完成
+     */
+    @Getter
+    private final CompletableFuture<Void> failure = new CompletableFuture<>();
+
+    /**
+     * 流式执行事件监听器，非流式执行时为空
+     */
+    private final Consumer<WorkflowStreamEvent> eventListener;
+
+    /**
+     * 构造函数
+     *
+     * @param workflow       编译后的执行计划
+     * @param executionId    执行记录ID，为空时不保存检查点
+     * @param inputData      工作流输入数据
+     * @param userId         用户ID
+     * @param completedSteps 已完成步骤的检查点，恢复执行时这些步骤不再重复执行；工作流定义中已不存在的步骤忽略
+     * @param eventListener  流式执行事件监听器，需支持多线程调用，为空时按非流式执行
+     */
+    public WorkflowExecutionContext(CompiledWorkflow workflow, String executionId, String inputData, String userId,
+                                    Map<String, String> completedSteps,
+                                    Consumer<WorkflowStreamEvent> eventListener) {
+        this.executionId = executionId;
+        this.eventListener = eventListener;
+        this.inputData = inputData != null ? inputData : "";
+        this.userId = userId;
+        this.stepResults = new AtomicReferenceArray<>(workflow.size());
+        if (completedSteps != null) {
+            completedSteps.forEach((stepId, result) -> {
+                Integer index = workflow.indexOf(stepId);
+                if (index != null) {
+                    stepResults.set(index, result);
+                }
+            });
+        }
+    }
+
+    /**
+     * 记录步骤执行结果
+     *
+     * @param index  步骤下标
+     * @param result 步骤输出
+     */
+    public void putStepResult(int index, String result) {
+        stepResults.set(index, result != null ? result : "");
+    }
+
+    /**
+     * 获取步骤执行结果
+     *
+     * @param index 步骤下标
+     * @return 步骤输出，步骤未完成时返回null
+     */
+    public String getStepResult(int index) {
+        return stepResults.get(index);
+    }
+
+    /**
+     * 检查步骤是否已有结果
+     *
+     * @param index 步骤下标
+     * @return 如果步骤已完成返回true，否则返回false
+     */
+    public boolean hasStepResult(int index) {
+        return stepResults.get(index) != null;
+    }
+
+    /**
+     * 是否需要保存检查点
+     *
+     * @return 如果关联了执行记录返回true，否则返回false
+     */
+    public boolean isCheckpointEnabled() {
+        return executionId != null;
+    }
+
+    /**
+     * 是否为流式执行
+     *
+     * @return 如果设置了事件监听器返回true，否则返回false
+     */
+    public boolean isStreaming() {
+        return eventListener != null;
+    }
+
+    /**
+     * 推送流式执行事件，非流式执行时忽略
+     *
+     * @param event 流式执行事件
+     */
+    public void emit(WorkflowStreamEvent event) {
+        if (eventListener != null) {
+            eventListener.accept(event);
+        }
+    }
+
+    /**
+     * 标记执行失败
+     *
+     * @param cause 失败原因
+     */
+    public void fail(Throwable cause) {
+        failure.completeExceptionally(cause);
+    }
+
+    /**
+     * 检查执行是否已失败
+     *
+     * @return 如果已失败返回true，否则返回false
+     */
+    public boolean isFailed() {
+        return failure.isDone();
+    }
+}
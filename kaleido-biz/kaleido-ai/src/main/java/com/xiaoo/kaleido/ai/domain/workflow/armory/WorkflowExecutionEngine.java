@@ -1,21 +1,35 @@
 package com.xiaoo.kaleido.ai.domain.workflow.armory;
 
-import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
 import com.xiaoo.kaleido.ai.domain.chat.service.IChatService;
-import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowDefinition;
 import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowStep;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
+import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowExecutionRepository;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import reactor.core.publisher.Flux;
 
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 工作流执行引擎
+ * <p>
+ * 按步骤依赖关系以DAG方式执行工作流，互不依赖的步骤在步骤线程池上并发执行，
+ * 端到端耗时取决于关键路径而不是所有步骤耗时之和
+ * <p>
+ * 引擎只持有注册时编译好的不可变执行计划 {@link CompiledWorkflow}，不保存任何执行状态，每次执行的中间结果保存在独立的
+ * {@link WorkflowExecutionContext} 中，因此缓存的同一个引擎实例可以被多个线程并发执行
+ * <p>
+ * 关联执行记录时，每个步骤完成后保存检查点；恢复或重试执行时加载检查点，已完成的步骤不再重复调用模型
+ * <p>
+ * 流式执行与普通执行共用同一套编排，区别只在于Agent步骤以流式调用模型并推送步骤事件
  *
  * @author ouyucheng
  * @date 2026/2/2
@@ -24,12 +38,12 @@ import java.util.Map;
 public class WorkflowExecutionEngine {
 
     /**
-     * 工作流定义
+     * 编译后的执行计划
      * -- GETTER --
-     * 获取工作流定义
+     * 获取编译后的执行计划
      */
     @Getter
-    private final WorkflowDefinition definition;
+    private final CompiledWorkflow workflow;
 
     /**
      * Agent工厂
@@ -37,23 +51,45 @@ public class WorkflowExecutionEngine {
     private final IChatService chatService;
 
     /**
-     * 步骤执行结果缓存
+     * 步骤执行线程池
      */
-    private final Map<String, String> stepResults = new HashMap<>();
+    private final Executor stepExecutor;
+
+    /**
+     * 工作流执行指标
+     */
+    private final WorkflowMetrics metrics;
+
+    /**
+     * 工作流执行仓储，用于读写步骤检查点
+     */
+    private final IWorkflowExecutionRepository executionRepository;
+
+    /**
+     * 步骤结果缓存
+     */
+    private final StepResultCache stepResultCache;
 
     /**
      * 构造函数
      *
-     * @param definition  工作流定义
-     * @param chatService Agent工厂
+     * @param workflow            编译后的执行计划
+     * @param chatService         Agent工厂
+     * @param stepExecutor        步骤执行线程池
+     * @param metrics             工作流执行指标
+     * @param executionRepository 工作流执行仓储
+     * @param stepResultCache     步骤结果缓存
      */
-    public WorkflowExecutionEngine(WorkflowDefinition definition, IChatService chatService) {
-        this.definition = definition;
+    public WorkflowExecutionEngine(CompiledWorkflow workflow, IChatService chatService,
+                                   Executor stepExecutor, WorkflowMetrics metrics,
+                                   IWorkflowExecutionRepository executionRepository,
+                                   StepResultCache stepResultCache) {
+        this.workflow = workflow;
         this.chatService = chatService;
-
-        if (!definition.isValid()) {
-            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "工作流定义无效");
-        }
+        this.stepExecutor = stepExecutor;
+        this.metrics = metrics;
+        this.executionRepository = executionRepository;
+        this.stepResultCache = stepResultCache;
     }
 
     /**
@@ -63,84 +99,268 @@ public class WorkflowExecutionEngine {
      * @return 执行结果
      */
     public String execute(String inputData, String userId) {
-        log.info("开始执行工作流，工作流名称: {}, 输入数据长度: {}",
-                definition.getName(), inputData != null ? inputData.length() : 0);
-
-        // 清空之前的执行结果
-        stepResults.clear();
-
-        // 获取按顺序排序的步骤
-        List<WorkflowStep> steps = definition.getSortedSteps();
+        return execute(null, inputData, userId);
+    }
 
-        String finalResult = null;
+    /**
+     * 执行工作流并按步骤保存检查点
+     *
+     * @param executionId 执行记录ID，为空时不保存检查点
+     * @param inputData   输入数据
+     * @param userId      用户ID
+     * @return 执行结果
+     */
+    public String execute(String executionId, String inputData, String userId) {
+        log.info("开始执行工作流，工作流名称: {}, 执行记录ID: {}, 输入数据长度: {}",
+                workflow.getName(), executionId, inputData != null ? inputData.length() : 0);
 
+        long startTime = System.nanoTime();
         try {
-            // 按顺序执行每个步骤
-            for (int i = 0; i < steps.size(); i++) {
-                WorkflowStep step = steps.get(i);
-                finalResult = executeStep(step, inputData, i + 1, steps, userId);
-            }
+            WorkflowExecutionContext context = new WorkflowExecutionContext(
+                    workflow, executionId, inputData, userId, loadCheckpoints(executionId), null);
+            String finalResult = schedule(context).join();
 
+            metrics.recordExecution(workflow.getName(), true, System.nanoTime() - startTime);
             log.info("工作流执行完成，工作流名称: {}, 步骤数: {}, 最终结果长度: {}",
-                    definition.getName(), steps.size(), finalResult != null ? finalResult.length() : 0);
+                    workflow.getName(), workflow.size(), finalResult != null ? finalResult.length() : 0);
 
             return finalResult;
         } catch (Exception e) {
-            log.error("工作流执行失败，工作流名称: {}, 错误: {}", definition.getName(), e.getMessage(), e);
-            throw AiException.of(AiErrorCode.WORKFLOW_EXECUTION_ERROR, "工作流执行失败: " + e.getMessage());
+            metrics.recordExecution(workflow.getName(), false, System.nanoTime() - startTime);
+            Throwable cause = unwrap(e);
+            log.error("工作流执行失败，工作流名称: {}, 错误: {}", workflow.getName(), cause.getMessage(), cause);
+            throw AiException.of(AiErrorCode.WORKFLOW_EXECUTION_ERROR, "工作流执行失败: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * 流式执行工作流
+     * <p>
+     * 步骤开始、模型增量输出和步骤完成时立即推送事件，调用方无需等待全部步骤结束即可展示进度；
+     * 执行结束时推送完成或失败事件后正常结束流。订阅方取消订阅时尚未开始的步骤不再执行，
+     * 正在生成的步骤停止消费模型输出，已完成步骤的检查点保留用于重试
+     *
+     * @param executionId 执行记录ID，为空时不保存检查点
+     * @param inputData   输入数据
+     * @param userId      用户ID
+     * @return 流式执行事件
+     */
+    public Flux<WorkflowStreamEvent> stream(String executionId, String inputData, String userId) {
+        return Flux.create(sink -> {
+            log.info("开始流式执行工作流，工作流名称: {}, 执行记录ID: {}, 输入数据长度: {}",
+                    workflow.getName(), executionId, inputData != null ? inputData.length() : 0);
+
+            long startTime = System.nanoTime();
+            WorkflowExecutionContext context = new WorkflowExecutionContext(
+                    workflow, executionId, inputData, userId, loadCheckpoints(executionId), sink::next);
+            sink.onCancel(() -> context.fail(new CancellationException("订阅已取消，停止执行工作流")));
+
+            schedule(context).whenComplete((finalResult, e) -> {
+                if (e == null) {
+                    metrics.recordExecution(workflow.getName(), true, System.nanoTime() - startTime);
+                    log.info("工作流流式执行完成，工作流名称: {}, 最终结果长度: {}",
+                            workflow.getName(), finalResult != null ? finalResult.length() : 0);
+                    sink.next(WorkflowStreamEvent.completed(executionId, finalResult));
+                } else {
+                    metrics.recordExecution(workflow.getName(), false, System.nanoTime() - startTime);
+                    Throwable cause = unwrap(e);
+                    log.error("工作流流式执行失败，工作流名称: {}, 错误: {}", workflow.getName(), cause.getMessage(), cause);
+                    sink.next(WorkflowStreamEvent.failed(executionId, "工作流执行失败: " + cause.getMessage()));
+                }
+                sink.complete();
+            });
+        });
+    }
+
+    /**
+     * 编排工作流步骤
+     * <p>
+     * 按拓扑顺序为每个步骤创建异步任务，步骤在其全部依赖完成后提交到步骤线程池，
+     * 任一步骤失败即结束等待，尚未开始的步骤不再调用Agent。编排本身不阻塞调用线程
+     *
+     * @param context 执行上下文
+     * @return 工作流最终结果
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<String> schedule(WorkflowExecutionContext context) {
+        CompletableFuture<String>[] stepFutures = new CompletableFuture[workflow.size()];
+        for (int i = 0; i < stepFutures.length; i++) {
+            // 已有检查点的步骤直接复用结果
+            if (context.hasStepResult(i)) {
+                String restored = context.getStepResult(i);
+                context.emit(WorkflowStreamEvent.stepCompleted(context.getExecutionId(), workflow.step(i), restored));
+                stepFutures[i] = CompletableFuture.completedFuture(restored);
+                continue;
+            }
+
+            int[] dependencies = workflow.dependencies(i);
+            CompletableFuture<?>[] upstream = new CompletableFuture[dependencies.length];
+            for (int d = 0; d < dependencies.length; d++) {
+                upstream[d] = stepFutures[dependencies[d]];
+            }
+
+            int index = i;
+            CompletableFuture<String> stepFuture = CompletableFuture.allOf(upstream)
+                    .thenApplyAsync(ignored -> executeStep(index, context), stepExecutor);
+            stepFuture.whenComplete((result, e) -> {
+                if (e != null) {
+                    context.fail(e);
+                }
+            });
+            stepFutures[i] = stepFuture;
+        }
+
+        int[] terminals = workflow.terminals();
+        CompletableFuture<?>[] terminalFutures = new CompletableFuture[terminals.length];
+        for (int t = 0; t < terminals.length; t++) {
+            terminalFutures[t] = stepFutures[terminals[t]];
         }
+        return CompletableFuture.anyOf(CompletableFuture.allOf(terminalFutures), context.getFailure())
+                .thenApply(ignored -> workflow.buildResult(context));
     }
 
     /**
      * 执行单个步骤
      *
-     * @param step         步骤定义
-     * @param initialInput 初始输入数据（用于第一个步骤）
-     * @param stepIndex    步骤索引（从1开始）
-     * @param steps        所有步骤列表（用于获取上一个步骤的输出）
+     * @param index   步骤下标
+     * @param context 执行上下文，已失败时跳过当前步骤
      * @return 步骤执行结果
      */
-    private String executeStep(WorkflowStep step, String initialInput, int stepIndex, List<WorkflowStep> steps, String userId) {
-        // 获取步骤输入（自动链式传递）
-        String stepInput = getStepInput(step, initialInput, stepIndex, steps);
+    private String executeStep(int index, WorkflowExecutionContext context) {
+        WorkflowStep step = workflow.step(index);
+        if (context.isFailed()) {
+            throw new CancellationException("工作流已失败，跳过步骤: " + step.getId());
+        }
 
-        String stepResult = chatService.chatWithWorkflowNode(step.getAgentId(), stepInput, userId);
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            context.emit(WorkflowStreamEvent.stepStarted(context.getExecutionId(), step));
 
-        // 缓存步骤结果
-        stepResults.put(step.getId(), stepResult);
+            String stepInput = workflow.buildInput(index, context);
+            String stepResult = step.isMergeStep()
+                    ? stepInput
+                    : callAgent(step, stepInput, context);
 
-        return stepResult;
+            // 记录步骤结果并保存检查点
+            context.putStepResult(index, stepResult);
+            saveCheckpoint(index, context);
+            context.emit(WorkflowStreamEvent.stepCompleted(context.getExecutionId(), step, stepResult));
+            success = true;
+            return stepResult;
+        } finally {
+            long elapsed = System.nanoTime() - startTime;
+            metrics.recordStep(workflow.getName(), step.getId(), success, elapsed);
+            log.debug("工作流步骤执行结束，步骤ID: {}, 成功: {}, 耗时: {}ms",
+                    step.getId(), success, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
     }
 
     /**
-     * 获取步骤输入（自动链式传递）
-     * 第一个步骤使用用户输入，后续步骤使用上一个步骤的输出
+     * 调用步骤的Agent
+     * <p>
+     * 开启缓存的步骤先查缓存，命中时直接返回（流式执行时作为一次增量内容推送），未命中时调用模型并写入缓存
      *
-     * @param step         步骤定义
-     * @param initialInput 初始输入数据
-     * @param stepIndex    步骤索引（从1开始）
-     * @param steps        所有步骤列表
-     * @return 步骤输入
-     */
-    private String getStepInput(WorkflowStep step, String initialInput, int stepIndex, List<WorkflowStep> steps) {
-        if (stepIndex == 1) {
-            // 第一个步骤使用初始输入
-            return initialInput != null ? initialInput : "";
-        } else {
-            // 后续步骤使用上一个步骤的输出
-            // 获取上一个步骤
-            WorkflowStep previousStep = steps.get(stepIndex - 2); // stepIndex从1开始，所以减2
-            String previousStepId = previousStep.getId();
-            String previousResult = stepResults.get(previousStepId);
-
-            if (previousResult == null) {
-                throw AiException.of(AiErrorCode.VALIDATION_ERROR,
-                        "无法获取输入：上一个步骤结果未找到，步骤ID: " + step.getId() +
-                                ", 上一个步骤ID: " + previousStepId);
+     * @param step      步骤定义
+     * @param stepInput 步骤输入
+     * @param context   执行上下文
+     * @return 步骤输出
+     */
+    private String callAgent(WorkflowStep step, String stepInput, WorkflowExecutionContext context) {
+        String cacheKey = stepResultCache.buildKey(step, stepInput, context.getUserId());
+        if (cacheKey != null) {
+            String cached = stepResultCache.get(step, cacheKey);
+            if (cached != null) {
+                log.debug("步骤结果缓存命中，步骤ID: {}, Agent ID: {}", step.getId(), step.getAgentId());
+                context.emit(WorkflowStreamEvent.token(context.getExecutionId(), step, cached));
+                return cached;
             }
+        }
+
+        String stepResult = context.isStreaming()
+                ? streamAgent(step, stepInput, context)
+                : chatService.chatWithWorkflowNode(step.getAgentId(), stepInput, context.getUserId());
 
-            return previousResult;
+        if (cacheKey != null) {
+            stepResultCache.put(step, cacheKey, stepResult);
+        }
+        return stepResult;
+    }
+
+    /**
+     * 流式调用步骤的Agent
+     * <p>
+     * 模型每输出一段内容就推送增量事件，同时拼接为完整的步骤输出供下游步骤使用
+     *
+     * @param step      步骤定义
+     * @param stepInput 步骤输入
+     * @param context   执行上下文，已失败时停止消费模型输出
+     * @return 步骤完整输出
+     */
+    private String streamAgent(WorkflowStep step, String stepInput, WorkflowExecutionContext context) {
+        StringBuilder output = new StringBuilder();
+        chatService.streamWithWorkflowNode(step.getAgentId(), stepInput, context.getUserId())
+                .takeUntil(ignored -> context.isFailed())
+                .doOnNext(token -> {
+                    output.append(token);
+                    context.emit(WorkflowStreamEvent.token(context.getExecutionId(), step, token));
+                })
+                .blockLast();
+
+        if (context.isFailed()) {
+            throw new CancellationException("工作流已失败，中止步骤: " + step.getId());
+        }
+        return output.toString();
+    }
+
+    /**
+     * 加载执行记录的步骤检查点
+     *
+     * @param executionId 执行记录ID
+     * @return 步骤ID到步骤输出的映射
+     */
+    private Map<String, String> loadCheckpoints(String executionId) {
+        if (executionId == null) {
+            return Map.of();
+        }
+
+        Map<String, String> checkpoints = executionRepository.findStepCheckpoints(executionId);
+        if (!checkpoints.isEmpty()) {
+            log.info("从检查点恢复工作流执行，执行记录ID: {}, 已完成步骤: {}", executionId, checkpoints.keySet());
+        }
+        return checkpoints;
+    }
+
+    /**
+     * 保存步骤检查点
+     * <p>
+     * 检查点保存失败不影响本次执行，只是恢复时需要重新执行该步骤
+     *
+     * @param index   步骤下标
+     * @param context 执行上下文
+     */
+    private void saveCheckpoint(int index, WorkflowExecutionContext context) {
+        if (!context.isCheckpointEnabled()) {
+            return;
+        }
+        WorkflowStep step = workflow.step(index);
+        try {
+            executionRepository.saveStepCheckpoint(context.getExecutionId(), step.getId(), context.getStepResult(index));
+        } catch (Exception e) {
+            log.warn("保存步骤检查点失败，执行记录ID: {}, 步骤ID: {}, 错误: {}",
+                    context.getExecutionId(), step.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 解包异步执行异常
+     */
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
+        return cause;
     }
 
     /**
@@ -1,10 +1,15 @@
 package com.xiaoo.kaleido.ai.domain.workflow.armory;
 
 import com.xiaoo.kaleido.ai.domain.chat.service.IChatService;
-import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowDefinition;
+import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowExecutionRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * 工作流执行引擎工厂
  * <p>
@@ -15,19 +20,36 @@ import org.springframework.stereotype.Component;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WorkflowExecutionEngineFactory {
 
+    private final WorkflowMetrics workflowMetrics;
+    private final IWorkflowExecutionRepository workflowExecutionRepository;
+    private final StepResultCache stepResultCache;
+
+    /**
+     * 工作流步骤线程池（Dynamic-TP管理），用于并发执行互不依赖的步骤
+     */
+    @Resource
+    private ThreadPoolExecutor workflowStepExecutor;
+
+    @PostConstruct
+    public void init() {
+        workflowMetrics.bindExecutor("workflowStepExecutor", workflowStepExecutor);
+    }
+
     /**
      * 创建工作流执行引擎
      *
-     * @param definition  工作流定义
+     * @param workflow    编译后的执行计划
      * @param chatService 聊天服务
      * @return 工作流执行引擎
      */
-    public WorkflowExecutionEngine createEngine(WorkflowDefinition definition, IChatService chatService) {
+    public WorkflowExecutionEngine createEngine(CompiledWorkflow workflow, IChatService chatService) {
         log.info("创建工作流执行引擎，工作流名称: {}, 步骤数: {}",
-                definition.getName(), definition.getStepCount());
+                workflow.getName(), workflow.size());
 
-        return new WorkflowExecutionEngine(definition, chatService);
+        return new WorkflowExecutionEngine(workflow, chatService, workflowStepExecutor, workflowMetrics,
+                workflowExecutionRepository, stepResultCache);
     }
 }
@@ -5,10 +5,12 @@ import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
 import com.xiaoo.kaleido.ai.domain.chat.service.IChatService;
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowAggregate;
 import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowDefinition;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
 import javax.annotation.PostConstruct;
 import java.util.Map;
@@ -41,6 +43,13 @@ public class WorkflowFactory {
      */
     private final Map<String, WorkflowExecutionEngine> workflowEngineCache = new ConcurrentHashMap<>();
 
+    /**
+     * 已应用的变更版本号
+     * key: 工作流ID
+     * value: 最近一次应用的版本号
+     */
+    private final Map<String, Long> appliedVersions = new ConcurrentHashMap<>();
+
     private final IChatService chatService;
     private final WorkflowExecutionEngineFactory workflowExecutionEngineFactory;
 
@@ -81,8 +90,9 @@ public class WorkflowFactory {
                 return;
             }
 
-            // 创建工作流执行引擎
-            WorkflowExecutionEngine engine = workflowExecutionEngineFactory.createEngine(definition, chatService);
+            // 编译执行计划并创建工作流执行引擎
+            CompiledWorkflow compiled = CompiledWorkflow.compile(definition);
+            WorkflowExecutionEngine engine = workflowExecutionEngineFactory.createEngine(compiled, chatService);
 
             // 缓存工作流定义和执行引擎
             workflowDefinitionCache.put(workflowId, definition);
@@ -111,6 +121,24 @@ public class WorkflowFactory {
         }
     }
 
+    /**
+     * 按版本号失效工作流
+     * <p>
+     * 只应用比本节点更新的版本，重复或乱序到达的变更直接忽略。
+     * 失效后由下一次执行按最新定义重新注册，正在执行的实例继续使用旧引擎完成，
+     * 版本号小于等于0时视为未知版本，总是应用
+     *
+     * @param workflowId 工作流ID
+     * @param version    变更版本号
+     */
+    public void invalidateWorkflow(String workflowId, long version) {
+        if (version > 0 && !advanceVersion(workflowId, version)) {
+            log.debug("工作流变更版本已应用，跳过失效，工作流ID: {}, 版本: {}", workflowId, version);
+            return;
+        }
+        unregisterWorkflow(workflowId);
+    }
+
     /**
      * 获取工作流执行引擎
      *
@@ -139,6 +167,19 @@ public class WorkflowFactory {
      * @return 执行结果
      */
     public String executeWorkflow(String workflowId, String inputData,String userId) {
+        return executeWorkflow(workflowId, null, inputData, userId);
+    }
+
+    /**
+     * 执行工作流并按步骤保存检查点
+     *
+     * @param workflowId  工作流ID
+     * @param executionId 执行记录ID，为空时不保存检查点
+     * @param inputData   输入数据
+     * @param userId      用户ID
+     * @return 执行结果
+     */
+    public String executeWorkflow(String workflowId, String executionId, String inputData, String userId) {
         WorkflowExecutionEngine engine = getWorkflowEngine(workflowId);
         if (engine == null) {
             throw AiException.of(AiErrorCode.VALIDATION_ERROR, "工作流执行引擎未找到，工作流ID: " + workflowId);
@@ -148,7 +189,7 @@ public class WorkflowFactory {
             log.info("开始执行工作流，工作流ID: {}, 输入数据长度: {}", workflowId, 
                     inputData != null ? inputData.length() : 0);
             
-            String result = engine.execute(inputData,userId);
+            String result = engine.execute(executionId, inputData, userId);
             
             log.info("工作流执行成功，工作流ID: {}, 输出数据长度: {}", workflowId, 
                     result != null ? result.length() : 0);
@@ -160,6 +201,23 @@ public class WorkflowFactory {
         }
     }
 
+    /**
+     * 流式执行工作流并按步骤保存检查点
+     *
+     * @param workflowId  工作流ID
+     * @param executionId 执行记录ID，为空时不保存检查点
+     * @param inputData   输入数据
+     * @param userId      用户ID
+     * @return 流式执行事件
+     */
+    public Flux<WorkflowStreamEvent> streamWorkflow(String workflowId, String executionId, String inputData, String userId) {
+        WorkflowExecutionEngine engine = getWorkflowEngine(workflowId);
+        if (engine == null) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "工作流执行引擎未找到，工作流ID: " + workflowId);
+        }
+        return engine.stream(executionId, inputData, userId);
+    }
+
     /**
      * 检查工作流是否已注册
      *
@@ -180,6 +238,23 @@ public class WorkflowFactory {
         log.info("清理所有工作流缓存，清理数量: {}", count);
     }
 
+    /**
+     * 推进已应用的版本号
+     *
+     * @return 版本号比已应用的更新时返回true
+     */
+    private boolean advanceVersion(String workflowId, long version) {
+        boolean[] advanced = new boolean[1];
+        appliedVersions.compute(workflowId, (id, applied) -> {
+            if (applied != null && applied >= version) {
+                return applied;
+            }
+            advanced[0] = true;
+            return version;
+        });
+        return advanced[0];
+    }
+
     /**
      * 解析工作流定义
      */
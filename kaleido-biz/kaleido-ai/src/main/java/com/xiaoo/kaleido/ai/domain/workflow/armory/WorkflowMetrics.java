@@ -0,0 +1,106 @@
+package com.xiaoo.kaleido.ai.domain.workflow.armory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作流执行指标
+ * <p>
+ * 统计工作流线程池的运行、排队和拒绝数量，工作流和单个步骤的执行耗时，以及步骤结果缓存的命中情况
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Component
+public class WorkflowMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter rejectedCounter;
+
+    public WorkflowMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("ai.workflow.executions.rejected")
+                .description("线程池饱和被拒绝的工作流执行次数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 注册线程池的运行中和排队中任务数量指标
+     *
+     * @param name     线程池名称
+     * @param executor 线程池
+     */
+    public void bindExecutor(String name, ThreadPoolExecutor executor) {
+        Gauge.builder("ai.workflow.executor.running", executor, ThreadPoolExecutor::getActiveCount)
+                .description("正在执行的任务数量")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("ai.workflow.executor.queued", executor, e -> e.getQueue().size())
+                .description("排队等待执行的任务数量")
+                .tag("executor", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 记录一次被拒绝的工作流执行
+     */
+    public void recordRejected() {
+        rejectedCounter.increment();
+    }
+
+    /**
+     * 记录工作流执行耗时
+     *
+     * @param workflowName 工作流名称
+     * @param success      是否成功
+     * @param nanos        耗时（纳秒）
+     */
+    public void recordExecution(String workflowName, boolean success, long nanos) {
+        Timer.builder("ai.workflow.execution.latency")
+                .description("工作流端到端执行耗时")
+                .tag("workflow", workflowName)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录步骤执行耗时
+     *
+     * @param workflowName 工作流名称
+     * @param stepId       步骤ID
+     * @param success      是否成功
+     * @param nanos        耗时（纳秒）
+     */
+    public void recordStep(String workflowName, String stepId, boolean success, long nanos) {
+        Timer.builder("ai.workflow.step.latency")
+                .description("工作流单个步骤执行耗时")
+                .tag("workflow", workflowName)
+                .tag("step", stepId)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录一次步骤结果缓存查询，命中率为hit与全部查询次数之比
+     *
+     * @param agentId Agent ID
+     * @param hit     是否命中
+     */
+    public void recordCacheLookup(String agentId, boolean hit) {
+        Counter.builder("ai.workflow.step.cache.lookups")
+                .description("步骤结果缓存查询次数")
+                .tag("agent", agentId)
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+}
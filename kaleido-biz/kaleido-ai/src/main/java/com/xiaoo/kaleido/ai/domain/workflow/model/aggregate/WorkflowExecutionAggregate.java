@@ -66,6 +66,16 @@ public class WorkflowExecutionAggregate extends BaseEntity {
      */
     private Date completedAt;
 
+    /**
+     * 执行节点标识
+     */
+    private String nodeId;
+
+    /**
+     * 节点宕机后被恢复执行的次数
+     */
+    private Integer recoveryCount;
+
     /**
      * 创建新工作流执行聚合根
      * <p>
@@ -96,6 +106,7 @@ public class WorkflowExecutionAggregate extends BaseEntity {
                 .status(ExecutionStatus.RUNNING)
                 .inputData(inputData)
                 .startedAt(new Date())
+                .recoveryCount(0)
                 .build();
     }
 
@@ -140,6 +151,35 @@ public class WorkflowExecutionAggregate extends BaseEntity {
         this.completedAt = new Date();
     }
 
+    /**
+     * 重试执行
+     * <p>
+     * 将失败的执行重新置为RUNNING，已完成步骤的检查点保留，重试时从最后完成的步骤继续
+     *
+     * @param nodeId 执行节点标识
+     */
+    public void retry(String nodeId) {
+        if (!isFailed()) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "只有失败的执行记录可以重试");
+        }
+
+        this.status = ExecutionStatus.RUNNING;
+        this.nodeId = nodeId;
+        this.outputData = null;
+        this.errorMessage = null;
+        this.completedAt = null;
+    }
+
+    /**
+     * 检查恢复次数是否已达上限
+     *
+     * @param maxRecoveryCount 最大恢复次数
+     * @return 如果恢复次数超过上限返回true，否则返回false
+     */
+    public boolean isRecoveryExhausted(int maxRecoveryCount) {
+        return recoveryCount != null && recoveryCount > maxRecoveryCount;
+    }
+
     /**
      * 更新执行进度
      * <p>
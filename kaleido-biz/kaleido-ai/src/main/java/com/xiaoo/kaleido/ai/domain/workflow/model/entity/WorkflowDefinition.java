@@ -1,5 +1,6 @@
 package com.xiaoo.kaleido.ai.domain.workflow.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
@@ -7,9 +8,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +33,11 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class WorkflowDefinition {
 
+    /**
+     * 共享的JSON序列化器，ObjectMapper配置完成后线程安全
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * 工作流版本
      */
@@ -54,8 +66,7 @@ public class WorkflowDefinition {
      * @throws JsonProcessingException 如果JSON解析失败
      */
     public static WorkflowDefinition fromJson(String json) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(json, WorkflowDefinition.class);
+        return OBJECT_MAPPER.readValue(json, WorkflowDefinition.class);
     }
 
     /**
@@ -65,8 +76,7 @@ public class WorkflowDefinition {
      * @throws JsonProcessingException 如果JSON序列化失败
      */
     public String toJson() throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.writeValueAsString(this);
+        return OBJECT_MAPPER.writeValueAsString(this);
     }
 
     /**
@@ -100,7 +110,121 @@ public class WorkflowDefinition {
             return false;
         }
 
-        return true;
+        // 验证依赖的步骤存在、模板只引用直接依赖的步骤，且不存在环
+        Set<String> idSet = new HashSet<>(stepIds);
+        Map<String, List<String>> dependencies = resolveDependencies();
+        for (WorkflowStep step : steps) {
+            List<String> stepDependencies = dependencies.get(step.getId());
+            if (!idSet.containsAll(stepDependencies)
+                    || !stepDependencies.containsAll(step.getTemplateStepRefs())) {
+                return false;
+            }
+        }
+        return topologicalSort(dependencies).size() == steps.size();
+    }
+
+    /**
+     * 是否按DAG方式执行
+     * <p>
+     * 任意步骤声明了dependsOn即视为DAG工作流，否则按order顺序链式执行
+     *
+     * @return 如果按DAG方式执行返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean isDag() {
+        return steps != null && steps.stream().anyMatch(WorkflowStep::hasDeclaredDependencies);
+    }
+
+    /**
+     * 解析每个步骤的实际依赖
+     * <p>
+     * DAG工作流使用声明的dependsOn；链式工作流中每个步骤依赖按order排序后的上一个步骤
+     *
+     * @return 步骤ID到依赖步骤ID列表的映射，按order排序
+     */
+    public Map<String, List<String>> resolveDependencies() {
+        Map<String, List<String>> dependencies = new LinkedHashMap<>();
+        boolean dag = isDag();
+        WorkflowStep previous = null;
+        for (WorkflowStep step : getSortedSteps()) {
+            if (dag) {
+                dependencies.put(step.getId(), step.getDependsOn() != null
+                        ? step.getDependsOn().stream().distinct().collect(Collectors.toList())
+                        : List.of());
+            } else {
+                dependencies.put(step.getId(), previous != null ? List.of(previous.getId()) : List.of());
+            }
+            previous = step;
+        }
+        return dependencies;
+    }
+
+    /**
+     * 获取拓扑排序后的步骤列表
+     * <p>
+     * 同一层级的步骤保持order顺序；存在环时返回的列表不包含环上的步骤
+     *
+     * @return 拓扑排序后的步骤列表
+     */
+    @JsonIgnore
+    public List<WorkflowStep> getTopologicalSteps() {
+        return topologicalSort(resolveDependencies());
+    }
+
+    /**
+     * 按给定的依赖关系拓扑排序
+     *
+     * @param dependencies 步骤ID到依赖步骤ID列表的映射，按order排序
+     * @return 拓扑排序后的步骤列表
+     */
+    private List<WorkflowStep> topologicalSort(Map<String, List<String>> dependencies) {
+        Map<String, WorkflowStep> stepById = steps.stream()
+                .collect(Collectors.toMap(WorkflowStep::getId, step -> step, (a, b) -> a));
+
+        Map<String, Integer> inDegree = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : dependencies.entrySet()) {
+            inDegree.put(entry.getKey(), entry.getValue().size());
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        for (String stepId : dependencies.keySet()) {
+            if (inDegree.get(stepId) == 0) {
+                ready.add(stepId);
+            }
+        }
+
+        List<WorkflowStep> result = new ArrayList<>(dependencies.size());
+        while (!ready.isEmpty()) {
+            String stepId = ready.poll();
+            result.add(stepById.get(stepId));
+            for (String dependent : dependents.getOrDefault(stepId, List.of())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取终止步骤列表（没有其他步骤依赖的步骤）
+     * <p>
+     * 终止步骤的输出即为工作流的执行结果，存在多个时按order顺序合并
+     *
+     * @return 终止步骤列表，按order排序
+     */
+    @JsonIgnore
+    public List<WorkflowStep> getTerminalSteps() {
+        Set<String> upstream = resolveDependencies().values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        return getSortedSteps().stream()
+                .filter(step -> !upstream.contains(step.getId()))
+                .collect(Collectors.toList());
     }
 
     /**
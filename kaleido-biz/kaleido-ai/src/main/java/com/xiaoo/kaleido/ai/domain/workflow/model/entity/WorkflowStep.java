@@ -1,11 +1,20 @@
 package com.xiaoo.kaleido.ai.domain.workflow.model.entity;
 
 import cn.hutool.core.util.StrUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.StepCacheScope;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.StepType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * 工作流步骤定义
  * <p>
@@ -20,6 +29,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class WorkflowStep {
 
+    /**
+     * 输入模板占位符：{{input}} 或 {{steps.步骤ID}}
+     */
+    public static final Pattern TEMPLATE_PLACEHOLDER = Pattern.compile("\\{\\{\\s*(input|steps\\.([\\w-]+))\\s*}}");
+
     /**
      * 步骤唯一标识
      */
@@ -40,6 +54,44 @@ public class WorkflowStep {
      */
     private Integer order;
 
+    /**
+     * 步骤类型，为空时视为AGENT
+     */
+    private StepType type;
+
+    /**
+     * 依赖的上游步骤ID列表
+     * <p>
+     * 工作流中所有步骤均未声明依赖时按order顺序链式执行；
+     * 只要有步骤声明了依赖，即按依赖关系以DAG方式执行，未声明依赖的步骤作为起始步骤
+     */
+    private List<String> dependsOn;
+
+    /**
+     * 输入模板（可选）
+     * <p>
+     * 支持占位符 {{input}} 引用工作流输入，{{steps.步骤ID}} 引用上游步骤输出；
+     * 为空时：无依赖的步骤使用工作流输入，单个依赖使用该依赖的输出，多个依赖按声明顺序合并输出
+     */
+    private String inputTemplate;
+
+    /**
+     * 是否缓存步骤结果（可选，默认不缓存）
+     * <p>
+     * 同一Agent配置下相同输入直接复用缓存结果，不再调用模型，只适用于输出相对确定的步骤
+     */
+    private Boolean cacheable;
+
+    /**
+     * 缓存范围，为空时视为USER
+     */
+    private StepCacheScope cacheScope;
+
+    /**
+     * 缓存有效期（秒），为空时使用全局默认值
+     */
+    private Integer cacheTtlSeconds;
+
     /**
      * 验证步骤配置是否有效
      *
@@ -49,6 +101,69 @@ public class WorkflowStep {
         if (StrUtil.isBlank(id)) {
             return false;
         }
+        if (isMergeStep()) {
+            return true;
+        }
         return !StrUtil.isBlank(agentId);
     }
+
+    /**
+     * 是否为合并步骤
+     *
+     * @return 如果是合并步骤返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean isMergeStep() {
+        return type == StepType.MERGE;
+    }
+
+    /**
+     * 是否启用结果缓存
+     *
+     * @return 如果是开启了缓存的Agent步骤返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean isCacheEnabled() {
+        return Boolean.TRUE.equals(cacheable) && !isMergeStep();
+    }
+
+    /**
+     * 缓存是否按用户隔离
+     *
+     * @return 如果按用户隔离返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean isUserScopedCache() {
+        return cacheScope != StepCacheScope.GLOBAL;
+    }
+
+    /**
+     * 获取输入模板中引用的步骤ID
+     *
+     * @return 引用的步骤ID集合，没有模板时返回空集合
+     */
+    @JsonIgnore
+    public Set<String> getTemplateStepRefs() {
+        Set<String> refs = new LinkedHashSet<>();
+        if (StrUtil.isBlank(inputTemplate)) {
+            return refs;
+        }
+        Matcher matcher = TEMPLATE_PLACEHOLDER.matcher(inputTemplate);
+        while (matcher.find()) {
+            if (matcher.group(2) != null) {
+                refs.add(matcher.group(2));
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * 是否声明了依赖
+     *
+     * @return 如果声明了依赖返回true，否则返回false
+     */
+    @JsonIgnore
+    public boolean hasDeclaredDependencies() {
+        return dependsOn != null;
+    }
 }
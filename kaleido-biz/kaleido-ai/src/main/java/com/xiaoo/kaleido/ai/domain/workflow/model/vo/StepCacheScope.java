@@ -0,0 +1,31 @@
+package com.xiaoo.kaleido.ai.domain.workflow.model.vo;
+
+import lombok.Getter;
+
+/**
+ * 步骤结果缓存范围值对象
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Getter
+public enum StepCacheScope {
+
+    /**
+     * 按用户隔离，Agent使用了用户数据（如用户衣橱的向量检索）时必须使用该范围
+     */
+    USER("USER", "用户级缓存"),
+
+    /**
+     * 所有用户共享，仅适用于输出只取决于输入的Agent
+     */
+    GLOBAL("GLOBAL", "全局缓存");
+
+    private final String code;
+    private final String description;
+
+    StepCacheScope(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+}
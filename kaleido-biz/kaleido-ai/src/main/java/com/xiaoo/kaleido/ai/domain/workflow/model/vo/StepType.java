@@ -0,0 +1,31 @@
+package com.xiaoo.kaleido.ai.domain.workflow.model.vo;
+
+import lombok.Getter;
+
+/**
+ * 工作流步骤类型值对象
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Getter
+public enum StepType {
+
+    /**
+     * Agent步骤，调用Agent处理输入
+     */
+    AGENT("AGENT", "Agent步骤"),
+
+    /**
+     * 合并步骤，不调用Agent，直接汇总上游步骤的输出
+     */
+    MERGE("MERGE", "合并步骤");
+
+    private final String code;
+    private final String description;
+
+    StepType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+}
@@ -0,0 +1,85 @@
+package com.xiaoo.kaleido.ai.domain.workflow.model.vo;
+
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowStep;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 工作流流式执行事件值对象
+ * <p>
+ * 流式执行时按发生顺序推送给调用方，同一步骤的增量内容按生成顺序到达，并发步骤的事件可能交错
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WorkflowStreamEvent {
+
+    /**
+     * 事件类型
+     */
+    private final WorkflowStreamEventType type;
+
+    /**
+     * 执行记录ID
+     */
+    private final String executionId;
+
+    /**
+     * 步骤ID，工作流级别的事件为空
+     */
+    private final String stepId;
+
+    /**
+     * 步骤名称，工作流级别的事件为空
+     */
+    private final String stepName;
+
+    /**
+     * 事件内容：增量内容、步骤输出、最终结果或错误信息
+     */
+    private final String content;
+
+    public static WorkflowStreamEvent stepStarted(String executionId, WorkflowStep step) {
+        return ofStep(WorkflowStreamEventType.STEP_STARTED, executionId, step, null);
+    }
+
+    public static WorkflowStreamEvent token(String executionId, WorkflowStep step, String token) {
+        return ofStep(WorkflowStreamEventType.TOKEN, executionId, step, token);
+    }
+
+    public static WorkflowStreamEvent stepCompleted(String executionId, WorkflowStep step, String output) {
+        return ofStep(WorkflowStreamEventType.STEP_COMPLETED, executionId, step, output);
+    }
+
+    public static WorkflowStreamEvent completed(String executionId, String result) {
+        return WorkflowStreamEvent.builder()
+                .type(WorkflowStreamEventType.COMPLETED)
+                .executionId(executionId)
+                .content(result)
+                .build();
+    }
+
+    public static WorkflowStreamEvent failed(String executionId, String errorMessage) {
+        return WorkflowStreamEvent.builder()
+                .type(WorkflowStreamEventType.FAILED)
+                .executionId(executionId)
+                .content(errorMessage)
+                .build();
+    }
+
+    private static WorkflowStreamEvent ofStep(WorkflowStreamEventType type, String executionId,
+                                              WorkflowStep step, String content) {
+        return WorkflowStreamEvent.builder()
+                .type(type)
+                .executionId(executionId)
+                .stepId(step.getId())
+                .stepName(step.getName())
+                .content(content)
+                .build();
+    }
+}
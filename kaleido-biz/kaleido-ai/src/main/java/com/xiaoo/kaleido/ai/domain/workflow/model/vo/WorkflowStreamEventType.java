@@ -0,0 +1,46 @@
+package com.xiaoo.kaleido.ai.domain.workflow.model.vo;
+
+import lombok.Getter;
+
+/**
+ * 工作流流式执行事件类型值对象
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Getter
+public enum WorkflowStreamEventType {
+
+    /**
+     * 步骤开始执行
+     */
+    STEP_STARTED("step-started", "步骤开始"),
+
+    /**
+     * 步骤输出的增量内容
+     */
+    TOKEN("token", "增量内容"),
+
+    /**
+     * 步骤执行完成，携带步骤完整输出
+     */
+    STEP_COMPLETED("step-completed", "步骤完成"),
+
+    /**
+     * 工作流执行完成，携带最终结果
+     */
+    COMPLETED("completed", "执行完成"),
+
+    /**
+     * 工作流执行失败，携带错误信息
+     */
+    FAILED("failed", "执行失败");
+
+    private final String code;
+    private final String description;
+
+    WorkflowStreamEventType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+}
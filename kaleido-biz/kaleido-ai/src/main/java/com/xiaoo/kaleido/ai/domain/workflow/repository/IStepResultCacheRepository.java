@@ -0,0 +1,29 @@
+package com.xiaoo.kaleido.ai.domain.workflow.repository;
+
+import java.time.Duration;
+
+/**
+ * 工作流步骤结果缓存仓储接口
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+public interface IStepResultCacheRepository {
+
+    /**
+     * 查询缓存的步骤结果
+     *
+     * @param cacheKey 缓存键
+     * @return 步骤结果，未命中时返回null
+     */
+    String find(String cacheKey);
+
+    /**
+     * 保存步骤结果
+     *
+     * @param cacheKey 缓存键
+     * @param result   步骤结果
+     * @param ttl      有效期
+     */
+    void save(String cacheKey, String result, Duration ttl);
+}
@@ -2,7 +2,9 @@ package com.xiaoo.kaleido.ai.domain.workflow.repository;
 
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowExecutionAggregate;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 工作流执行仓储接口
@@ -87,4 +89,65 @@ public interface IWorkflowExecutionRepository {
      */
     List<WorkflowExecutionAggregate> findByUserId(String userId);
 
+    /**
+     * 保存步骤检查点
+     * <p>
+     * 同一执行记录的同一步骤只保留一份输出，同时刷新执行记录的更新时间作为心跳
+     *
+     * @param executionId 执行记录ID，不能为空
+     * @param stepId      步骤ID，不能为空
+     * @param outputData  步骤输出
+     */
+    void saveStepCheckpoint(String executionId, String stepId, String outputData);
+
+    /**
+     * 查询执行记录已完成步骤的检查点
+     *
+     * @param executionId 执行记录ID，不能为空
+     * @return 步骤ID到步骤输出的映射，没有检查点时返回空映射
+     */
+    Map<String, String> findStepCheckpoints(String executionId);
+
+    /**
+     * 删除执行记录的全部步骤检查点
+     *
+     * @param executionId 执行记录ID，不能为空
+     */
+    void deleteStepCheckpoints(String executionId);
+
+    /**
+     * 查找需要恢复的执行记录
+     * <p>
+     * 包括本节点在启动前遗留的执行中记录，以及任意节点上心跳超时的执行中记录
+     *
+     * @param nodeId        当前节点标识
+     * @param startedBefore 当前节点启动时间
+     * @param staleBefore   心跳超时时间点
+     * @param limit         最大数量
+     * @return 需要恢复的执行记录列表
+     */
+    List<WorkflowExecutionAggregate> findOrphanedExecutions(String nodeId, Date startedBefore, Date staleBefore, int limit);
+
+    /**
+     * 认领执行记录
+     * <p>
+     * 以乐观锁将执行记录的执行节点改为当前节点并累加恢复次数，多个节点同时恢复时只有一个成功
+     *
+     * @param execution 执行记录
+     * @param nodeId    当前节点标识
+     * @return 认领成功返回true，否则返回false
+     */
+    boolean claim(WorkflowExecutionAggregate execution, String nodeId);
+
+    /**
+     * 重试执行记录
+     * <p>
+     * 以乐观锁将失败的执行记录置为执行中，同一记录被并发重试时只有一个成功
+     *
+     * @param execution 执行记录，版本号为查询时的值
+     * @param nodeId    当前节点标识
+     * @return 重试成功返回true，记录已不是失败状态或已被修改时返回false
+     */
+    boolean retry(WorkflowExecutionAggregate execution, String nodeId);
+
 }
@@ -0,0 +1,97 @@
+package com.xiaoo.kaleido.ai.infrastructure.adapter.embedding;
+
+import com.xiaoo.kaleido.redis.service.EmbeddingCacheService;
+import org.springframework.ai.chat.metadata.EmptyUsage;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 带缓存的向量模型
+ * <p>
+ * 包装实际的向量模型，按模型和文本内容摘要缓存向量，文本不变时不再调用向量化接口。
+ * 向量存储写入、检索增强查询和维度探测都经过这里。
+ * 缓存键取请求选项与实际模型默认选项合并后的模型和维度；响应元数据只反映未命中部分实际调用的用量
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    /**
+     * 维度探测文本
+     */
+    private static final String DIMENSION_PROBE_TEXT = "Test String";
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheService embeddingCacheService;
+    private final EmbeddingOptions defaultOptions;
+
+    /**
+     * @param delegate              实际的向量模型
+     * @param embeddingCacheService 向量缓存服务
+     * @param defaultOptions        实际向量模型生效的默认选项，请求未指定模型或维度时以此为准
+     */
+    public CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCacheService embeddingCacheService,
+                                 EmbeddingOptions defaultOptions) {
+        this.delegate = delegate;
+        this.embeddingCacheService = embeddingCacheService;
+        this.defaultOptions = defaultOptions;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        EmbeddingOptions options = request.getOptions();
+        AtomicReference<EmbeddingResponseMetadata> metadata = new AtomicReference<>();
+        List<float[]> vectors = embeddingCacheService.embedAll(modelKey(options), request.getInstructions(),
+                missing -> {
+                    EmbeddingResponse response = delegate.call(new EmbeddingRequest(missing, options));
+                    metadata.set(response.getMetadata());
+                    return response.getResults().stream()
+                            .map(Embedding::getOutput)
+                            .toList();
+                });
+
+        List<Embedding> embeddings = new ArrayList<>(vectors.size());
+        for (int i = 0; i < vectors.size(); i++) {
+            embeddings.add(new Embedding(vectors.get(i), i));
+        }
+        // 全部命中缓存时没有实际调用，用量为空
+        EmbeddingResponseMetadata responseMetadata = metadata.get() != null ? metadata.get()
+                : new EmbeddingResponseMetadata(model(options), new EmptyUsage());
+        return new EmbeddingResponse(embeddings, responseMetadata);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getFormattedContent(MetadataMode.EMBED));
+    }
+
+    @Override
+    public int dimensions() {
+        return embed(DIMENSION_PROBE_TEXT).length;
+    }
+
+    /**
+     * 构建模型标识，模型或维度不同的向量互不复用
+     */
+    private String modelKey(EmbeddingOptions options) {
+        String model = model(options);
+        Integer dimensions = options != null && options.getDimensions() != null
+                ? options.getDimensions() : defaultOptions.getDimensions();
+        return dimensions != null ? model + ":" + dimensions : model;
+    }
+
+    private String model(EmbeddingOptions options) {
+        return options != null && options.getModel() != null ? options.getModel() : defaultOptions.getModel();
+    }
+}
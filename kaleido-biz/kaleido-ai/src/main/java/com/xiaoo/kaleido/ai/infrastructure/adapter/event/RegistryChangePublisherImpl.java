@@ -0,0 +1,65 @@
+package com.xiaoo.kaleido.ai.infrastructure.adapter.event;
+
+import com.alibaba.fastjson2.JSON;
+import com.xiaoo.kaleido.ai.domain.agent.adapter.event.IAgentChangePublisher;
+import com.xiaoo.kaleido.ai.domain.workflow.adapter.event.IWorkflowChangePublisher;
+import com.xiaoo.kaleido.ai.types.event.RegistryChangeMessage;
+import com.xiaoo.kaleido.ai.types.event.RegistryType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 注册中心变更发布器实现
+ * 基础设施层实现，通过Redis发布订阅向所有节点广播Agent和工作流的变更
+ * <p>
+ * RabbitMQ的队列是竞争消费，同一条消息只会被一个节点收到，因此这里使用Redis广播。
+ * 版本号由Redis按条目原子递增生成，保证跨节点单调
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegistryChangePublisherImpl implements IAgentChangePublisher, IWorkflowChangePublisher {
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public long publishAgentChanged(String agentId) {
+        return publish(RegistryType.AGENT, agentId);
+    }
+
+    @Override
+    public long publishWorkflowChanged(String workflowId) {
+        return publish(RegistryType.WORKFLOW, workflowId);
+    }
+
+    /**
+     * 生成版本号并广播变更，失败时只记录日志，不影响已提交的业务操作
+     */
+    private long publish(RegistryType type, String id) {
+        try {
+            long version = redissonClient
+                    .getAtomicLong(RegistryChangeMessage.VERSION_KEY_PREFIX + type.getCode() + ":" + id)
+                    .incrementAndGet();
+
+            RegistryChangeMessage message = RegistryChangeMessage.builder()
+                    .type(type)
+                    .id(id)
+                    .version(version)
+                    .build();
+            long receivers = redissonClient.getTopic(RegistryChangeMessage.TOPIC, StringCodec.INSTANCE)
+                    .publish(JSON.toJSONString(message));
+
+            log.info("注册中心变更广播成功，类型: {}, ID: {}, 版本: {}, 接收节点数: {}", type, id, version, receivers);
+            return version;
+        } catch (Exception e) {
+            log.error("注册中心变更广播失败，类型: {}, ID: {}, 错误: {}", type, id, e.getMessage(), e);
+            return 0L;
+        }
+    }
+}
@@ -1,16 +1,51 @@
 package com.xiaoo.kaleido.ai.infrastructure.adapter.repository;
 
 import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingVectorRepository;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingSearchQuery;
 import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingVector;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.milvus.client.MilvusServiceClient;
+import io.milvus.common.clientenum.ConsistencyLevelEnum;
+import io.milvus.grpc.DataType;
+import io.milvus.grpc.DescribeAliasResponse;
+import io.milvus.grpc.MutationResult;
+import io.milvus.grpc.QueryResults;
+import io.milvus.param.IndexType;
+import io.milvus.param.MetricType;
+import io.milvus.param.R;
+import io.milvus.param.alias.AlterAliasParam;
+import io.milvus.param.alias.CreateAliasParam;
+import io.milvus.param.alias.DescribeAliasParam;
+import io.milvus.param.collection.CollectionSchemaParam;
+import io.milvus.param.collection.CreateCollectionParam;
+import io.milvus.param.collection.DropCollectionParam;
+import io.milvus.param.collection.FieldType;
+import io.milvus.param.collection.HasCollectionParam;
+import io.milvus.param.collection.LoadCollectionParam;
+import io.milvus.param.dml.DeleteParam;
+import io.milvus.param.dml.InsertParam;
+import io.milvus.param.dml.QueryParam;
+import io.milvus.param.dml.UpsertParam;
+import io.milvus.param.index.CreateIndexParam;
+import io.milvus.response.QueryResultsWrapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.milvus.MilvusVectorStore;
+import org.springframework.ai.vectorstore.milvus.autoconfigure.MilvusVectorStoreProperties;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,20 +64,29 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository {
 
+    private static final Gson GSON = new Gson();
+
     private final MilvusVectorStore vectorStore;
+    private final MilvusVectorStoreProperties milvusProperties;
+    private final EmbeddingModel embeddingModel;
 
     @Override
     public void save(List<ClothingVector> clothingVectors) {
+        save(milvusProperties.getCollectionName(), clothingVectors);
+    }
+
+    @Override
+    public void save(String collectionName, List<ClothingVector> clothingVectors) {
         try {
-            log.info("开始保存 {} 件衣服信息到Milvus", clothingVectors.size());
+            log.info("开始保存 {} 件衣服信息到Milvus，集合: {}", clothingVectors.size(), collectionName);
 
-            // 1. 转换领域实体为Spring AI Document
+            // 1. 转换领域实体为Spring AI Document，文档ID由服装ID确定性生成
             List<Document> aiDocuments = clothingVectors.stream()
                     .map(this::convertToDocument)
                     .collect(Collectors.toList());
 
-            // 2. 保存到向量存储
-            vectorStore.add(aiDocuments);
+            // 2. 按主键覆盖写入向量存储
+            upsert(collectionName, aiDocuments);
 
             log.info("成功保存 {} 件衣服信息到Milvus", aiDocuments.size());
         } catch (Exception e) {
@@ -52,28 +96,32 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
     }
 
     @Override
-    public List<ClothingVector> searchBySimilarity(String queryText, int topK) {
+    public List<ClothingVector> searchBySimilarity(ClothingSearchQuery query) {
         try {
-            log.info("开始根据相似度搜索服装文档，查询文本: {}, topK: {}", queryText, topK);
-            
-            // 1. 构建搜索请求
-            SearchRequest searchRequest = SearchRequest.builder()
-                    .query(queryText)
-                    .topK(topK)
-                    .build();
-            
+            log.info("开始根据相似度搜索服装文档，用户ID: {}, 查询文本: {}, topK: {}",
+                    query.getUserId(), query.getQueryText(), query.resolveTopK());
+
+            // 1. 构建搜索请求，标量条件在向量检索前过滤
+            SearchRequest.Builder builder = SearchRequest.builder()
+                    .query(query.getQueryText())
+                    .topK(query.resolveTopK())
+                    .filterExpression(query.toFilterExpression());
+            if (query.getSimilarityThreshold() != null) {
+                builder.similarityThreshold(query.getSimilarityThreshold());
+            }
+
             // 2. 执行相似度搜索
-            List<Document> aiDocuments = vectorStore.similaritySearch(searchRequest);
-            
+            List<Document> aiDocuments = vectorStore.similaritySearch(builder.build());
+
             // 3. 转换回领域实体
             List<ClothingVector> clothingVectors = aiDocuments.stream()
                     .map(this::convertToClothingVector)
                     .collect(Collectors.toList());
-            
+
             log.info("相似度搜索完成，找到 {} 个相关文档", clothingVectors.size());
             return clothingVectors;
         } catch (Exception e) {
-            log.error("相似度搜索失败，查询文本: {}, topK: {}", queryText, topK, e);
+            log.error("相似度搜索失败，用户ID: {}, 查询文本: {}", query.getUserId(), query.getQueryText(), e);
             throw AiException.of(AiErrorCode.VECTOR_STORE_SEARCH_FAIL);
         }
     }
@@ -82,29 +130,64 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
     public void deleteByClothingId(String clothingId) {
         try {
             log.info("开始根据服装ID删除文档，服装ID: {}", clothingId);
-            
-            // 构建过滤条件：根据 clothingId 元数据删除
-            // 先搜索获取所有匹配的文档ID
-            SearchRequest searchRequest = SearchRequest.builder()
-                    .query("")
-                    .topK(1)
-                    .filterExpression("clothingId == '" + clothingId + "'")
+
+            // 按元数据过滤条件删除，不需要先检索文档ID
+            vectorStore.delete("clothingId == '" + clothingId + "'");
+
+            log.info("成功根据服装ID删除文档，服装ID: {}", clothingId);
+        } catch (Exception e) {
+            log.error("根据服装ID删除文档失败，服装ID: {}", clothingId, e);
+            throw AiException.of(AiErrorCode.VECTOR_STORE_DELETE_FAIL);
+        }
+    }
+
+    @Override
+    public void deleteByClothingIds(Collection<String> clothingIds) {
+        if (clothingIds == null || clothingIds.isEmpty()) {
+            return;
+        }
+        try {
+            log.info("开始根据服装ID批量删除文档，服装数: {}", clothingIds.size());
+
+            // 按元数据过滤条件删除，不需要先检索文档ID
+            String filterExpression = clothingIds.stream()
+                    .map(clothingId -> "'" + clothingId + "'")
+                    .collect(Collectors.joining(", ", "clothingId in [", "]"));
+            vectorStore.delete(filterExpression);
+
+            log.info("成功根据服装ID批量删除文档，服装数: {}", clothingIds.size());
+        } catch (Exception e) {
+            log.error("根据服装ID批量删除文档失败，服装数: {}", clothingIds.size(), e);
+            throw AiException.of(AiErrorCode.VECTOR_STORE_DELETE_FAIL);
+        }
+    }
+
+    @Override
+    public void deleteByClothingIds(String collectionName, Collection<String> clothingIds) {
+        if (clothingIds == null || clothingIds.isEmpty()) {
+            return;
+        }
+        try {
+            log.info("开始根据服装ID批量删除文档，集合: {}, 服装数: {}", collectionName, clothingIds.size());
+
+            // 与MilvusVectorStore的过滤条件转换结果一致，按元数据中的服装ID删除
+            String expression = clothingIds.stream()
+                    .map(clothingId -> "\"" + clothingId + "\"")
+                    .collect(Collectors.joining(", ",
+                            milvusProperties.getMetadataFieldName() + "[\"clothingId\"] in [", "]"));
+            DeleteParam deleteParam = DeleteParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(collectionName)
+                    .withExpr(expression)
                     .build();
-            
-            List<Document> documents = vectorStore.similaritySearch(searchRequest);
-            
-            // 获取文档ID并删除
-            List<String> documentIds = documents.stream()
-                    .map(Document::getId)
-                    .collect(Collectors.toList());
-            
-            if (!documentIds.isEmpty()) {
-                vectorStore.delete(documentIds);
+            R<MutationResult> response = milvusClient().delete(deleteParam);
+            if (response.getException() != null) {
+                throw response.getException();
             }
-            
-            log.info("成功根据服装ID删除文档，服装ID: {}, 删除文档数: {}", clothingId, documentIds.size());
+
+            log.info("成功根据服装ID批量删除文档，集合: {}, 服装数: {}", collectionName, clothingIds.size());
         } catch (Exception e) {
-            log.error("根据服装ID删除文档失败，服装ID: {}", clothingId, e);
+            log.error("根据服装ID批量删除文档失败，集合: {}, 服装数: {}", collectionName, clothingIds.size(), e);
             throw AiException.of(AiErrorCode.VECTOR_STORE_DELETE_FAIL);
         }
     }
@@ -113,27 +196,11 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
     public void deleteByUserId(String userId) {
         try {
             log.info("开始根据用户ID删除文档，用户ID: {}", userId);
-            
-            // 构建过滤条件：根据 userId 元数据删除
-            // 先搜索获取所有匹配的文档ID
-            SearchRequest searchRequest = SearchRequest.builder()
-                    .query("")
-                    .topK(10000) // 假设最多10000个文档
-                    .filterExpression("userId == '" + userId + "'")
-                    .build();
-            
-            List<Document> documents = vectorStore.similaritySearch(searchRequest);
-            
-            // 获取文档ID并删除
-            List<String> documentIds = documents.stream()
-                    .map(Document::getId)
-                    .collect(Collectors.toList());
-            
-            if (!documentIds.isEmpty()) {
-                vectorStore.delete(documentIds);
-            }
-            
-            log.info("成功根据用户ID删除文档，用户ID: {}, 删除文档数: {}", userId, documentIds.size());
+
+            // 按元数据过滤条件删除，删除该用户的全部文档，不受数量限制
+            vectorStore.delete(ClothingSearchQuery.userScope(userId));
+
+            log.info("成功根据用户ID删除文档，用户ID: {}", userId);
         } catch (Exception e) {
             log.error("根据用户ID删除文档失败，用户ID: {}", userId, e);
             throw AiException.of(AiErrorCode.VECTOR_STORE_DELETE_FAIL);
@@ -144,18 +211,21 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
     public boolean existsByClothingId(String clothingId) {
         try {
             log.debug("检查服装文档是否存在，服装ID: {}", clothingId);
-            
-            // 构建搜索请求
-            SearchRequest searchRequest = SearchRequest.builder()
-                    .query("")
-                    .topK(1)
-                    .filterExpression("clothingId == '" + clothingId + "'")
+
+            // 按主键查询，不需要向量化查询文本和相似度检索
+            QueryParam queryParam = QueryParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(milvusProperties.getCollectionName())
+                    .withExpr(milvusProperties.getIdFieldName() + " == \"" + ClothingVector.documentId(clothingId) + "\"")
+                    .withOutFields(List.of(milvusProperties.getIdFieldName()))
+                    .withLimit(1L)
                     .build();
-            
-            // 搜索一个文档来判断是否存在
-            List<Document> documents = vectorStore.similaritySearch(searchRequest);
-            
-            boolean exists = !documents.isEmpty();
+            R<QueryResults> response = milvusClient().query(queryParam);
+            if (response.getException() != null) {
+                throw response.getException();
+            }
+
+            boolean exists = new QueryResultsWrapper(response.getData()).getRowCount() > 0;
             log.debug("服装文档存在检查完成，服装ID: {}, 存在: {}", clothingId, exists);
             return exists;
         } catch (Exception e) {
@@ -164,6 +234,197 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
         }
     }
 
+    @Override
+    public String servingAlias() {
+        return milvusProperties.getCollectionName();
+    }
+
+    @Override
+    public boolean createCollection(String collectionName) {
+        try {
+            MilvusServiceClient client = milvusClient();
+            if (hasCollection(client, collectionName)) {
+                return false;
+            }
+            log.info("开始创建向量集合，集合: {}", collectionName);
+
+            // 1. 字段布局与MilvusVectorStore初始化的集合一致
+            int dimension = milvusProperties.getEmbeddingDimension() > 0
+                    ? milvusProperties.getEmbeddingDimension()
+                    : embeddingModel.dimensions();
+            CollectionSchemaParam schema = CollectionSchemaParam.newBuilder()
+                    .addFieldType(FieldType.newBuilder()
+                            .withName(milvusProperties.getIdFieldName())
+                            .withDataType(DataType.VarChar)
+                            .withMaxLength(36)
+                            .withPrimaryKey(true)
+                            .withAutoID(false)
+                            .build())
+                    .addFieldType(FieldType.newBuilder()
+                            .withName(milvusProperties.getContentFieldName())
+                            .withDataType(DataType.VarChar)
+                            .withMaxLength(65535)
+                            .build())
+                    .addFieldType(FieldType.newBuilder()
+                            .withName(milvusProperties.getMetadataFieldName())
+                            .withDataType(DataType.JSON)
+                            .build())
+                    .addFieldType(FieldType.newBuilder()
+                            .withName(milvusProperties.getEmbeddingFieldName())
+                            .withDataType(DataType.FloatVector)
+                            .withDimension(dimension)
+                            .build())
+                    .build();
+            check(client.createCollection(CreateCollectionParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(collectionName)
+                    .withConsistencyLevel(ConsistencyLevelEnum.STRONG)
+                    .withSchema(schema)
+                    .build()));
+
+            // 2. 建立向量索引并加载
+            check(client.createIndex(CreateIndexParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(collectionName)
+                    .withFieldName(milvusProperties.getEmbeddingFieldName())
+                    .withIndexType(IndexType.valueOf(milvusProperties.getIndexType().name()))
+                    .withMetricType(MetricType.valueOf(milvusProperties.getMetricType().name()))
+                    .withExtraParam(milvusProperties.getIndexParameters())
+                    .withSyncMode(Boolean.FALSE)
+                    .build()));
+            check(client.loadCollection(LoadCollectionParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(collectionName)
+                    .build()));
+
+            log.info("成功创建向量集合，集合: {}, 维度: {}", collectionName, dimension);
+            return true;
+        } catch (AiException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("创建向量集合失败，集合: {}", collectionName, e);
+            throw AiException.of(AiErrorCode.VECTOR_STORE_COLLECTION_FAIL, "创建向量集合失败: " + collectionName);
+        }
+    }
+
+    @Override
+    public String switchAlias(String collectionName) {
+        String alias = servingAlias();
+        MilvusServiceClient client = milvusClient();
+
+        // 1. 别名已存在时原子切换
+        R<DescribeAliasResponse> described = client.describeAlias(DescribeAliasParam.newBuilder()
+                .withDatabaseName(milvusProperties.getDatabaseName())
+                .withAlias(alias)
+                .build());
+        if (described.getException() == null && described.getData() != null) {
+            String previous = described.getData().getCollection();
+            check(client.alterAlias(AlterAliasParam.newBuilder()
+                    .withDatabaseName(milvusProperties.getDatabaseName())
+                    .withCollectionName(collectionName)
+                    .withAlias(alias)
+                    .build()));
+            log.info("向量集合别名已切换，别名: {}, {} -> {}", alias, previous, collectionName);
+            return previous;
+        }
+
+        // 2. 别名不存在：同名的物理集合需要先人工迁移，否则别名无法创建
+        if (hasCollection(client, alias)) {
+            throw AiException.of(AiErrorCode.VECTOR_STORE_COLLECTION_FAIL,
+                    "对外服务的集合名称已被物理集合占用，无法创建别名: " + alias);
+        }
+        check(client.createAlias(CreateAliasParam.newBuilder()
+                .withDatabaseName(milvusProperties.getDatabaseName())
+                .withCollectionName(collectionName)
+                .withAlias(alias)
+                .build()));
+        log.info("向量集合别名已创建，别名: {} -> {}", alias, collectionName);
+        return null;
+    }
+
+    @Override
+    public void dropCollection(String collectionName) {
+        MilvusServiceClient client = milvusClient();
+        if (!hasCollection(client, collectionName)) {
+            return;
+        }
+        check(client.dropCollection(DropCollectionParam.newBuilder()
+                .withDatabaseName(milvusProperties.getDatabaseName())
+                .withCollectionName(collectionName)
+                .build()));
+        log.info("向量集合已删除，集合: {}", collectionName);
+    }
+
+    private boolean hasCollection(MilvusServiceClient client, String collectionName) {
+        R<Boolean> response = client.hasCollection(HasCollectionParam.newBuilder()
+                .withDatabaseName(milvusProperties.getDatabaseName())
+                .withCollectionName(collectionName)
+                .build());
+        check(response);
+        return Boolean.TRUE.equals(response.getData());
+    }
+
+    private static void check(R<?> response) {
+        if (response.getException() != null) {
+            throw AiException.of(AiErrorCode.VECTOR_STORE_COLLECTION_FAIL, response.getException().getMessage());
+        }
+    }
+
+    /**
+     * 按主键覆盖写入文档
+     * <p>
+     * MilvusVectorStore只提供insert，相同主键会重复写入，这里直接使用Milvus的upsert，
+     * 字段布局与MilvusVectorStore保持一致，整批文本一次向量化
+     */
+    private void upsert(String collectionName, List<Document> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<float[]> embeddings = embeddingModel.embed(documents.stream()
+                .map(Document::getText)
+                .toList());
+
+        List<String> ids = new ArrayList<>(documents.size());
+        List<String> contents = new ArrayList<>(documents.size());
+        List<JsonObject> metadata = new ArrayList<>(documents.size());
+        List<List<Float>> vectors = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            Document document = documents.get(i);
+            ids.add(document.getId());
+            contents.add(document.getText());
+            metadata.add(GSON.toJsonTree(document.getMetadata()).getAsJsonObject());
+            vectors.add(toFloatList(embeddings.get(i)));
+        }
+
+        UpsertParam upsertParam = UpsertParam.newBuilder()
+                .withDatabaseName(milvusProperties.getDatabaseName())
+                .withCollectionName(collectionName)
+                .withFields(List.of(
+                        new InsertParam.Field(milvusProperties.getIdFieldName(), ids),
+                        new InsertParam.Field(milvusProperties.getContentFieldName(), contents),
+                        new InsertParam.Field(milvusProperties.getMetadataFieldName(), metadata),
+                        new InsertParam.Field(milvusProperties.getEmbeddingFieldName(), vectors)))
+                .build();
+        R<MutationResult> response = milvusClient().upsert(upsertParam);
+        if (response.getException() != null) {
+            throw AiException.of(AiErrorCode.VECTOR_STORE_SAVE_FAIL, response.getException().getMessage());
+        }
+    }
+
+    private MilvusServiceClient milvusClient() {
+        return vectorStore.<MilvusServiceClient>getNativeClient()
+                .orElseThrow(() -> AiException.of(AiErrorCode.VECTOR_STORE_SAVE_FAIL, "Milvus客户端不可用"));
+    }
+
+    private static List<Float> toFloatList(float[] embedding) {
+        List<Float> vector = new ArrayList<>(embedding.length);
+        for (float value : embedding) {
+            vector.add(value);
+        }
+        return vector;
+    }
+
     /**
      * 将 ClothingVector 领域实体转换为 Spring AI Document
      */
@@ -185,8 +446,11 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
         metadata.put("description", clothingVector.getDescription() != null ? clothingVector.getDescription() : "");
 //        metadata.put("currentLocationName", clothingVector.getCurrentLocationName() != null ? clothingVector.getCurrentLocationName() : "");
         metadata.put("wearCount", clothingVector.getWearCount() != null ? clothingVector.getWearCount().toString() : "0");
+        if (clothingVector.getPurchaseDate() != null) {
+            metadata.put("purchaseDate", clothingVector.getPurchaseDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
 
-        return new Document(content, metadata);
+        return new Document(clothingVector.documentId(), content, metadata);
     }
 
     /**
@@ -206,6 +470,37 @@ public class ClothingDocumentRepositoryImpl implements IClothingVectorRepository
                 .size((String) metadata.get("size"))
                 .description((String) metadata.get("description"))
 //                .currentLocationName((String) metadata.get("currentLocationName"))
+                .price(parseDecimal(metadata.get("price")))
+                .wearCount(parseInteger(metadata.get("wearCount")))
+                .purchaseDate(metadata.get("purchaseDate") instanceof Number epochMilli
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli.longValue()), ZoneId.systemDefault())
+                        : null)
+                .score(aiDocument.getScore())
                 .build();
     }
+
+    private static BigDecimal parseDecimal(Object value) {
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseInteger(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value == null || value.toString().isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
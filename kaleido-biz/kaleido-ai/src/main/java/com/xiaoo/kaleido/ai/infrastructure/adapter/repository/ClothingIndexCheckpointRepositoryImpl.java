@@ -0,0 +1,91 @@
+package com.xiaoo.kaleido.ai.infrastructure.adapter.repository;
+
+import com.alibaba.fastjson2.JSON;
+import com.xiaoo.kaleido.ai.domain.clothing.adapter.repository.IClothingIndexCheckpointRepository;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * 服装向量索引重建检查点仓储实现（基础设施层）
+ * <p>
+ * 检查点以JSON存放在Redis中，重建期间变更的服装ID按影子集合存放在Redis集合中，
+ * 都不设置过期时间，由重建任务完成或放弃时删除
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClothingIndexCheckpointRepositoryImpl implements IClothingIndexCheckpointRepository {
+
+    private static final String CHECKPOINT_KEY = "ai:clothing:index:checkpoint";
+
+    private static final String TOUCHED_KEY = "ai:clothing:index:touched:";
+
+    private static final String SHADOW_LOCK_KEY = "ai:clothing:index:shadow:lock";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public ClothingIndexCheckpoint find() {
+        String json = bucket().get();
+        return json == null ? null : JSON.parseObject(json, ClothingIndexCheckpoint.class);
+    }
+
+    @Override
+    public void save(ClothingIndexCheckpoint checkpoint) {
+        bucket().set(JSON.toJSONString(checkpoint));
+    }
+
+    @Override
+    public void delete() {
+        ClothingIndexCheckpoint checkpoint = find();
+        if (checkpoint != null) {
+            clearTouched(checkpoint.getCollectionName());
+        }
+        bucket().delete();
+    }
+
+    @Override
+    public void markTouched(String collectionName, Collection<String> clothingIds) {
+        if (!clothingIds.isEmpty()) {
+            touched(collectionName).addAll(clothingIds);
+        }
+    }
+
+    @Override
+    public Set<String> findTouched(String collectionName, Collection<String> clothingIds) {
+        if (clothingIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(touched(collectionName).containsEach(clothingIds));
+    }
+
+    @Override
+    public void clearTouched(String collectionName) {
+        touched(collectionName).delete();
+    }
+
+    @Override
+    public ReadWriteLock shadowWriteLock() {
+        return redissonClient.getReadWriteLock(SHADOW_LOCK_KEY);
+    }
+
+    private RSet<String> touched(String collectionName) {
+        return redissonClient.getSet(TOUCHED_KEY + collectionName, StringCodec.INSTANCE);
+    }
+
+    private RBucket<String> bucket() {
+        return redissonClient.getBucket(CHECKPOINT_KEY, StringCodec.INSTANCE);
+    }
+}
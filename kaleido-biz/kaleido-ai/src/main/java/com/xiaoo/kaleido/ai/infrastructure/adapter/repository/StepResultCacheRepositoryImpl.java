@@ -0,0 +1,57 @@
+package com.xiaoo.kaleido.ai.infrastructure.adapter.repository;
+
+import com.alicp.jetcache.Cache;
+import com.alicp.jetcache.CacheManager;
+import com.alicp.jetcache.anno.CacheType;
+import com.alicp.jetcache.template.QuickConfig;
+import com.xiaoo.kaleido.ai.domain.workflow.repository.IStepResultCacheRepository;
+import com.xiaoo.kaleido.ai.types.config.WorkflowStepCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作流步骤结果缓存仓储实现（基础设施层）
+ * <p>
+ * 本地Caffeine加Redis两级缓存，本地缓存容量和有效期较小，只用于挡住热点输入的重复读取
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Repository
+@RequiredArgsConstructor
+public class StepResultCacheRepositoryImpl implements IStepResultCacheRepository {
+
+    private final CacheManager cacheManager;
+    private final WorkflowStepCacheProperties properties;
+
+    /**
+     * 步骤结果缓存
+     */
+    private Cache<String, String> stepResultCache;
+
+    @PostConstruct
+    public void init() {
+        QuickConfig qc = QuickConfig.newBuilder(":ai:workflow:step:")
+                .cacheType(CacheType.BOTH)
+                .localLimit(properties.getLocalLimit())
+                .localExpire(Duration.ofSeconds(properties.getLocalExpireSeconds()))
+                .expire(Duration.ofSeconds(properties.getDefaultTtlSeconds()))
+                .syncLocal(true)
+                .build();
+        stepResultCache = cacheManager.getOrCreateCache(qc);
+    }
+
+    @Override
+    public String find(String cacheKey) {
+        return stepResultCache.get(cacheKey);
+    }
+
+    @Override
+    public void save(String cacheKey, String result, Duration ttl) {
+        stepResultCache.put(cacheKey, result, ttl.toSeconds(), TimeUnit.SECONDS);
+    }
+}
@@ -5,14 +5,20 @@ import com.xiaoo.kaleido.ai.domain.workflow.repository.IWorkflowExecutionReposit
 import com.xiaoo.kaleido.ai.domain.workflow.model.aggregate.WorkflowExecutionAggregate;
 import com.xiaoo.kaleido.ai.infrastructure.adapter.repository.convertor.WorkflowExecutionInfraConvertor;
 import com.xiaoo.kaleido.ai.infrastructure.dao.WorkflowExecutionDao;
+import com.xiaoo.kaleido.ai.infrastructure.dao.WorkflowStepCheckpointDao;
 import com.xiaoo.kaleido.ai.infrastructure.dao.po.WorkflowExecutionPO;
+import com.xiaoo.kaleido.ai.infrastructure.dao.po.WorkflowStepCheckpointPO;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
+import com.xiaoo.kaleido.distribute.util.SnowflakeUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * 工作流执行仓储实现（基础设施层）
@@ -28,6 +34,7 @@ import java.util.List;
 public class WorkflowExecutionRepositoryImpl implements IWorkflowExecutionRepository {
 
     private final WorkflowExecutionDao workflowExecutionDao;
+    private final WorkflowStepCheckpointDao workflowStepCheckpointDao;
 
     @Override
     public void save(WorkflowExecutionAggregate executionAggregate) {
@@ -121,4 +128,45 @@ public class WorkflowExecutionRepositoryImpl implements IWorkflowExecutionReposi
         }
     }
 
+    @Override
+    public void saveStepCheckpoint(String executionId, String stepId, String outputData) {
+        WorkflowStepCheckpointPO checkpoint = new WorkflowStepCheckpointPO();
+        checkpoint.setId(SnowflakeUtil.newSnowflakeId());
+        checkpoint.setExecutionId(executionId);
+        checkpoint.setStepId(stepId);
+        checkpoint.setOutputData(outputData);
+        workflowStepCheckpointDao.upsert(checkpoint);
+
+        // 检查点同时作为执行节点心跳
+        workflowExecutionDao.touch(executionId);
+    }
+
+    @Override
+    public Map<String, String> findStepCheckpoints(String executionId) {
+        return workflowStepCheckpointDao.findByExecutionId(executionId).stream()
+                .collect(Collectors.toMap(WorkflowStepCheckpointPO::getStepId,
+                        checkpoint -> checkpoint.getOutputData() != null ? checkpoint.getOutputData() : ""));
+    }
+
+    @Override
+    public void deleteStepCheckpoints(String executionId) {
+        workflowStepCheckpointDao.deleteByExecutionId(executionId);
+    }
+
+    @Override
+    public List<WorkflowExecutionAggregate> findOrphanedExecutions(String nodeId, Date startedBefore, Date staleBefore, int limit) {
+        List<WorkflowExecutionPO> executionPOs =
+                workflowExecutionDao.findOrphanedExecutions(nodeId, startedBefore, staleBefore, limit);
+        return WorkflowExecutionInfraConvertor.INSTANCE.toAggregateList(executionPOs);
+    }
+
+    @Override
+    public boolean claim(WorkflowExecutionAggregate execution, String nodeId) {
+        return workflowExecutionDao.claim(execution.getId(), execution.getLockVersion(), nodeId) > 0;
+    }
+
+    @Override
+    public boolean retry(WorkflowExecutionAggregate execution, String nodeId) {
+        return workflowExecutionDao.retry(execution.getId(), execution.getLockVersion(), nodeId) > 0;
+    }
 }
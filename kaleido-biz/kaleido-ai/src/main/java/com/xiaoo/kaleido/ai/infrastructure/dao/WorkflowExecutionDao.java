@@ -68,4 +68,46 @@ public interface WorkflowExecutionDao extends BaseMapper<WorkflowExecutionPO> {
      * @return 工作流执行持久化对象列表
      */
     List<WorkflowExecutionPO> findByUserId(@Param("userId") String userId);
+
+    /**
+     * 刷新执行记录的更新时间，作为执行节点的心跳
+     *
+     * @param id 执行记录ID
+     * @return 更新的记录数
+     */
+    int touch(@Param("id") String id);
+
+    /**
+     * 查找需要恢复的执行中记录
+     *
+     * @param nodeId        当前节点标识
+     * @param startedBefore 当前节点启动时间
+     * @param staleBefore   心跳超时时间点
+     * @param limit         最大数量
+     * @return 工作流执行持久化对象列表
+     */
+    List<WorkflowExecutionPO> findOrphanedExecutions(@Param("nodeId") String nodeId,
+                                                     @Param("startedBefore") Date startedBefore,
+                                                     @Param("staleBefore") Date staleBefore,
+                                                     @Param("limit") int limit);
+
+    /**
+     * 以乐观锁认领执行记录
+     *
+     * @param id          执行记录ID
+     * @param lockVersion 查询时的版本号
+     * @param nodeId      当前节点标识
+     * @return 更新的记录数，认领成功时为1
+     */
+    int claim(@Param("id") String id, @Param("lockVersion") Integer lockVersion, @Param("nodeId") String nodeId);
+
+    /**
+     * 以乐观锁将失败的执行记录置为执行中
+     *
+     * @param id          执行记录ID
+     * @param lockVersion 查询时的版本号
+     * @param nodeId      当前节点标识
+     * @return 更新的记录数，记录仍为失败状态且版本号未变时为1
+     */
+    int retry(@Param("id") String id, @Param("lockVersion") Integer lockVersion, @Param("nodeId") String nodeId);
 }
@@ -0,0 +1,42 @@
+package com.xiaoo.kaleido.ai.infrastructure.dao;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xiaoo.kaleido.ai.infrastructure.dao.po.WorkflowStepCheckpointPO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 工作流步骤检查点数据访问接口
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Mapper
+public interface WorkflowStepCheckpointDao extends BaseMapper<WorkflowStepCheckpointPO> {
+
+    /**
+     * 插入或覆盖步骤检查点
+     *
+     * @param checkpoint 步骤检查点
+     * @return 影响的记录数
+     */
+    int upsert(@Param("checkpoint") WorkflowStepCheckpointPO checkpoint);
+
+    /**
+     * 根据执行记录ID查询步骤检查点
+     *
+     * @param executionId 执行记录ID
+     * @return 步骤检查点列表
+     */
+    List<WorkflowStepCheckpointPO> findByExecutionId(@Param("executionId") String executionId);
+
+    /**
+     * 根据执行记录ID删除步骤检查点
+     *
+     * @param executionId 执行记录ID
+     * @return 删除的记录数
+     */
+    int deleteByExecutionId(@Param("executionId") String executionId);
+}
@@ -68,4 +68,16 @@ public class WorkflowExecutionPO extends BasePO {
      */
     @TableField("completed_at")
     private Date completedAt;
+
+    /**
+     * 执行节点标识
+     */
+    @TableField("node_id")
+    private String nodeId;
+
+    /**
+     * 节点宕机后被恢复执行的次数
+     */
+    @TableField("recovery_count")
+    private Integer recoveryCount;
 }
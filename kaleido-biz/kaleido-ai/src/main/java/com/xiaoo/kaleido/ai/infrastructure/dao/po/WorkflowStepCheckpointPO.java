@@ -0,0 +1,39 @@
+package com.xiaoo.kaleido.ai.infrastructure.dao.po;
+
+import com.baomidou.mybatisplus.annotation.TableField;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.xiaoo.kaleido.ds.po.BasePO;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 工作流步骤检查点持久化对象
+ * <p>
+ * 对应数据库表：t_ai_workflow_step_checkpoint
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@TableName("t_ai_workflow_step_checkpoint")
+public class WorkflowStepCheckpointPO extends BasePO {
+
+    /**
+     * 执行记录ID
+     */
+    @TableField("execution_id")
+    private String executionId;
+
+    /**
+     * 步骤ID
+     */
+    @TableField("step_id")
+    private String stepId;
+
+    /**
+     * 步骤输出
+     */
+    @TableField("output_data")
+    private String outputData;
+}
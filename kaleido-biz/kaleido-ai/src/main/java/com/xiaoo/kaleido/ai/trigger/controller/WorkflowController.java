@@ -2,6 +2,7 @@ package com.xiaoo.kaleido.ai.trigger.controller;
 
 import com.xiaoo.kaleido.ai.application.command.WorkflowCommandService;
 import com.xiaoo.kaleido.ai.application.query.WorkflowExecutionQueryService;
+import com.xiaoo.kaleido.ai.domain.workflow.model.vo.WorkflowStreamEvent;
 import com.xiaoo.kaleido.api.ai.command.ExecuteWorkflowCommand;
 import com.xiaoo.kaleido.api.ai.response.WorkflowExecutionInfoResponse;
 import com.xiaoo.kaleido.api.ai.response.WorkflowInfoResponse;
@@ -12,8 +13,11 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -64,6 +68,24 @@ public class WorkflowController {
         return Result.success(result);
     }
 
+    /**
+     * 流式执行工作流
+     * <p>
+     * 以SSE推送步骤开始、增量内容、步骤完成以及最终完成或失败事件，事件名为事件类型编码
+     *
+     * @param command 执行工作流命令
+     * @return 流式执行事件
+     */
+    @PostMapping(value = "/execute/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<WorkflowStreamEvent>> streamWorkflow(
+            @RequestBody @Valid ExecuteWorkflowCommand command) {
+        String userId = StpUserUtil.getLoginId();
+        return workflowCommandService.streamWorkflow(command, userId)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().getCode())
+                        .build());
+    }
+
     /**
      * 查询用户的工作流执行记录
      *
@@ -76,4 +98,21 @@ public class WorkflowController {
         log.info("用户查询工作流执行记录成功，用户ID: {}, 记录数量: {}", userId, executions.size());
         return Result.success(executions);
     }
+
+    /**
+     * 重试失败的工作流执行
+     * <p>
+     * 从最后完成的步骤继续执行，已完成的步骤直接复用检查点结果
+     *
+     * @param executionId 执行记录ID
+     * @return 执行记录ID
+     */
+    @PostMapping("/executions/{executionId}/retry")
+    public Result<String> retryWorkflowExecution(
+            @NotBlank(message = "执行记录ID不能为空")
+            @PathVariable String executionId) {
+        String userId = StpUserUtil.getLoginId();
+        String result = workflowCommandService.retryWorkflowExecution(executionId, userId);
+        return Result.success(result);
+    }
 }
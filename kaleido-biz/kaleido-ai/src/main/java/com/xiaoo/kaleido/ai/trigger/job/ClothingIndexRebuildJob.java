@@ -0,0 +1,49 @@
+package com.xiaoo.kaleido.ai.trigger.job;
+
+import com.xiaoo.kaleido.ai.application.command.ClothingIndexCommandService;
+import com.xiaoo.kaleido.ai.domain.clothing.model.ClothingIndexRebuildResult;
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 服装向量索引全量重建任务
+ * <p>
+ * 任务参数为restart时放弃进行中的重建并从头开始，否则从检查点继续。
+ * 在调度中心终止任务会在当前页完成后停止，检查点保留
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClothingIndexRebuildJob {
+
+    private static final String RESTART_PARAM = "restart";
+
+    private final ClothingIndexCommandService clothingIndexCommandService;
+
+    /**
+     * XXL-Job入口方法
+     */
+    @XxlJob("clothingIndexRebuildHandler")
+    public void clothingIndexRebuildHandler() {
+        boolean restart = RESTART_PARAM.equalsIgnoreCase(String.valueOf(XxlJobHelper.getJobParam()).trim());
+        XxlJobHelper.log("开始执行服装向量索引重建任务，重新开始: {}", restart);
+        try {
+            ClothingIndexRebuildResult result = clothingIndexCommandService.rebuild(restart);
+            XxlJobHelper.log("服装向量索引重建{}，影子集合: {}，本次页数: {}，本次写入: {}，累计写入: {}，切换前集合: {}",
+                    result.isCompleted() ? "完成" : "已停止", result.getCollectionName(), result.getPages(),
+                    result.getIndexed(), result.getTotalIndexed(), result.getPreviousCollectionName());
+            if (!result.isCompleted()) {
+                XxlJobHelper.handleFail("服装向量索引重建未完成，已保存检查点，再次执行将继续");
+            }
+        } catch (Exception e) {
+            log.error("服装向量索引重建任务执行异常", e);
+            XxlJobHelper.handleFail("服装向量索引重建任务执行异常: " + e.getMessage());
+        }
+    }
+}
@@ -3,10 +3,11 @@ package com.xiaoo.kaleido.ai.trigger.listener;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONObject;
 import com.xiaoo.kaleido.ai.domain.clothing.service.impl.ClothingVectorService;
+import com.xiaoo.kaleido.ai.types.config.ClothingIndexListenerConfig;
 import com.xiaoo.kaleido.ai.types.exception.AiException;
 import com.xiaoo.kaleido.ai.types.exception.AiErrorCode;
-import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import com.xiaoo.kaleido.api.wardrobe.enums.ClothingEventTypeEnums;
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.Queue;
@@ -14,9 +15,12 @@ import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 服装事件监听器
- * 监听服装创建、更新、删除事件，更新服装向量库
+ * 批量监听服装创建、更新、删除事件，更新服装向量库
  *
  * @author ouyucheng
  * @date 2026/2/2
@@ -31,49 +35,53 @@ public class ClothingEventListener {
 
     private final ClothingVectorService clothingVectorService;
 
-    @RabbitListener(queuesToDeclare = @Queue(value = "${spring.rabbitmq.topic.clothing-event}"))
-    public void listener(String message) {
+    /**
+     * 批量消费服装事件
+     * <p>
+     * 攒够一批或等待超时后整批处理。无法解析或缺少必要字段的消息重试也不会成功，处理前记录日志后丢弃，
+     * 不让单条坏消息拖累整批；处理失败时抛出异常，由容器按退避间隔重试整批，重试用尽后整批转入死信队列
+     *
+     * @param messages 服装事件消息，按投递顺序排列
+     */
+    @RabbitListener(queuesToDeclare = @Queue(value = "${spring.rabbitmq.topic.clothing-event}"),
+            containerFactory = ClothingIndexListenerConfig.BATCH_CONTAINER_FACTORY)
+    public void listener(List<String> messages) {
         try {
-            log.info("监听服装事件，开始处理向量库更新 topic: {} message: {}", topic, message);
-            
-            // 解析消息
-            ClothingEventMessage clothingEventMessage = parseEventMessage(message);
-            
-            if (clothingEventMessage == null) {
-                log.error("服装事件消息格式错误: {}", message);
-                return;
+            log.info("监听服装事件，开始批量处理向量库更新 topic: {} 消息数: {}", topic, messages.size());
+
+            // 解析并校验消息，不可重试的消息直接丢弃
+            List<ClothingEventMessage> clothingEventMessages = new ArrayList<>(messages.size());
+            for (String message : messages) {
+                try {
+                    clothingEventMessages.add(validate(parseEventMessage(message)));
+                } catch (AiException e) {
+                    log.error("服装事件消息无法处理，已丢弃: {}, 原因: {}", message, e.getMessage());
+                }
             }
-            
-            // 根据事件类型调用不同的处理逻辑
-            ClothingEventTypeEnums eventType = clothingEventMessage.getEventType();
-            if (eventType == null) {
-                log.warn("服装事件类型为空: {}", message);
+            if (clothingEventMessages.isEmpty()) {
                 return;
             }
-            
-            switch (eventType) {
-                case CREATE:
-                    clothingVectorService.handleCreateEvent(clothingEventMessage);
-                    break;
-                case UPDATE:
-                    clothingVectorService.handleUpdateEvent(clothingEventMessage);
-                    break;
-                case DELETE:
-                    clothingVectorService.handleDeleteEvent(clothingEventMessage);
-                    break;
-                default:
-                    log.warn("未知的服装事件类型: {}", eventType);
-                    break;
-            }
-            
-            log.info("服装事件处理完成，事件类型: {}, 服装ID: {}, 用户ID: {}", 
-                    eventType, clothingEventMessage.getClothingId(), clothingEventMessage.getUserId());
+
+            clothingVectorService.handleEvents(clothingEventMessages);
         } catch (Exception e) {
-            log.error("监听服装事件，消费失败 topic: {} message: {}", topic, message, e);
-            throw e; // 抛出异常让RabbitMQ进行重试
+            log.error("监听服装事件，批量消费失败 topic: {} 消息数: {}", topic, messages.size(), e);
+            throw e; // 抛出异常由容器整批重试，重试用尽后转入死信队列
+        }
+    }
+
+    /**
+     * 校验事件消息的必要字段，缺少服装ID、事件类型，或非删除事件缺少用户ID时无法建立索引
+     */
+    private ClothingEventMessage validate(ClothingEventMessage message) {
+        if (message == null || message.getClothingId() == null || message.getEventType() == null) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "服装事件缺少服装ID或事件类型");
         }
+        if (message.getEventType() != ClothingEventTypeEnums.DELETE && message.getUserId() == null) {
+            throw AiException.of(AiErrorCode.VALIDATION_ERROR, "服装事件缺少用户ID");
+        }
+        return message;
     }
-    
+
     /**
      * 解析事件消息
      */
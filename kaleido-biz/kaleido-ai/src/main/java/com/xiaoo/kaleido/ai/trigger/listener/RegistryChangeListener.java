@@ -0,0 +1,91 @@
+package com.xiaoo.kaleido.ai.trigger.listener;
+
+import com.alibaba.fastjson2.JSON;
+import com.xiaoo.kaleido.ai.domain.agent.armory.AgentFactory;
+import com.xiaoo.kaleido.ai.domain.workflow.armory.WorkflowFactory;
+import com.xiaoo.kaleido.ai.types.event.RegistryChangeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.StatusListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 注册中心变更监听器
+ * 订阅Redis广播的Agent和工作流变更，失效本节点的对应条目
+ * <p>
+ * 断线期间的广播会丢失，因此重新订阅成功后清空本节点的全部条目，由后续请求懒加载
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegistryChangeListener {
+
+    private final RedissonClient redissonClient;
+    private final AgentFactory agentFactory;
+    private final WorkflowFactory workflowFactory;
+
+    /**
+     * 订阅成功的次数，大于1表示断线后重新订阅
+     */
+    private final AtomicInteger subscribeCount = new AtomicInteger();
+
+    private RTopic topic;
+    private int messageListenerId;
+    private int statusListenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(RegistryChangeMessage.TOPIC, StringCodec.INSTANCE);
+        messageListenerId = topic.addListener(String.class, (channel, message) -> listener(message));
+        statusListenerId = topic.addListener(new StatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                if (subscribeCount.incrementAndGet() > 1) {
+                    log.warn("注册中心变更频道重新订阅，清空本节点注册中心，频道: {}", channel);
+                    agentFactory.clearAll();
+                    workflowFactory.clearAll();
+                }
+            }
+
+            @Override
+            public void onUnsubscribe(String channel) {
+                log.warn("注册中心变更频道取消订阅，频道: {}", channel);
+            }
+        });
+        log.info("注册中心变更监听器启动，频道: {}", RegistryChangeMessage.TOPIC);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null) {
+            topic.removeListener(messageListenerId, statusListenerId);
+        }
+    }
+
+    public void listener(String message) {
+        try {
+            RegistryChangeMessage change = JSON.parseObject(message, RegistryChangeMessage.class);
+            if (change == null || change.getType() == null || change.getId() == null) {
+                log.error("注册中心变更消息格式错误: {}", message);
+                return;
+            }
+
+            switch (change.getType()) {
+                case AGENT -> agentFactory.refreshAgent(change.getId(), change.getVersion());
+                case WORKFLOW -> workflowFactory.invalidateWorkflow(change.getId(), change.getVersion());
+            }
+        } catch (Exception e) {
+            log.error("注册中心变更处理失败，消息: {}, 错误: {}", message, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.xiaoo.kaleido.ai.trigger.runner;
+
+import com.xiaoo.kaleido.ai.application.command.WorkflowCommandService;
+import com.xiaoo.kaleido.ai.types.config.WorkflowRecoveryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 项目启动时恢复遗留的工作流执行
+ * <p>
+ * 节点宕机或重启会留下一直处于执行中的记录，启动后认领这些记录并从检查点继续执行
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowRecoveryRunner implements ApplicationRunner {
+
+    private final WorkflowCommandService workflowCommandService;
+    private final WorkflowRecoveryProperties recoveryProperties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!recoveryProperties.isEnabled()) {
+            return;
+        }
+        try {
+            workflowCommandService.recoverOrphanedExecutions(new Date(applicationContext.getStartupDate()));
+        } catch (Exception e) {
+            // 恢复失败不影响服务启动，心跳超时的记录会在其他节点启动时再次恢复
+            log.error("遗留工作流执行恢复失败", e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+
+/**
+ * 服装向量索引监听容器配置
+ * <p>
+ * 在公共RabbitMQ配置基础上开启消费端批量消费，一批消息处理成功后整批确认。
+ * 失败时在消费端按退避间隔重试整批，次数用尽后把整批消息连同异常信息转发到死信队列并确认，
+ * 避免一批无法处理的消息无限重新投递、阻塞后续事件；死信队列中的消息排查后可手动转回原队列
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ClothingIndexListenerConfig {
+
+    /**
+     * 批量监听容器工厂名称
+     */
+    public static final String BATCH_CONTAINER_FACTORY = "clothingIndexBatchContainerFactory";
+
+    private final ClothingIndexProperties properties;
+
+    @Value("${spring.rabbitmq.topic.clothing-event}")
+    private String topic;
+
+    /**
+     * 服装事件死信队列
+     */
+    @Bean
+    public Queue clothingEventDeadLetterQueue() {
+        return QueueBuilder.durable(deadLetterQueueName()).build();
+    }
+
+    @Bean(BATCH_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory clothingIndexBatchContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            RabbitTemplate rabbitTemplate) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatchSize());
+        factory.setBatchReceiveTimeout(properties.getBatchReceiveTimeoutMillis());
+        // 公共配置的prefetch为1，批量消费需要至少预取一批
+        factory.setPrefetchCount(properties.getBatchSize());
+        factory.setAdviceChain(retryInterceptor(rabbitTemplate));
+        return factory;
+    }
+
+    /**
+     * 整批重试拦截器，重试用尽后逐条转发到死信队列
+     */
+    private RetryOperationsInterceptor retryInterceptor(RabbitTemplate rabbitTemplate) {
+        RepublishMessageRecoverer republisher = new RepublishMessageRecoverer(rabbitTemplate, "", deadLetterQueueName());
+        MessageBatchRecoverer recoverer = (messages, cause) -> messages.forEach(message -> republisher.recover(message, cause));
+        return RetryInterceptorBuilder.stateless()
+                .maxAttempts(Math.max(1, properties.getMaxAttempts()))
+                .backOffOptions(properties.getRetryInitialIntervalMillis(), properties.getRetryMultiplier(),
+                        properties.getRetryMaxIntervalMillis())
+                .recoverer(recoverer)
+                .build();
+    }
+
+    private String deadLetterQueueName() {
+        return topic + properties.getDeadLetterSuffix();
+    }
+}
@@ -0,0 +1,55 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 服装向量索引配置属性
+ * <p>
+ * 控制服装事件的批量消费：攒够batchSize条或等待超过batchReceiveTimeoutMillis后处理一批，
+ * 处理失败时按退避间隔重试，重试maxAttempts次仍失败的整批消息转入死信队列
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.clothing.index")
+public class ClothingIndexProperties {
+
+    /**
+     * 单批最大消息数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 攒批最长等待时间（毫秒），超时后不足一批也立即处理
+     */
+    private long batchReceiveTimeoutMillis = 500;
+
+    /**
+     * 一批消息的最大处理次数（含首次），用尽后整批转入死信队列
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 首次重试间隔（毫秒）
+     */
+    private long retryInitialIntervalMillis = 1000;
+
+    /**
+     * 重试间隔倍数
+     */
+    private double retryMultiplier = 2.0;
+
+    /**
+     * 最大重试间隔（毫秒）
+     */
+    private long retryMaxIntervalMillis = 10000;
+
+    /**
+     * 死信队列名称后缀，死信队列名为服装事件队列名加此后缀
+     */
+    private String deadLetterSuffix = ".dlq";
+}
@@ -0,0 +1,37 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 服装向量索引全量重建配置属性
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.clothing.rebuild")
+public class ClothingIndexRebuildProperties {
+
+    /**
+     * 每次从衣橱服装服务拉取的服装数量，每页处理完成后保存一次检查点
+     */
+    private int pageSize = 200;
+
+    /**
+     * 单次向量化并写入的服装数量
+     */
+    private int embedBatchSize = 50;
+
+    /**
+     * 每秒最多向量化的服装数量，集群内共享，小于等于0表示不限流
+     */
+    private int embedPermitsPerSecond = 20;
+
+    /**
+     * 别名切换后是否删除之前的集合，默认保留以便回切
+     */
+    private boolean dropPreviousCollection = false;
+}
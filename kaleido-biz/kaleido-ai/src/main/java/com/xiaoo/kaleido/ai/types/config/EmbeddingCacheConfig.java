@@ -0,0 +1,31 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import com.xiaoo.kaleido.ai.infrastructure.adapter.embedding.CachingEmbeddingModel;
+import com.xiaoo.kaleido.redis.service.EmbeddingCacheService;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.model.openai.autoconfigure.OpenAiEmbeddingProperties;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 向量缓存配置
+ * <p>
+ * 将自动配置的OpenAI向量模型包装为带缓存的向量模型，并作为首选的EmbeddingModel注入向量存储等组件
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Configuration
+public class EmbeddingCacheConfig {
+
+    @Bean
+    @Primary
+    public EmbeddingModel cachingEmbeddingModel(OpenAiEmbeddingModel openAiEmbeddingModel,
+                                                EmbeddingCacheService embeddingCacheService,
+                                                OpenAiEmbeddingProperties embeddingProperties) {
+        // 与自动配置创建OpenAI向量模型时使用同一份默认选项，缓存键中的模型和维度与实际调用一致
+        return new CachingEmbeddingModel(openAiEmbeddingModel, embeddingCacheService, embeddingProperties.getOptions());
+    }
+}
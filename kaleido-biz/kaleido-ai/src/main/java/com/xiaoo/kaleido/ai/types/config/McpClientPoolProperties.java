@@ -0,0 +1,39 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * MCP客户端连接池配置属性
+ * <p>
+ * 控制MCP连接的健康检查、断线重连退避和空闲回收
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.mcp.pool")
+public class McpClientPoolProperties {
+
+    /**
+     * 健康检查间隔（毫秒）
+     */
+    private long healthCheckIntervalMillis = 30_000;
+
+    /**
+     * 连接空闲超过该时间（毫秒）后关闭并移出连接池，下次使用时重新建立
+     */
+    private long idleTimeoutMillis = 600_000;
+
+    /**
+     * 首次重连退避时间（毫秒），之后每次失败翻倍
+     */
+    private long initialBackoffMillis = 1_000;
+
+    /**
+     * 最大重连退避时间（毫秒）
+     */
+    private long maxBackoffMillis = 60_000;
+}
@@ -0,0 +1,48 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 工作流执行恢复配置属性
+ * <p>
+ * 控制节点启动时对遗留执行中记录的恢复策略
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.workflow.recovery")
+public class WorkflowRecoveryProperties {
+
+    /**
+     * 是否在启动时恢复遗留的执行中记录
+     */
+    private boolean enabled = true;
+
+    /**
+     * 当前节点标识，为空时使用主机名加服务端口
+     * <p>
+     * 节点重启后标识不变时，启动即可恢复本节点遗留的执行，无需等待心跳超时
+     */
+    private String nodeId;
+
+    /**
+     * 心跳超时时间（毫秒），执行记录超过该时间没有保存检查点时视为执行节点已宕机
+     * <p>
+     * 需要大于单个步骤的最长耗时
+     */
+    private long staleTimeoutMillis = 600_000;
+
+    /**
+     * 单条执行记录最大恢复次数，超过后直接置为失败
+     */
+    private int maxRecoveryCount = 2;
+
+    /**
+     * 单次启动最多恢复的执行记录数量
+     */
+    private int batchSize = 100;
+}
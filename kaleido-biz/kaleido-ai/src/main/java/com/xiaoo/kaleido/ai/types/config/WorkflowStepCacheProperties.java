@@ -0,0 +1,49 @@
+package com.xiaoo.kaleido.ai.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 工作流步骤结果缓存配置属性
+ * <p>
+ * 步骤是否缓存由工作流定义中的步骤配置决定，这里只控制总开关和容量、有效期的上限
+ *
+ * @author ouyucheng
+ * @date 2026/2/7
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ai.workflow.step-cache")
+public class WorkflowStepCacheProperties {
+
+    /**
+     * 总开关，关闭后所有步骤都直接调用模型
+     */
+    private boolean enabled = true;
+
+    /**
+     * 本地缓存最大条目数
+     */
+    private int localLimit = 1000;
+
+    /**
+     * 本地缓存有效期（秒）
+     */
+    private long localExpireSeconds = 300;
+
+    /**
+     * 步骤未配置有效期时的默认有效期（秒）
+     */
+    private long defaultTtlSeconds = 3600;
+
+    /**
+     * 步骤可配置的最长有效期（秒）
+     */
+    private long maxTtlSeconds = 86400;
+
+    /**
+     * 可缓存结果的最大长度，超过时不缓存
+     */
+    private int maxResultLength = 32768;
+}
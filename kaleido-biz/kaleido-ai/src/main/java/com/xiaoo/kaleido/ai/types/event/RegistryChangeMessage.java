@@ -0,0 +1,48 @@
+package com.xiaoo.kaleido.ai.types.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 注册中心变更消息
+ * <p>
+ * Agent或工作流配置变更后通过Redis发布订阅广播给所有节点，
+ * 各节点只失效对应条目。版本号按条目单调递增，节点只应用比本地更新的版本，
+ * 重复或乱序到达的消息会被忽略
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistryChangeMessage {
+
+    /**
+     * 广播频道
+     */
+    public static final String TOPIC = "ai:registry:change";
+
+    /**
+     * 条目版本号键前缀
+     */
+    public static final String VERSION_KEY_PREFIX = "ai:registry:version:";
+
+    /**
+     * 条目类型
+     */
+    private RegistryType type;
+
+    /**
+     * 条目ID，Agent ID或工作流ID
+     */
+    private String id;
+
+    /**
+     * 条目版本号
+     */
+    private long version;
+}
@@ -0,0 +1,30 @@
+package com.xiaoo.kaleido.ai.types.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 注册中心条目类型
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Getter
+@AllArgsConstructor
+public enum RegistryType {
+
+    /**
+     * Agent注册中心
+     */
+    AGENT("agent"),
+
+    /**
+     * 工作流注册中心
+     */
+    WORKFLOW("workflow");
+
+    /**
+     * 类型编码，用于构建版本号键
+     */
+    private final String code;
+}
@@ -102,6 +102,11 @@ public enum AiErrorCode implements ErrorCode {
      */
     WORKFLOW_EXECUTION_DELETE_FAIL("WORKFLOW_EXECUTION_DELETE_FAIL", "工作流执行删除失败"),
 
+    /**
+     * 执行状态冲突：执行记录已被其他请求修改，条件更新未命中
+     */
+    EXECUTION_STATE_CONFLICT("EXECUTION_STATE_CONFLICT", "工作流执行状态已变更"),
+
     /**
      * AI模型调用失败：调用AI模型服务时发生错误
      */
@@ -275,7 +280,12 @@ public enum AiErrorCode implements ErrorCode {
     /**
      * 向量存储查询失败：查询向量存储时发生错误
      */
-    VECTOR_STORE_QUERY_FAIL("VECTOR_STORE_QUERY_FAIL", "向量存储查询失败");
+    VECTOR_STORE_QUERY_FAIL("VECTOR_STORE_QUERY_FAIL", "向量存储查询失败"),
+
+    /**
+     * 向量集合操作失败：创建、删除集合或切换别名时发生错误
+     */
+    VECTOR_STORE_COLLECTION_FAIL("VECTOR_STORE_COLLECTION_FAIL", "向量集合操作失败");
 
     /**
      * 错误码
@@ -0,0 +1,136 @@
+package com.xiaoo.kaleido.ai.domain.workflow.armory;
+
+import com.xiaoo.kaleido.ai.domain.chat.service.IChatService;
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowDefinition;
+import com.xiaoo.kaleido.ai.domain.workflow.model.entity.WorkflowStep;
+import com.xiaoo.kaleido.ai.types.config.WorkflowStepCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 工作流执行引擎并发隔离测试
+ * <p>
+ * 同一个缓存的引擎实例被多个线程以不同输入同时执行，每次执行的结果只能包含自己输入产生的步骤输出
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+class WorkflowExecutionEngineConcurrencyTest {
+
+    private static final int EXECUTIONS = 200;
+
+    private static final int CALLERS = 32;
+
+    private ExecutorService stepExecutor;
+
+    private ExecutorService callerExecutor;
+
+    private WorkflowExecutionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // Agent输出为 agentId(输入)，随机延迟让不同执行的步骤在线程池上交错
+        IChatService chatService = mock(IChatService.class);
+        when(chatService.chatWithWorkflowNode(anyString(), anyString(), nullable(String.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                    return invocation.getArgument(0) + "(" + invocation.getArgument(1) + ")";
+                });
+
+        WorkflowMetrics metrics = new WorkflowMetrics(new SimpleMeterRegistry());
+        WorkflowStepCacheProperties cacheProperties = new WorkflowStepCacheProperties();
+        cacheProperties.setEnabled(false);
+        StepResultCache stepResultCache = new StepResultCache(null, null, metrics, cacheProperties);
+
+        stepExecutor = Executors.newFixedThreadPool(8);
+        callerExecutor = Executors.newFixedThreadPool(CALLERS);
+        engine = new WorkflowExecutionEngine(CompiledWorkflow.compile(diamond()), chatService,
+                stepExecutor, metrics, null, stepResultCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callerExecutor.shutdownNow();
+        stepExecutor.shutdownNow();
+    }
+
+    @Test
+    void concurrentExecutionsOnSharedEngineAreIsolated() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> results = new ArrayList<>(EXECUTIONS);
+        for (int i = 0; i < EXECUTIONS; i++) {
+            String input = "input-" + i;
+            results.add(CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return engine.execute(input, "user-" + input);
+            }, callerExecutor));
+        }
+        start.countDown();
+
+        for (int i = 0; i < EXECUTIONS; i++) {
+            String input = "input-" + i;
+            // 每个步骤的输出都由本次输入推导而来，混入其他执行的步骤结果时不相等
+            assertEquals(expected(input), results.get(i).get(30, TimeUnit.SECONDS),
+                    "执行结果混入了其他执行的步骤输出，输入: " + input);
+        }
+    }
+
+    /**
+     * a -> (b, c) -> d 的菱形工作流，d 通过模板同时引用两个上游步骤和工作流输入
+     */
+    private static WorkflowDefinition diamond() {
+        return WorkflowDefinition.builder()
+                .version("1.0")
+                .name("concurrency-test")
+                .steps(List.of(
+                        agentStep("a", 1, List.of(), null),
+                        agentStep("b", 2, List.of("a"), null),
+                        agentStep("c", 3, List.of("a"), null),
+                        agentStep("d", 4, List.of("b", "c"), "{{steps.b}}|{{steps.c}}|{{input}}")))
+                .build();
+    }
+
+    private static WorkflowStep agentStep(String id, int order, List<String> dependsOn, String inputTemplate) {
+        return WorkflowStep.builder()
+                .id(id)
+                .name(id)
+                .agentId("agent-" + id)
+                .order(order)
+                .dependsOn(dependsOn)
+                .inputTemplate(inputTemplate)
+                .build();
+    }
+
+    private static String expected(String input) {
+        String a = "agent-a(" + input + ")";
+        String b = "agent-b(" + a + ")";
+        String c = "agent-c(" + a + ")";
+        return "agent-d(" + b + "|" + c + "|" + input + ")";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
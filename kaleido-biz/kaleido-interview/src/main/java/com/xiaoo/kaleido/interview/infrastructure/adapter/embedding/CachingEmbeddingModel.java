@@ -0,0 +1,41 @@
+package com.xiaoo.kaleido.interview.infrastructure.adapter.embedding;
+
+import com.xiaoo.kaleido.redis.service.EmbeddingCacheService;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+
+/**
+ * 带缓存的向量模型
+ * <p>
+ * 包装实际的向量模型，按模型和文本内容摘要缓存向量，文本不变时不再调用向量化接口。
+ * 简历和知识库入库、检索增强查询和维度探测都经过这里
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCacheService embeddingCacheService;
+    private final String model;
+
+    public CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCacheService embeddingCacheService, String model) {
+        this.delegate = delegate;
+        this.embeddingCacheService = embeddingCacheService;
+        this.model = model;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<float[]> vectors = embeddingCacheService.embedAll(model,
+                textSegments.stream().map(TextSegment::text).toList(),
+                missing -> delegate.embedAll(missing.stream().map(TextSegment::from).toList()).content().stream()
+                        .map(Embedding::vector)
+                        .toList());
+        return Response.from(vectors.stream().map(Embedding::from).toList());
+    }
+}
@@ -0,0 +1,30 @@
+package com.xiaoo.kaleido.interview.types.config;
+
+import com.xiaoo.kaleido.interview.infrastructure.adapter.embedding.CachingEmbeddingModel;
+import com.xiaoo.kaleido.redis.service.EmbeddingCacheService;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 向量缓存配置
+ * <p>
+ * 将自动配置的OpenAI向量模型包装为带缓存的向量模型，并作为首选的EmbeddingModel注入
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Configuration
+public class EmbeddingCacheConfig {
+
+    @Bean
+    @Primary
+    public EmbeddingModel cachingEmbeddingModel(OpenAiEmbeddingModel openAiEmbeddingModel,
+                                                EmbeddingCacheService embeddingCacheService,
+                                                @Value("${langchain4j.open-ai.embedding-model.model-name}") String model) {
+        return new CachingEmbeddingModel(openAiEmbeddingModel, embeddingCacheService, model);
+    }
+}
@@ -19,6 +19,9 @@ import com.xiaoo.kaleido.api.wardrobe.enums.ClothingEventTypeEnums;
 import com.xiaoo.kaleido.wardrobe.types.constant.EntityTypeConstants;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.domain.image.service.ImageDerivativeService;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.entity.ClothingImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.dubbo.config.annotation.DubboReference;
@@ -46,6 +49,7 @@ public class ClothingCommandService {
     private final IClothingEventPublisher clothingEventPublisher;
     private final LocationCommandService locationCommandService;
     private final TransactionTemplate transactionTemplate;
+    private final ImageDerivativeService imageDerivativeService;
 
     @DubboReference(version = RpcConstants.DUBBO_VERSION)
     private IRpcTagService rpcTagService;
@@ -90,6 +94,9 @@ public class ClothingCommandService {
             // 6.查询品牌名称
             return brandDomainService.getBrandName(command.getBrandId());
         });
+
+        // 生成图片衍生图（异步）
+        submitImageDerivatives(clothing);
         
         // 7.发布服装创建事件
         clothingEventPublisher.publishClothingEvent(
@@ -153,6 +160,9 @@ public class ClothingCommandService {
         // 5.保存服装
         clothingRepository.update(clothing);
 
+        // 生成图片衍生图（事务提交后异步执行）
+        submitImageDerivatives(clothing);
+
         // 6.处理位置变更
         locationCommandService.handleLocationChange(command.getClothingId(), oldLocationId, newLocationId, userId);
 
@@ -273,4 +283,13 @@ public class ClothingCommandService {
         }
     }
 
+    /**
+     * 提交图片衍生图生成任务
+     */
+    private void submitImageDerivatives(ClothingAggregate clothing) {
+        List<String> paths = clothing.getImages().stream()
+                .map(ClothingImage::getPath)
+                .toList();
+        imageDerivativeService.submit(DomainType.CLOTHING, paths);
+    }
 }
@@ -21,6 +21,9 @@ import com.xiaoo.kaleido.wardrobe.domain.location.service.dto.LocationImageInfoD
 import com.xiaoo.kaleido.wardrobe.types.constant.EntityTypeConstants;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.domain.image.service.ImageDerivativeService;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.entity.LocationImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.dubbo.config.annotation.DubboReference;
@@ -45,6 +48,7 @@ public class LocationCommandService {
     private final ILocationFileService locationFileService;
     private final ILocationRecordDomainService locationRecordDomainService;
     private final ILocationRecordRepository locationRecordRepository;
+    private final ImageDerivativeService imageDerivativeService;
 
     @DubboReference(version = RpcConstants.DUBBO_VERSION)
     private IRpcTagService rpcTagService;
@@ -102,6 +106,7 @@ public class LocationCommandService {
 
         // 3. 保存位置
         locationRepository.save(location);
+        submitImageDerivatives(location);
 
         // 4. 记录日志
         log.info("位置创建成功，位置ID: {}, 位置名称: {}, 用户ID: {}, 图片数量: {}",
@@ -167,6 +172,7 @@ public class LocationCommandService {
 
         // 3. 更新位置
         locationRepository.update(location);
+        submitImageDerivatives(location);
 
         // 4. 记录日志
         log.info("位置更新成功，位置ID: {}, 新位置名称: {}, 图片数量: {}", locationId, name, images.size());
@@ -368,4 +374,14 @@ public class LocationCommandService {
         // 如果都不为null，比较是否相等
         return !oldLocationId.equals(newLocationId);
     }
+
+    /**
+     * 提交图片衍生图生成任务
+     */
+    private void submitImageDerivatives(StorageLocationAggregate location) {
+        List<String> paths = location.getImages().stream()
+                .map(LocationImage::getPath)
+                .toList();
+        imageDerivativeService.submit(DomainType.LOCATION, paths);
+    }
 }
@@ -19,6 +19,9 @@ import com.xiaoo.kaleido.wardrobe.domain.outfit.service.dto.OutfitImageInfoDTO;
 import com.xiaoo.kaleido.wardrobe.types.constant.EntityTypeConstants;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.domain.image.service.ImageDerivativeService;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.dubbo.config.annotation.DubboReference;
@@ -45,6 +48,7 @@ public class OutfitCommandService {
     private final IOutfitDomainService outfitDomainService;
     private final IOutfitRepository outfitRepository;
     private final IOutfitFileService outfitFileService;
+    private final ImageDerivativeService imageDerivativeService;
 
     @DubboReference(version = RpcConstants.DUBBO_VERSION)
     private IRpcCoinService rpcCoinService;
@@ -77,6 +81,7 @@ public class OutfitCommandService {
 
         // 4.保存穿搭
         outfitRepository.save(outfit);
+        submitImageDerivatives(outfit);
 
         // 5.记录日志
         log.info("穿搭创建成功，穿搭ID: {}, 用户ID: {}, 穿搭名称: {}, 服装数量: {}, 图片数量: {}",
@@ -113,6 +118,7 @@ public class OutfitCommandService {
 
         // 4.保存穿搭
         outfitRepository.save(outfit);
+        submitImageDerivatives(outfit);
 
         // 5.记录日志
         log.info("穿搭更新成功，穿搭ID: {}, 用户ID: {}, 新名称: {}, 服装数量: {}, 图片数量: {}",
@@ -242,4 +248,14 @@ public class OutfitCommandService {
         // 4. 记录日志
         log.info("穿搭标签取消关联成功，用户ID: {}, 穿搭ID: {}, 标签ID: {}", userId, outfitId, tagId);
     }
+
+    /**
+     * 提交图片衍生图生成任务
+     */
+    private void submitImageDerivatives(OutfitAggregate outfit) {
+        List<String> paths = outfit.getImages().stream()
+                .map(OutfitImage::getPath)
+                .toList();
+        imageDerivativeService.submit(DomainType.OUTFIT, paths);
+    }
 }
@@ -0,0 +1,122 @@
+package com.xiaoo.kaleido.wardrobe.application.convertor;
+
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingSummaryResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationImageResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationSummaryResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitImageResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitSummaryResponse;
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 图片访问URL装配器
+ * <p>
+ * 收集响应中全部图片的原图和缩略图路径，一次批量预签名后回填URL
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUrlAssembler {
+
+    private final IMinIOService minIOService;
+
+    /**
+     * 为服装响应填充图片URL
+     */
+    public void fillClothing(List<ClothingInfoResponse> responses) {
+        fill(images(responses, ClothingInfoResponse::getImages),
+                ClothingInfoResponse.ImageInfo::getPath, ClothingInfoResponse.ImageInfo::setUrl,
+                ClothingInfoResponse.ImageInfo::getThumbnailPath, ClothingInfoResponse.ImageInfo::setThumbnailUrl);
+    }
+
+    /**
+     * 为穿搭响应填充图片URL
+     */
+    public void fillOutfit(List<OutfitInfoResponse> responses) {
+        fill(images(responses, OutfitInfoResponse::getImages),
+                OutfitImageResponse::getPath, OutfitImageResponse::setUrl,
+                OutfitImageResponse::getThumbnailPath, OutfitImageResponse::setThumbnailUrl);
+    }
+
+    /**
+     * 为位置响应填充图片URL
+     */
+    public void fillLocation(List<LocationInfoResponse> responses) {
+        fill(images(responses, LocationInfoResponse::getImages),
+                LocationImageResponse::getPath, LocationImageResponse::setUrl,
+                LocationImageResponse::getThumbnailPath, LocationImageResponse::setThumbnailUrl);
+    }
+
+    /**
+     * 为服装列表项填充主图URL
+     */
+    public void fillClothingSummaries(List<ClothingSummaryResponse> items) {
+        fill(items,
+                ClothingSummaryResponse::getPrimaryImagePath, ClothingSummaryResponse::setPrimaryImageUrl,
+                ClothingSummaryResponse::getPrimaryThumbnailPath, ClothingSummaryResponse::setPrimaryThumbnailUrl);
+    }
+
+    /**
+     * 为穿搭列表项填充主图URL
+     */
+    public void fillOutfitSummaries(List<OutfitSummaryResponse> items) {
+        fill(items,
+                OutfitSummaryResponse::getPrimaryImagePath, OutfitSummaryResponse::setPrimaryImageUrl,
+                OutfitSummaryResponse::getPrimaryThumbnailPath, OutfitSummaryResponse::setPrimaryThumbnailUrl);
+    }
+
+    /**
+     * 为位置列表项填充主图URL
+     */
+    public void fillLocationSummaries(List<LocationSummaryResponse> items) {
+        fill(items,
+                LocationSummaryResponse::getPrimaryImagePath, LocationSummaryResponse::setPrimaryImageUrl,
+                LocationSummaryResponse::getPrimaryThumbnailPath, LocationSummaryResponse::setPrimaryThumbnailUrl);
+    }
+
+    private <R, I> List<I> images(List<R> responses, Function<R, List<I>> imagesOf) {
+        return responses.stream()
+                .map(imagesOf)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private <I> void fill(List<I> images,
+                          Function<I, String> pathOf, BiConsumer<I, String> setUrl,
+                          Function<I, String> thumbnailOf, BiConsumer<I, String> setThumbnailUrl) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        Set<String> paths = new LinkedHashSet<>();
+        for (I image : images) {
+            paths.add(pathOf.apply(image));
+            paths.add(thumbnailOf.apply(image));
+        }
+        paths.remove(null);
+
+        Map<String, String> urls = minIOService.presignAll(paths);
+        for (I image : images) {
+            setUrl.accept(image, urls.get(pathOf.apply(image)));
+            String thumbnailPath = thumbnailOf.apply(image);
+            if (thumbnailPath != null) {
+                setThumbnailUrl.accept(image, urls.get(thumbnailPath));
+            }
+        }
+    }
+}
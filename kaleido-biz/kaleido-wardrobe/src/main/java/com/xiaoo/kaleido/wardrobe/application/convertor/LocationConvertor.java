@@ -3,9 +3,11 @@ package com.xiaoo.kaleido.wardrobe.application.convertor;
 import com.xiaoo.kaleido.api.wardrobe.enums.ImageTypeEnums;
 import com.xiaoo.kaleido.api.wardrobe.response.LocationImageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.LocationInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationSummaryResponse;
 import com.xiaoo.kaleido.wardrobe.application.query.impl.LocationQueryServiceImpl;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.aggregate.StorageLocationAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.entity.LocationImage;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.vo.LocationSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -163,4 +165,21 @@ public interface LocationConvertor {
             this.imageTypeEnums = imageTypeEnums;
         }
     }
+
+    /**
+     * 将位置列表摘要转换为列表项响应
+     *
+     * @param summary 位置列表摘要，不能为空
+     * @return 位置列表项响应
+     */
+    @Mapping(source = "id", target = "locationId")
+    LocationSummaryResponse toLocationSummaryResponse(LocationSummary summary);
+
+    /**
+     * 将位置列表摘要列表转换为列表项响应列表
+     *
+     * @param summaries 位置列表摘要列表，不能为空
+     * @return 位置列表项响应列表
+     */
+    List<LocationSummaryResponse> toLocationSummaryResponseList(List<LocationSummary> summaries);
 }
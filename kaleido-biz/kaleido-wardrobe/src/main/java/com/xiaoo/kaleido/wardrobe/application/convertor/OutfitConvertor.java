@@ -2,10 +2,12 @@ package com.xiaoo.kaleido.wardrobe.application.convertor;
 
 import com.xiaoo.kaleido.api.wardrobe.response.OutfitImageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.OutfitInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitSummaryResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.WearRecordResponse;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.aggregate.OutfitAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitImage;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.WearRecord;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo.OutfitSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -63,4 +65,21 @@ public interface OutfitConvertor {
      * @return 穿着记录响应列表
      */
     List<WearRecordResponse> toWearRecordResponseList(List<WearRecord> wearRecords);
+
+    /**
+     * 将穿搭列表摘要转换为列表项响应
+     *
+     * @param summary 穿搭列表摘要，不能为空
+     * @return 穿搭列表项响应
+     */
+    @Mapping(source = "id", target = "outfitId")
+    OutfitSummaryResponse toOutfitSummaryResponse(OutfitSummary summary);
+
+    /**
+     * 将穿搭列表摘要列表转换为列表项响应列表
+     *
+     * @param summaries 穿搭列表摘要列表，不能为空
+     * @return 穿搭列表项响应列表
+     */
+    List<OutfitSummaryResponse> toOutfitSummaryResponseList(List<OutfitSummary> summaries);
 }
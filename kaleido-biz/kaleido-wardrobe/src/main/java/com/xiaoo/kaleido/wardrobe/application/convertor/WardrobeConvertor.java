@@ -2,9 +2,11 @@ package com.xiaoo.kaleido.wardrobe.application.convertor;
 
 import com.xiaoo.kaleido.api.wardrobe.response.BrandInfoResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingSummaryResponse;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.BrandAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.ClothingAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.entity.ClothingImage;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo.ClothingSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -53,4 +55,21 @@ public interface WardrobeConvertor {
      * @return 图片信息响应列表
      */
     List<ClothingInfoResponse.ImageInfo> toImageResponseList(List<ClothingImage> clothingImages);
+
+    /**
+     * 将服装列表摘要转换为列表项响应
+     *
+     * @param summary 服装列表摘要，不能为空
+     * @return 服装列表项响应
+     */
+    @Mapping(source = "id", target = "clothingId")
+    ClothingSummaryResponse toClothingSummaryResponse(ClothingSummary summary);
+
+    /**
+     * 将服装列表摘要列表转换为列表项响应列表
+     *
+     * @param summaries 服装列表摘要列表，不能为空
+     * @return 服装列表项响应列表
+     */
+    List<ClothingSummaryResponse> toClothingSummaryResponseList(List<ClothingSummary> summaries);
 }
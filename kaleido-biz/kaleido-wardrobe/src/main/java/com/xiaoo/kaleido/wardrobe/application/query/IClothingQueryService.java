@@ -1,6 +1,9 @@
 package com.xiaoo.kaleido.wardrobe.application.query;
 
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingSummaryResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 
 import java.util.List;
 
@@ -34,4 +37,27 @@ public interface IClothingQueryService {
      * @return 服装信息响应，如果服装不存在或用户不匹配则返回null
      */
     ClothingInfoResponse findById(String clothingId, String userId);
+
+    /**
+     * 按游标分页查询用户服装列表
+     * <p>
+     * 只返回列表展示字段和主图信息，不加载完整聚合
+     *
+     * @param userId 用户ID，不能为空
+     * @param cursor 上一页返回的游标，首页为空
+     * @param limit  每页数量，为空时使用默认值，超过上限时截断
+     * @return 服装列表项分页响应
+     */
+    CursorPageResponse<ClothingSummaryResponse> pageByUserId(String userId, String cursor, Integer limit);
+
+    /**
+     * 按游标扫描全部服装的向量索引数据
+     * <p>
+     * 按服装ID升序遍历所有用户的服装，组装与服装事件相同的载荷，游标为上一页最后一件服装的ID
+     *
+     * @param cursor 上一页返回的游标，首页为空
+     * @param limit  每页数量，超过上限时截断
+     * @return 服装索引数据分页响应
+     */
+    CursorPageResponse<ClothingEventMessage> scanForIndex(String cursor, int limit);
 }
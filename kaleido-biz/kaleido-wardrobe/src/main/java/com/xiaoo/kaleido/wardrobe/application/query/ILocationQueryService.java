@@ -1,6 +1,8 @@
 package com.xiaoo.kaleido.wardrobe.application.query;
 
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.LocationInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationSummaryResponse;
 
 import java.util.List;
 
@@ -64,4 +66,16 @@ public interface ILocationQueryService {
      * @return 是否存在
      */
     boolean existsById(String locationId);
+
+    /**
+     * 按游标分页查询用户位置列表
+     * <p>
+     * 只返回列表展示字段和主图信息，不加载完整聚合
+     *
+     * @param userId 用户ID，不能为空
+     * @param cursor 上一页返回的游标，首页为空
+     * @param limit  每页数量，为空时使用默认值，超过上限时截断
+     * @return 位置列表项分页响应
+     */
+    CursorPageResponse<LocationSummaryResponse> pageByUserId(String userId, String cursor, Integer limit);
 }
@@ -0,0 +1,37 @@
+package com.xiaoo.kaleido.wardrobe.application.query;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.model.MediaObject;
+
+import java.io.InputStream;
+
+/**
+ * 媒体查询服务接口
+ * <p>
+ * 为媒体下载接口提供对象元数据和按字节区间读取的对象流
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+public interface IMediaQueryService {
+
+    /**
+     * 查询用户可访问的媒体对象元数据
+     *
+     * @param userId     用户ID，不能为空
+     * @param objectName MinIO对象名，可以是原图或衍生图
+     * @return 媒体对象元数据
+     * @throws com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException 对象不属于用户或不存在时抛出
+     */
+    MediaObject findOwnedMedia(String userId, String objectName);
+
+    /**
+     * 打开媒体对象的字节区间流，调用方负责关闭
+     *
+     * @param objectName MinIO对象名
+     * @param offset     起始字节位置
+     * @param length     读取长度
+     * @return 对象输入流
+     * @throws Exception MinIO操作异常
+     */
+    InputStream openRange(String objectName, long offset, long length) throws Exception;
+}
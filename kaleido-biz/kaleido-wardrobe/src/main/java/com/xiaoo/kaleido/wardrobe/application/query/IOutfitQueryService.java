@@ -1,6 +1,8 @@
 package com.xiaoo.kaleido.wardrobe.application.query;
 
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.OutfitInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitSummaryResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.WearRecordResponse;
 
 import java.util.List;
@@ -42,4 +44,16 @@ public interface IOutfitQueryService {
      * @return 穿着记录响应列表，如果不存在或用户不匹配则返回空列表
      */
     List<WearRecordResponse> findWearRecordsByOutfitId(String outfitId, String userId);
+
+    /**
+     * 按游标分页查询用户穿搭列表
+     * <p>
+     * 只返回列表展示字段和主图信息，不加载完整聚合
+     *
+     * @param userId 用户ID，不能为空
+     * @param cursor 上一页返回的游标，首页为空
+     * @param limit  每页数量，为空时使用默认值，超过上限时截断
+     * @return 穿搭列表项分页响应
+     */
+    CursorPageResponse<OutfitSummaryResponse> pageByUserId(String userId, String cursor, Integer limit);
 }
@@ -0,0 +1,109 @@
+package com.xiaoo.kaleido.wardrobe.application.query;
+
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 列表分页游标
+ * <p>
+ * 记录上一页最后一条记录的创建时间和ID，对外以Base64编码的不透明字符串传递
+ *
+ * @param createdAt 创建时间
+ * @param id        记录ID
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+public record ListCursor(Date createdAt, String id) {
+
+    /**
+     * 默认每页数量
+     */
+    public static final int DEFAULT_LIMIT = 20;
+
+    /**
+     * 每页数量上限
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * 解析游标字符串
+     *
+     * @param cursor 游标字符串，为空表示首页
+     * @return 游标，首页返回null
+     * @throws WardrobeException 游标格式错误时抛出
+     */
+    public static ListCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(SEPARATOR);
+            String id = raw.substring(index + 1);
+            if (index <= 0 || id.isEmpty()) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ListCursor(new Date(Long.parseLong(raw.substring(0, index))), id);
+        } catch (RuntimeException e) {
+            throw WardrobeException.of(WardrobeErrorCode.PARAM_FORMAT_ERROR, "分页游标格式错误");
+        }
+    }
+
+    /**
+     * 编码为游标字符串
+     */
+    public String encode() {
+        String raw = createdAt.getTime() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 规范化每页数量
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * 组装分页响应
+     * <p>
+     * 调用方按limit+1条查询，多出的一条只用于判断是否还有下一页
+     *
+     * @param rows        查询结果，最多limit+1条
+     * @param limit       每页数量
+     * @param createdAtOf 创建时间取值函数
+     * @param idOf        ID取值函数
+     * @param mapper      当前页数据转换函数
+     * @return 分页响应
+     */
+    public static <T, R> CursorPageResponse<R> page(List<T> rows, int limit,
+                                                    Function<T, Date> createdAtOf,
+                                                    Function<T, String> idOf,
+                                                    Function<List<T>, List<R>> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<T> current = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            T last = current.get(current.size() - 1);
+            nextCursor = new ListCursor(createdAtOf.apply(last), idOf.apply(last)).encode();
+        }
+        return CursorPageResponse.<R>builder()
+                .items(mapper.apply(current))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -1,15 +1,33 @@
 package com.xiaoo.kaleido.wardrobe.application.query.impl;
 
+import cn.hutool.core.util.StrUtil;
+import com.xiaoo.kaleido.api.wardrobe.enums.ClothingEventTypeEnums;
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingSummaryResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
+import com.xiaoo.kaleido.wardrobe.application.convertor.ImageUrlAssembler;
 import com.xiaoo.kaleido.wardrobe.application.convertor.WardrobeConvertor;
 import com.xiaoo.kaleido.wardrobe.application.query.IClothingQueryService;
+import com.xiaoo.kaleido.wardrobe.application.query.ListCursor;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.adapter.event.ClothingEvent;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.adapter.event.IClothingEventPublisher;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.adapter.repository.IClothingRepository;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.ClothingAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo.ClothingSummary;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.service.IBrandDomainService;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.service.IClothingDomainService;
+import com.xiaoo.kaleido.wardrobe.domain.location.service.ILocationDomainService;
+import com.xiaoo.kaleido.wardrobe.types.constant.ClothingDictTypeEnum;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,8 +41,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClothingQueryServiceImpl implements IClothingQueryService {
 
+    /**
+     * 索引数据扫描每页数量上限
+     */
+    private static final int MAX_SCAN_LIMIT = 500;
+
     private final IClothingDomainService clothingDomainService;
     private final WardrobeConvertor wardrobeConvertor;
+    private final IClothingRepository clothingRepository;
+    private final ImageUrlAssembler imageUrlAssembler;
+    private final IBrandDomainService brandDomainService;
+    private final ILocationDomainService locationDomainService;
+    private final IClothingEventPublisher clothingEventPublisher;
+    private final ClothingEvent clothingEvent;
 
     @Override
     public List<ClothingInfoResponse> findByUserId(String userId) {
@@ -34,9 +63,13 @@ public class ClothingQueryServiceImpl implements IClothingQueryService {
         List<ClothingAggregate> clothingList = clothingDomainService.findByUserId(userId);
         
         // 使用MapStruct转换器转换为响应对象
-        return clothingList.stream()
+        List<ClothingInfoResponse> responses = clothingList.stream()
                 .map(wardrobeConvertor::toClothingResponse)
                 .collect(Collectors.toList());
+
+        // 批量填充图片访问URL
+        imageUrlAssembler.fillClothing(responses);
+        return responses;
     }
 
     @Override
@@ -47,6 +80,85 @@ public class ClothingQueryServiceImpl implements IClothingQueryService {
         ClothingAggregate clothing = clothingDomainService.findByIdAndUserIdOrThrow(clothingId, userId);
         
         // 使用MapStruct转换器转换为响应对象
-        return wardrobeConvertor.toClothingResponse(clothing);
+        ClothingInfoResponse response = wardrobeConvertor.toClothingResponse(clothing);
+        imageUrlAssembler.fillClothing(List.of(response));
+        return response;
+    }
+
+    @Override
+    public CursorPageResponse<ClothingSummaryResponse> pageByUserId(String userId, String cursor, Integer limit) {
+        log.info("分页查询用户服装列表，用户ID: {}, 游标: {}", userId, cursor);
+
+        // 1.多查一条用于判断是否还有下一页
+        ListCursor after = ListCursor.decode(cursor);
+        int size = ListCursor.normalizeLimit(limit);
+        List<ClothingSummary> rows = clothingRepository.findSummariesByUserId(userId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        // 2.转换当前页并批量填充主图URL
+        CursorPageResponse<ClothingSummaryResponse> page = ListCursor.page(rows, size,
+                ClothingSummary::getCreatedAt, ClothingSummary::getId, wardrobeConvertor::toClothingSummaryResponseList);
+        imageUrlAssembler.fillClothingSummaries(page.getItems());
+        return page;
+    }
+
+    @Override
+    public CursorPageResponse<ClothingEventMessage> scanForIndex(String cursor, int limit) {
+        log.info("扫描服装索引数据，游标: {}, 数量: {}", cursor, limit);
+
+        // 1.多查一条用于判断是否还有下一页
+        int size = Math.max(1, Math.min(limit, MAX_SCAN_LIMIT));
+        List<ClothingAggregate> rows = clothingRepository.findAfterId(StrUtil.emptyToNull(cursor), size + 1);
+        boolean hasMore = rows.size() > size;
+        List<ClothingAggregate> current = hasMore ? rows.subList(0, size) : rows;
+
+        // 2.组装事件载荷，同一页内相同的字典、品牌和位置只解析一次
+        Map<String, String> names = new HashMap<>();
+        List<ClothingEventMessage> items = new ArrayList<>(current.size());
+        for (ClothingAggregate clothing : current) {
+            items.add(clothingEvent.buildApiMessage(
+                    ClothingEventTypeEnums.UPDATE,
+                    clothing.getUserId(),
+                    clothing.getId(),
+                    clothing.getName(),
+                    dictName(names, ClothingDictTypeEnum.CLOTHING_TYPE, clothing.getTypeCode()),
+                    dictName(names, ClothingDictTypeEnum.COLOR, clothing.getColorCode()),
+                    dictName(names, ClothingDictTypeEnum.SEASON, clothing.getSeasonCode()),
+                    resolveName(names, "brand:", clothing.getBrandId(), brandDomainService::getBrandName),
+                    clothing.getSize(),
+                    clothing.getPurchaseDate(),
+                    clothing.getPrice(),
+                    clothing.getDescription(),
+                    resolveName(names, "location:", clothing.getCurrentLocationId(), locationDomainService::getLocationName)));
+        }
+
+        return CursorPageResponse.<ClothingEventMessage>builder()
+                .items(items)
+                .nextCursor(hasMore ? current.get(current.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private String dictName(Map<String, String> names, ClothingDictTypeEnum dictType, String dictCode) {
+        return resolveName(names, dictType.getCode() + ":", dictCode,
+                code -> clothingEventPublisher.getDictName(dictType, code));
+    }
+
+    /**
+     * 解析名称并在当前页内缓存，解析结果为空时同样缓存，避免重复远程调用
+     */
+    private String resolveName(Map<String, String> names, String namespace, String id, Function<String, String> resolver) {
+        if (StrUtil.isBlank(id)) {
+            return null;
+        }
+        String key = namespace + id;
+        if (names.containsKey(key)) {
+            return names.get(key);
+        }
+        String name = resolver.apply(id);
+        names.put(key, name);
+        return name;
     }
 }
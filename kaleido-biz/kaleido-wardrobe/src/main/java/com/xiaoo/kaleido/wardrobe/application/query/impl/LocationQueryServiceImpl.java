@@ -1,11 +1,16 @@
 package com.xiaoo.kaleido.wardrobe.application.query.impl;
 
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.LocationInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationSummaryResponse;
+import com.xiaoo.kaleido.wardrobe.application.convertor.ImageUrlAssembler;
 import com.xiaoo.kaleido.wardrobe.application.convertor.LocationConvertor;
 import com.xiaoo.kaleido.wardrobe.application.query.ILocationQueryService;
+import com.xiaoo.kaleido.wardrobe.application.query.ListCursor;
 import com.xiaoo.kaleido.wardrobe.domain.location.adapter.repository.ILocationRepository;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.aggregate.StorageLocationAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.entity.LocationImage;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.vo.LocationSummary;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
 import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +35,7 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
 
     private final ILocationRepository locationRepository;
     private final LocationConvertor locationConvertor;
+    private final ImageUrlAssembler imageUrlAssembler;
 
     /**
      * 根据位置ID查询位置详情
@@ -53,7 +59,8 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
             // 4.转换为Response
             LocationInfoResponse response = locationConvertor.toResponse(locationDTO);
             response.setImages(locationConvertor.toImageResponseList(imageDTOs));
-            
+            imageUrlAssembler.fillLocation(List.of(response));
+
             return response;
 
         } catch (Exception e) {
@@ -90,7 +97,8 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
             // 5.转换为Response
             LocationInfoResponse response = locationConvertor.toResponse(locationDTO);
             response.setImages(locationConvertor.toImageResponseList(imageDTOs));
-            
+            imageUrlAssembler.fillLocation(List.of(response));
+
             return response;
 
         } catch (WardrobeException e) {
@@ -115,7 +123,7 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
             List<StorageLocationAggregate> locations = locationRepository.findByUserId(userId);
 
             // 2.转换为Response列表
-            return locations.stream()
+            List<LocationInfoResponse> responses = locations.stream()
                     .map(location -> {
                         LocationDTO locationDTO = locationConvertor.toDTO(location);
                         LocationInfoResponse response = locationConvertor.toResponse(locationDTO);
@@ -129,6 +137,10 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
                     })
                     .collect(Collectors.toList());
 
+            // 3.批量填充图片访问URL
+            imageUrlAssembler.fillLocation(responses);
+            return responses;
+
         } catch (Exception e) {
             log.error("查询用户位置列表失败，用户ID: {}, 原因: {}", userId, e.getMessage(), e);
             throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "用户位置列表查询失败");
@@ -148,7 +160,7 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
             List<StorageLocationAggregate> locations = locationRepository.findByIds(locationIds);
 
             // 2.转换为Response列表
-            return locations.stream()
+            List<LocationInfoResponse> responses = locations.stream()
                     .map(location -> {
                         LocationDTO locationDTO = locationConvertor.toDTO(location);
                         LocationInfoResponse response = locationConvertor.toResponse(locationDTO);
@@ -162,6 +174,10 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
                     })
                     .collect(Collectors.toList());
 
+            // 3.批量填充图片访问URL
+            imageUrlAssembler.fillLocation(responses);
+            return responses;
+
         } catch (Exception e) {
             log.error("查询位置列表失败，位置ID列表: {}, 原因: {}", locationIds, e.getMessage(), e);
             throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "位置列表查询失败");
@@ -252,4 +268,31 @@ public class LocationQueryServiceImpl implements ILocationQueryService {
             this.primaryImageId = primaryImageId;
         }
     }
+
+    /**
+     * 按游标分页查询用户位置列表
+     *
+     * @param userId 用户ID
+     * @param cursor 上一页返回的游标
+     * @param limit  每页数量
+     * @return 位置列表项分页响应
+     */
+    @Override
+    public CursorPageResponse<LocationSummaryResponse> pageByUserId(String userId, String cursor, Integer limit) {
+        log.info("分页查询用户位置列表，用户ID: {}, 游标: {}", userId, cursor);
+
+        // 1.多查一条用于判断是否还有下一页
+        ListCursor after = ListCursor.decode(cursor);
+        int size = ListCursor.normalizeLimit(limit);
+        List<LocationSummary> rows = locationRepository.findSummariesByUserId(userId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        // 2.转换当前页并批量填充主图URL
+        CursorPageResponse<LocationSummaryResponse> page = ListCursor.page(rows, size,
+                LocationSummary::getCreatedAt, LocationSummary::getId, locationConvertor::toLocationSummaryResponseList);
+        imageUrlAssembler.fillLocationSummaries(page.getItems());
+        return page;
+    }
 }
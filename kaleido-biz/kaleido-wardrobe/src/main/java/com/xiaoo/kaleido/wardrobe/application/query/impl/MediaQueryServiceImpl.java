@@ -0,0 +1,61 @@
+package com.xiaoo.kaleido.wardrobe.application.query.impl;
+
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.wardrobe.application.query.IMediaQueryService;
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageReferenceRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.model.MediaObject;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+
+/**
+ * 媒体查询服务实现类
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaQueryServiceImpl implements IMediaQueryService {
+
+    private final IMinIOService minIOService;
+    private final IImageReferenceRepository imageReferenceRepository;
+
+    @Override
+    public MediaObject findOwnedMedia(String userId, String objectName) {
+        // 1.校验对象属于当前用户的图片
+        if (!imageReferenceRepository.isOwnedByUser(userId, objectName)) {
+            throw WardrobeException.of(WardrobeErrorCode.IMAGE_NOT_FOUND);
+        }
+
+        // 2.读取对象元数据
+        try {
+            StatObjectResponse stat = minIOService.statObject(objectName);
+            return MediaObject.builder()
+                    .objectName(objectName)
+                    .size(stat.size())
+                    .etag(stat.etag())
+                    .contentType(stat.contentType())
+                    .lastModified(stat.lastModified() != null ? stat.lastModified().toInstant() : null)
+                    .build();
+        } catch (ErrorResponseException e) {
+            log.warn("媒体对象不存在: {}, 错误: {}", objectName, e.getMessage());
+            throw WardrobeException.of(WardrobeErrorCode.IMAGE_NOT_FOUND);
+        } catch (Exception e) {
+            log.error("读取媒体对象元数据失败: {}, 错误: {}", objectName, e.getMessage(), e);
+            throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "媒体信息查询失败");
+        }
+    }
+
+    @Override
+    public InputStream openRange(String objectName, long offset, long length) throws Exception {
+        return minIOService.getObject(objectName, offset, length);
+    }
+}
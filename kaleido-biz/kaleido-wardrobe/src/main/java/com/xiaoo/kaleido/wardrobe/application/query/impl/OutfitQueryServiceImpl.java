@@ -1,10 +1,16 @@
 package com.xiaoo.kaleido.wardrobe.application.query.impl;
 
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.OutfitInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitSummaryResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.WearRecordResponse;
+import com.xiaoo.kaleido.wardrobe.application.convertor.ImageUrlAssembler;
 import com.xiaoo.kaleido.wardrobe.application.convertor.OutfitConvertor;
 import com.xiaoo.kaleido.wardrobe.application.query.IOutfitQueryService;
+import com.xiaoo.kaleido.wardrobe.application.query.ListCursor;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.adapter.repository.IOutfitRepository;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.aggregate.OutfitAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo.OutfitSummary;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.service.IOutfitDomainService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +32,8 @@ public class OutfitQueryServiceImpl implements IOutfitQueryService {
 
     private final IOutfitDomainService outfitDomainService;
     private final OutfitConvertor outfitConvertor;
+    private final IOutfitRepository outfitRepository;
+    private final ImageUrlAssembler imageUrlAssembler;
 
     @Override
     public List<OutfitInfoResponse> findByUserId(String userId) {
@@ -35,9 +43,13 @@ public class OutfitQueryServiceImpl implements IOutfitQueryService {
         List<OutfitAggregate> outfitList = outfitDomainService.findOutfitsByUserId(userId);
         
         // 使用MapStruct转换器转换为响应对象
-        return outfitList.stream()
+        List<OutfitInfoResponse> responses = outfitList.stream()
                 .map(outfitConvertor::toOutfitResponse)
                 .collect(Collectors.toList());
+
+        // 批量填充图片访问URL
+        imageUrlAssembler.fillOutfit(responses);
+        return responses;
     }
 
     @Override
@@ -48,7 +60,9 @@ public class OutfitQueryServiceImpl implements IOutfitQueryService {
         OutfitAggregate outfit = outfitDomainService.findByIdAndUserIdOrThrow(outfitId, userId);
         
         // 使用MapStruct转换器转换为响应对象
-        return outfitConvertor.toOutfitResponse(outfit);
+        OutfitInfoResponse response = outfitConvertor.toOutfitResponse(outfit);
+        imageUrlAssembler.fillOutfit(List.of(response));
+        return response;
     }
 
     @Override
@@ -63,4 +77,23 @@ public class OutfitQueryServiceImpl implements IOutfitQueryService {
                 .map(outfitConvertor::toWearRecordResponse)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public CursorPageResponse<OutfitSummaryResponse> pageByUserId(String userId, String cursor, Integer limit) {
+        log.info("分页查询用户穿搭列表，用户ID: {}, 游标: {}", userId, cursor);
+
+        // 1.多查一条用于判断是否还有下一页
+        ListCursor after = ListCursor.decode(cursor);
+        int size = ListCursor.normalizeLimit(limit);
+        List<OutfitSummary> rows = outfitRepository.findSummariesByUserId(userId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
+
+        // 2.转换当前页并批量填充主图URL
+        CursorPageResponse<OutfitSummaryResponse> page = ListCursor.page(rows, size,
+                OutfitSummary::getCreatedAt, OutfitSummary::getId, outfitConvertor::toOutfitSummaryResponseList);
+        imageUrlAssembler.fillOutfitSummaries(page.getItems());
+        return page;
+    }
 }
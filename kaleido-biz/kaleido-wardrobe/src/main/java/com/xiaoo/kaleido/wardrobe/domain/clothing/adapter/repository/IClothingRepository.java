@@ -1,7 +1,9 @@
 package com.xiaoo.kaleido.wardrobe.domain.clothing.adapter.repository;
 
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.ClothingAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo.ClothingSummary;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,4 +67,27 @@ public interface IClothingRepository {
      */
     List<ClothingAggregate> findByUserId(String userId);
 
+    /**
+     * 按游标分页查询用户服装列表摘要
+     * <p>
+     * 按创建时间和ID倒序，只查询列表展示字段和主图路径
+     *
+     * @param userId          用户ID，不能为空
+     * @param cursorCreatedAt 上一页最后一条记录的创建时间，首页为空
+     * @param cursorId        上一页最后一条记录的ID，首页为空
+     * @param limit           查询数量
+     * @return 服装列表摘要
+     */
+    List<ClothingSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit);
+
+    /**
+     * 按服装ID游标扫描全部服装
+     * <p>
+     * 按服装ID升序遍历所有用户的服装，不加载图片，用于全量数据导出
+     *
+     * @param cursorId 上一页最后一条记录的ID，首页为空
+     * @param limit    查询数量
+     * @return 服装聚合根列表
+     */
+    List<ClothingAggregate> findAfterId(String cursorId, int limit);
 }
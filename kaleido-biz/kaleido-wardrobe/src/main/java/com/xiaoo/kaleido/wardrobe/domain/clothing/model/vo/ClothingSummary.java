@@ -0,0 +1,73 @@
+package com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 服装列表摘要值对象
+ * <p>
+ * 列表页只读视图，仅包含列表展示所需字段和主图路径，不加载完整聚合
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClothingSummary {
+
+    /**
+     * 服装ID
+     */
+    private String id;
+
+    /**
+     * 服装名称
+     */
+    private String name;
+
+    /**
+     * 服装类型编码
+     */
+    private String typeCode;
+
+    /**
+     * 颜色编码
+     */
+    private String colorCode;
+
+    /**
+     * 季节编码
+     */
+    private String seasonCode;
+
+    /**
+     * 品牌ID
+     */
+    private String brandId;
+
+    /**
+     * 当前位置ID
+     */
+    private String currentLocationId;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
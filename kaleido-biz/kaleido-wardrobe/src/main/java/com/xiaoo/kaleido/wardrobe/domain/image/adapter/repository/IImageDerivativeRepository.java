@@ -0,0 +1,27 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivatives;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+
+/**
+ * 衍生图仓储接口
+ * <p>
+ * 负责把生成好的衍生图路径回写到各领域的图片表
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+public interface IImageDerivativeRepository {
+
+    /**
+     * 按原图路径回写衍生图路径
+     * <p>
+     * 同一路径可能被多条图片记录引用，全部更新
+     *
+     * @param domainType  领域类型
+     * @param path        原图路径
+     * @param derivatives 衍生图路径
+     * @return 更新的记录数
+     */
+    int updateDerivatives(DomainType domainType, String path, ImageDerivatives derivatives);
+}
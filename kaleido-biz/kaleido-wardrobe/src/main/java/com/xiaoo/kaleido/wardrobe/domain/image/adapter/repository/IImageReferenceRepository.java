@@ -0,0 +1,38 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 图片引用仓储接口
+ * <p>
+ * 查询各领域图片表中仍在使用的图片路径
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+public interface IImageReferenceRepository {
+
+    /**
+     * 查询服装、穿搭、位置图片表中所有未删除记录引用的原图路径
+     *
+     * @return 原图路径集合
+     */
+    Set<String> findReferencedPaths();
+
+    /**
+     * 判断对象是否属于用户的服装、穿搭或位置图片，衍生图按其原图判断
+     *
+     * @param userId     用户ID
+     * @param objectName MinIO对象名
+     * @return 是否属于该用户
+     */
+    boolean isOwnedByUser(String userId, String objectName);
+
+    /**
+     * 统计每个内容寻址图片被服装、穿搭、位置引用的次数，同一聚合内重复引用只计一次
+     *
+     * @return 内容寻址路径到引用数的映射
+     */
+    Map<String, Long> countContentReferences();
+}
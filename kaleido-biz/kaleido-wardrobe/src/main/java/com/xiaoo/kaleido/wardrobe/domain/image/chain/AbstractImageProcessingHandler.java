@@ -1,7 +1,12 @@
 package com.xiaoo.kaleido.wardrobe.domain.image.chain;
 
 import com.xiaoo.kaleido.wardrobe.domain.image.context.ImageProcessingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * 抽象图片处理处理器
@@ -19,6 +24,19 @@ public abstract class AbstractImageProcessingHandler implements ImageProcessingH
      */
     protected ImageProcessingHandler next;
     
+    /**
+     * 处理器耗时统计
+     */
+    private Timer handlerTimer;
+    
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.handlerTimer = Timer.builder("wardrobe.image.handler.latency")
+                .description("图片处理器耗时")
+                .tag("handler", getHandlerName())
+                .register(meterRegistry);
+    }
+    
     @Override
     public void setNext(ImageProcessingHandler next) {
         this.next = next;
@@ -45,7 +63,14 @@ public abstract class AbstractImageProcessingHandler implements ImageProcessingH
         
         try {
             // 执行具体处理逻辑
-            doHandle(context);
+            long start = System.nanoTime();
+            try {
+                doHandle(context);
+            } finally {
+                if (handlerTimer != null) {
+                    handlerTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
             
             // 如果处理成功且没有错误，继续下一个处理器
             if (!context.hasError()) {
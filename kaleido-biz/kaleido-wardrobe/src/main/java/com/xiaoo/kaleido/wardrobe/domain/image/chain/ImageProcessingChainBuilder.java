@@ -1,5 +1,6 @@
 package com.xiaoo.kaleido.wardrobe.domain.image.chain;
 
+import com.xiaoo.kaleido.wardrobe.domain.image.chain.handler.ContentLookupHandler;
 import com.xiaoo.kaleido.wardrobe.domain.image.chain.handler.ImageOptimizationHandler;
 import com.xiaoo.kaleido.wardrobe.domain.image.chain.handler.MetadataExtractionHandler;
 import com.xiaoo.kaleido.wardrobe.domain.image.chain.handler.ValidationHandler;
@@ -26,6 +27,7 @@ import java.util.List;
 public class ImageProcessingChainBuilder {
     
     private final ValidationHandler validationHandler;
+    private final ContentLookupHandler contentLookupHandler;
     private final MetadataExtractionHandler metadataExtractionHandler;
     private final ImageOptimizationHandler imageOptimizationHandler;
     
@@ -54,6 +56,7 @@ public class ImageProcessingChainBuilder {
         
         // 添加处理器到列表
         allHandlers.add(validationHandler);
+        allHandlers.add(contentLookupHandler);
         allHandlers.add(metadataExtractionHandler);
         allHandlers.add(imageOptimizationHandler);
         
@@ -0,0 +1,58 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.chain.handler;
+
+import com.xiaoo.kaleido.file.model.ContentObject;
+import com.xiaoo.kaleido.file.service.IContentStore;
+import com.xiaoo.kaleido.wardrobe.domain.image.chain.AbstractImageProcessingHandler;
+import com.xiaoo.kaleido.wardrobe.domain.image.context.ImageProcessingContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 内容元数据查询处理器
+ * <p>
+ * 图片为内容寻址对象且元数据已登记时，直接使用缓存的元数据，
+ * 后续的元数据提取处理器不再访问MinIO
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentLookupHandler extends AbstractImageProcessingHandler {
+
+    /**
+     * 上下文属性：内容哈希
+     */
+    public static final String ATTR_CONTENT_HASH = "contentHash";
+
+    private final IContentStore contentStore;
+
+    @Override
+    protected void doHandle(ImageProcessingContext context) {
+        String imagePath = context.getBasicImageInfo().getPath();
+        Optional<ContentObject> content;
+        try {
+            content = contentStore.findByObjectName(imagePath);
+        } catch (Exception e) {
+            // 缓存不可用时交由元数据提取处理器从MinIO读取
+            log.warn("查询内容元数据失败，回退到MinIO: {}, 错误: {}", imagePath, e.getMessage());
+            return;
+        }
+        if (content.isEmpty()) {
+            return;
+        }
+
+        context.setMinioInfo(content.get().toImageInfo());
+        context.setAttribute(ATTR_CONTENT_HASH, content.get().getHash());
+        log.debug("命中内容元数据缓存: {}", imagePath);
+    }
+
+    @Override
+    protected String getHandlerName() {
+        return "ContentLookupHandler";
+    }
+}
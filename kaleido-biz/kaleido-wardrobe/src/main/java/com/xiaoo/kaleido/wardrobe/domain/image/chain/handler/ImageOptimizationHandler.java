@@ -9,8 +9,9 @@ import org.springframework.stereotype.Component;
 /**
  * 图片优化处理器
  * <p>
- * 对图片进行优化处理（压缩、格式转换等）
- * 演示装饰器模式在责任链中的应用
+ * 校验图片大小并标记需要压缩的图片。
+ * 实际的缩略图、详情图和压缩图在图片记录落库后由{@link com.xiaoo.kaleido.wardrobe.domain.image.service.ImageDerivativeService}
+ * 异步生成，不占用请求线程
  *
  * @author ouyucheng
  * @date 2026/1/23
@@ -49,50 +50,16 @@ public class ImageOptimizationHandler extends AbstractImageProcessingHandler {
             return;
         }
         
-        // 如果图片大小超过压缩阈值，标记需要压缩
+        // 如果图片大小超过压缩阈值，标记需要压缩，由衍生图任务生成压缩图
         if (fileSize > COMPRESSION_THRESHOLD) {
             log.debug("图片需要压缩，路径: {}, 大小: {} bytes", imagePath, fileSize);
             context.setAttribute("needsCompression", true);
             context.setAttribute("originalSize", fileSize);
-            
-            // 模拟压缩处理
-            long compressedSize = simulateCompression(fileSize);
-            context.setAttribute("compressedSize", compressedSize);
-            context.setAttribute("compressionRatio", (double) compressedSize / fileSize);
-        }
-        
-        // 检查图片格式，如果需要则标记转换
-        String mimeType = context.getMinioInfo().getMimeType();
-        if (mimeType != null && !isOptimizedFormat(mimeType)) {
-            log.debug("图片格式需要优化: {}, 格式: {}", imagePath, mimeType);
-            context.setAttribute("needsFormatConversion", true);
-            context.setAttribute("targetFormat", "image/webp");
         }
         
         log.debug("图片优化处理完成: {}", imagePath);
     }
     
-    /**
-     * 模拟图片压缩
-     */
-    private long simulateCompression(long originalSize) {
-        // 简单压缩算法：如果大于2MB，压缩到70%，否则压缩到85%
-        double ratio = originalSize > 2 * 1024 * 1024 ? 0.7 : 0.85;
-        return (long) (originalSize * ratio);
-    }
-    
-    /**
-     * 检查是否为优化格式
-     */
-    private boolean isOptimizedFormat(String mimeType) {
-        // 优化的格式：webp, avif, jpeg 2000等
-        return mimeType.contains("webp") || 
-               mimeType.contains("avif") || 
-               mimeType.contains("jp2") ||
-               mimeType.contains("jpeg") || 
-               mimeType.contains("jpg");
-    }
-    
     /**
      * 应用优化到处理结果
      */
@@ -26,6 +26,13 @@ public class MetadataExtractionHandler extends AbstractImageProcessingHandler {
     @Override
     protected void doHandle(ImageProcessingContext context) {
         String imagePath = context.getBasicImageInfo().getPath();
+
+        // 内容元数据已由前置处理器从缓存中获取
+        if (context.getMinioInfo() != null) {
+            log.debug("元数据已存在，跳过提取: {}", imagePath);
+            return;
+        }
+
         log.debug("开始提取图片元数据: {}", imagePath);
         
         try {
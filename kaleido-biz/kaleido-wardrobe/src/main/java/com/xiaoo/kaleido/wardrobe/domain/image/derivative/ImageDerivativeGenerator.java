@@ -0,0 +1,198 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.derivative;
+
+import com.xiaoo.kaleido.file.util.ImageHeaderReader;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 衍生图生成器
+ * <p>
+ * 原图只解码一次，按EXIF方向摆正后依次生成各尺寸的JPEG衍生图
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+public final class ImageDerivativeGenerator {
+
+    /**
+     * 查找EXIF方向时读取的头部字节数，APP1段最长64KB
+     */
+    private static final int EXIF_PROBE_SIZE = 64 * 1024;
+
+    private ImageDerivativeGenerator() {
+    }
+
+    /**
+     * 生成全部类型的衍生图
+     *
+     * @param source 原图输入流
+     * @return 各类型衍生图的JPEG字节
+     * @throws IOException 解码或编码失败
+     */
+    public static Map<ImageDerivativeType, byte[]> generate(InputStream source) throws IOException {
+        // ImageIO不处理EXIF方向，解码前先读取头部字节中的方向标签
+        BufferedInputStream buffered = new BufferedInputStream(source, EXIF_PROBE_SIZE);
+        buffered.mark(EXIF_PROBE_SIZE);
+        int orientation = ImageHeaderReader.readJpegOrientation(buffered.readNBytes(EXIF_PROBE_SIZE));
+        buffered.reset();
+
+        BufferedImage decoded = ImageIO.read(buffered);
+        if (decoded == null) {
+            throw new IOException("无法解码图片");
+        }
+
+        // JPEG不支持透明通道，统一转换为白底RGB；衍生图不保留EXIF，需在像素上摆正方向
+        BufferedImage rgb = toRgb(decoded, orientation);
+
+        Map<ImageDerivativeType, byte[]> result = new EnumMap<>(ImageDerivativeType.class);
+        // 从大到小生成，较小尺寸基于上一步结果缩放，减少计算量
+        BufferedImage current = rgb;
+        for (ImageDerivativeType type : new ImageDerivativeType[]{
+                ImageDerivativeType.ORIGINAL, ImageDerivativeType.DETAIL, ImageDerivativeType.LIST}) {
+            current = resize(current, type.getMaxEdge());
+            result.put(type, encodeJpeg(current, type.getQuality()));
+        }
+        return result;
+    }
+
+    /**
+     * 转换为不含透明通道的RGB图片，并按EXIF方向旋转或翻转
+     *
+     * @param source      解码后的原图
+     * @param orientation EXIF方向值 1~8
+     * @return 方向正确的RGB图片
+     */
+    private static BufferedImage toRgb(BufferedImage source, int orientation) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB && orientation == 1) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        // 5~8 需要转置，宽高互换
+        boolean transposed = orientation >= 5 && orientation <= 8;
+        int targetWidth = transposed ? height : width;
+        int targetHeight = transposed ? width : height;
+
+        BufferedImage rgb = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(source, orientationTransform(orientation, width, height), null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 将原图坐标映射为摆正后坐标的变换
+     *
+     * @param orientation EXIF方向值
+     * @param width       原图宽度
+     * @param height      原图高度
+     * @return 仿射变换
+     */
+    private static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            // 水平翻转
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            // 旋转180度
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            // 垂直翻转
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            // 沿主对角线转置
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            // 顺时针旋转90度
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            // 沿副对角线转置
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            // 逆时针旋转90度
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * 按最长边等比缩放
+     * <p>
+     * 缩小倍数较大时逐次减半，避免一次性双线性缩放产生锯齿
+     *
+     * @param source  原图
+     * @param maxEdge 最长边像素，0表示不缩放
+     * @return 缩放后的图片
+     */
+    private static BufferedImage resize(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int longest = Math.max(width, height);
+        if (maxEdge <= 0 || longest <= maxEdge) {
+            return source;
+        }
+
+        double scale = (double) maxEdge / longest;
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 按指定质量编码为JPEG
+     */
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("没有可用的JPEG编码器");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,107 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.derivative;
+
+/**
+ * 衍生图类型枚举
+ * <p>
+ * 每种类型对应一个确定的MinIO对象名，重复处理同一张原图会得到相同的对象名
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+public enum ImageDerivativeType {
+
+    /**
+     * 列表缩略图
+     */
+    LIST("list", 480, 0.75f),
+
+    /**
+     * 详情图
+     */
+    DETAIL("detail", 1280, 0.8f),
+
+    /**
+     * 原尺寸重新压缩图
+     */
+    ORIGINAL("original", 0, 0.82f);
+
+    /**
+     * 衍生图对象名前缀
+     */
+    public static final String KEY_PREFIX = "derivative/";
+
+    /**
+     * 衍生图统一输出格式
+     */
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final String code;
+
+    /**
+     * 最长边像素，0表示保持原尺寸
+     */
+    private final int maxEdge;
+
+    /**
+     * JPEG压缩质量
+     */
+    private final float quality;
+
+    ImageDerivativeType(String code, int maxEdge, float quality) {
+        this.code = code;
+        this.maxEdge = maxEdge;
+        this.quality = quality;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+
+    public float getQuality() {
+        return quality;
+    }
+
+    /**
+     * 根据原图路径生成衍生图对象名
+     * <p>
+     * 格式：derivative/{去掉扩展名的原图路径}/{类型}.jpg
+     *
+     * @param sourcePath 原图路径
+     * @return 衍生图对象名
+     */
+    public String keyOf(String sourcePath) {
+        String base = sourcePath;
+        int lastSlash = base.lastIndexOf('/');
+        int lastDot = base.lastIndexOf('.');
+        if (lastDot > lastSlash) {
+            base = base.substring(0, lastDot);
+        }
+        if (base.startsWith("/")) {
+            base = base.substring(1);
+        }
+        return KEY_PREFIX + base + "/" + code + ".jpg";
+    }
+
+    /**
+     * 从衍生图对象名反推原图路径（不含扩展名）
+     *
+     * @param key 对象名
+     * @return 去掉扩展名的原图路径，不是衍生图对象名时返回null
+     */
+    public static String sourceStemOf(String key) {
+        if (key == null || !key.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        for (ImageDerivativeType type : values()) {
+            String suffix = "/" + type.code + ".jpg";
+            if (key.endsWith(suffix) && key.length() > KEY_PREFIX.length() + suffix.length()) {
+                return key.substring(KEY_PREFIX.length(), key.length() - suffix.length());
+            }
+        }
+        return null;
+    }
+}
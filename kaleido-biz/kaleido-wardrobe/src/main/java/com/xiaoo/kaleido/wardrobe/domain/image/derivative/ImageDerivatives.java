@@ -0,0 +1,46 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.derivative;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 衍生图路径
+ * <p>
+ * 记录一张原图生成的各类衍生图在MinIO中的路径
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+@Data
+@Builder
+public class ImageDerivatives {
+
+    /**
+     * 列表缩略图路径
+     */
+    private final String thumbnailPath;
+
+    /**
+     * 详情图路径
+     */
+    private final String detailPath;
+
+    /**
+     * 原尺寸压缩图路径
+     */
+    private final String compressedPath;
+
+    /**
+     * 根据原图路径生成全部衍生图路径
+     *
+     * @param sourcePath 原图路径
+     * @return 衍生图路径
+     */
+    public static ImageDerivatives of(String sourcePath) {
+        return ImageDerivatives.builder()
+                .thumbnailPath(ImageDerivativeType.LIST.keyOf(sourcePath))
+                .detailPath(ImageDerivativeType.DETAIL.keyOf(sourcePath))
+                .compressedPath(ImageDerivativeType.ORIGINAL.keyOf(sourcePath))
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.executor;
+
+import com.xiaoo.kaleido.wardrobe.types.config.ImageProcessingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 图片处理执行器
+ * <p>
+ * 基于虚拟线程并发处理图片，通过全局许可和单次请求许可限制并发，
+ * 每张图片在获取许可后独立计算处理超时（不含排队等待时间），输出顺序与输入顺序一致
+ *
+ * @author ouyucheng
+ * @date 2026/2/2
+ */
+@Slf4j
+@Component
+public class ImageProcessingExecutor {
+
+    private final ImageProcessingProperties properties;
+
+    private final ExecutorService executor;
+
+    /**
+     * 全局并发许可
+     */
+    private final Semaphore globalPermits;
+
+    /**
+     * 等待许可的图片数量
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * 正在处理的图片数量
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Timer latencyTimer;
+    private final Counter timeoutCounter;
+
+    public ImageProcessingExecutor(ImageProcessingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-processing-", 0).factory());
+        this.globalPermits = new Semaphore(Math.max(1, properties.getMaxConcurrency()));
+
+        Gauge.builder("wardrobe.image.processing.queue", waiting, AtomicInteger::get)
+                .description("等待处理许可的图片数量")
+                .register(meterRegistry);
+        Gauge.builder("wardrobe.image.processing.active", active, AtomicInteger::get)
+                .description("正在处理的图片数量")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("wardrobe.image.processing.latency")
+                .description("单张图片处理耗时")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("wardrobe.image.processing.timeout")
+                .description("图片处理超时次数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 按顺序处理图片列表
+     * <p>
+     * 处理失败或超时的图片使用降级函数生成结果，不影响其他图片
+     *
+     * @param items    待处理的图片列表
+     * @param task     处理函数
+     * @param fallback 降级函数，处理失败或超时时调用
+     * @param <T>      输入类型
+     * @param <R>      输出类型
+     * @return 与输入顺序一致的处理结果列表
+     */
+    public <T, R> List<R> mapOrdered(List<T> items, Function<T, R> task, Function<T, R> fallback) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        // 未启用并发或只有一张图片时，直接在调用线程中处理
+        if (!properties.isParallelEnabled() || items.size() == 1) {
+            List<R> results = new ArrayList<>(items.size());
+            for (T item : items) {
+                results.add(runSerial(item, task, fallback));
+            }
+            return results;
+        }
+
+        Semaphore requestPermits = new Semaphore(Math.max(1, properties.getPerRequestConcurrency()));
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(submit(item, task, requestPermits));
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        for (int i = 0; i < futures.size(); i++) {
+            T item = items.get(i);
+            results.add(futures.get(i)
+                    .handle((result, e) -> e == null ? result : onFailure(item, e, fallback))
+                    .join());
+        }
+        return results;
+    }
+
+    /**
+     * 在调用线程中处理单张图片
+     */
+    private <T, R> R runSerial(T item, Function<T, R> task, Function<T, R> fallback) {
+        try {
+            return latencyTimer.record(() -> task.apply(item));
+        } catch (Exception e) {
+            return onFailure(item, e, fallback);
+        }
+    }
+
+    /**
+     * 提交单张图片到虚拟线程处理
+     */
+    private <T, R> CompletableFuture<R> submit(T item, Function<T, R> task, Semaphore requestPermits) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        long timeoutMillis = properties.getTimeoutMillis();
+        waiting.incrementAndGet();
+
+        Future<?> worker = executor.submit(() -> {
+            boolean requestAcquired = false;
+            boolean globalAcquired = false;
+            boolean stillWaiting = true;
+            try {
+                // 单次请求内按许可数分批执行，前一批完成后释放许可
+                requestPermits.acquire();
+                requestAcquired = true;
+                globalAcquired = globalPermits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+                waiting.decrementAndGet();
+                stillWaiting = false;
+                if (!globalAcquired) {
+                    result.completeExceptionally(new TimeoutException("等待图片处理许可超时"));
+                    return;
+                }
+
+                // 许可获取后才开始计算单张图片的处理超时，排队等待时间不计入
+                result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+                active.incrementAndGet();
+                long start = System.nanoTime();
+                try {
+                    result.complete(task.apply(item));
+                } finally {
+                    latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    active.decrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } finally {
+                if (stillWaiting) {
+                    waiting.decrementAndGet();
+                }
+                if (globalAcquired) {
+                    globalPermits.release();
+                }
+                if (requestAcquired) {
+                    requestPermits.release();
+                }
+            }
+        });
+
+        // 超时后中断仍在执行的任务，尽快释放许可
+        result.whenComplete((r, e) -> {
+            if (e instanceof TimeoutException) {
+                worker.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 处理失败时记录日志并执行降级
+     */
+    private <T, R> R onFailure(T item, Throwable e, Function<T, R> fallback) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            timeoutCounter.increment();
+            log.warn("图片处理超时: {}, 超时时间: {} ms", item, properties.getTimeoutMillis());
+        } else {
+            log.warn("图片处理异常: {}, 错误: ", item, cause);
+        }
+        return fallback.apply(item);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
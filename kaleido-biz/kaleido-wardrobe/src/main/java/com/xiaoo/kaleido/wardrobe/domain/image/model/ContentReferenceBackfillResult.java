@@ -0,0 +1,38 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.model;
+
+import lombok.Data;
+
+/**
+ * 内容寻址图片引用计数回填结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+public class ContentReferenceBackfillResult {
+
+    /**
+     * 扫描的内容寻址对象数量
+     */
+    private long scanned;
+
+    /**
+     * 回填为正数引用的对象数量
+     */
+    private long referenced;
+
+    /**
+     * 没有任何引用、计数被清除的对象数量
+     */
+    private long unreferenced;
+
+    /**
+     * 数据库引用了但存储中已不存在的路径数量
+     */
+    private long missing;
+
+    /**
+     * 回填失败的对象数量
+     */
+    private long failed;
+}
@@ -0,0 +1,46 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 媒体对象元数据
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaObject {
+
+    /**
+     * MinIO对象名
+     */
+    private String objectName;
+
+    /**
+     * 对象大小（字节）
+     */
+    private long size;
+
+    /**
+     * 对象ETag（不含引号）
+     */
+    private String etag;
+
+    /**
+     * MIME类型
+     */
+    private String contentType;
+
+    /**
+     * 最后修改时间
+     */
+    private Instant lastModified;
+}
@@ -0,0 +1,33 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.model;
+
+import lombok.Data;
+
+/**
+ * 孤儿图片清理结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+@Data
+public class OrphanSweepResult {
+
+    /**
+     * 扫描的对象数量
+     */
+    private long scanned;
+
+    /**
+     * 发现的孤儿对象数量
+     */
+    private long orphans;
+
+    /**
+     * 删除成功的对象数量
+     */
+    private long deleted;
+
+    /**
+     * 删除失败的对象数量
+     */
+    private long failed;
+}
@@ -0,0 +1,91 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.service;
+
+import com.xiaoo.kaleido.file.service.IContentStore;
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.file.util.ContentAddress;
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageReferenceRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.model.ContentReferenceBackfillResult;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 内容寻址图片引用计数回填服务
+ * <p>
+ * 按服装、穿搭、位置图片表中的实际引用覆盖内容存储的引用计数。
+ * 开启引用归零删除（minio.content-delete-on-release）前必须先执行一次，之后可定期执行用于校正
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentReferenceBackfillService {
+
+    private final IMinIOService minIOService;
+    private final IContentStore contentStore;
+    private final IImageReferenceRepository imageReferenceRepository;
+
+    /**
+     * 执行一次回填
+     *
+     * @return 回填结果
+     */
+    public ContentReferenceBackfillResult backfill() {
+        ContentReferenceBackfillResult result = new ContentReferenceBackfillResult();
+
+        // 1.统计数据库中每个内容寻址路径的引用数
+        Map<String, Long> counts = imageReferenceRepository.countContentReferences();
+        Set<String> seen = new HashSet<>(counts.size());
+
+        // 2.遍历存储中的内容寻址对象，按统计结果覆盖计数，未被引用的对象清除计数
+        for (Result<Item> itemResult : minIOService.listObjects(ContentAddress.KEY_PREFIX, true)) {
+            Item item;
+            try {
+                item = itemResult.get();
+            } catch (Exception e) {
+                log.warn("读取内容寻址对象列表失败，错误: {}", e.getMessage());
+                continue;
+            }
+            if (item.isDir() || ContentAddress.hashOf(item.objectName()) == null) {
+                continue;
+            }
+            result.setScanned(result.getScanned() + 1);
+
+            String objectName = item.objectName();
+            long references = counts.getOrDefault(objectName, 0L);
+            seen.add(objectName);
+            try {
+                contentStore.resetReferences(objectName, references);
+                if (references > 0) {
+                    result.setReferenced(result.getReferenced() + 1);
+                } else {
+                    result.setUnreferenced(result.getUnreferenced() + 1);
+                }
+            } catch (Exception e) {
+                log.warn("回填引用计数失败: {}, 错误: {}", objectName, e.getMessage());
+                result.setFailed(result.getFailed() + 1);
+            }
+        }
+
+        // 3.数据库引用了但存储中不存在的路径只记录，由业务侧重新上传
+        for (String path : counts.keySet()) {
+            if (!seen.contains(path)) {
+                log.warn("图片引用的内容寻址对象不存在: {}", path);
+                result.setMissing(result.getMissing() + 1);
+            }
+        }
+
+        log.info("内容寻址引用计数回填完成，扫描: {}, 有引用: {}, 无引用: {}, 缺失: {}, 失败: {}",
+                result.getScanned(), result.getReferenced(), result.getUnreferenced(),
+                result.getMissing(), result.getFailed());
+        return result;
+    }
+}
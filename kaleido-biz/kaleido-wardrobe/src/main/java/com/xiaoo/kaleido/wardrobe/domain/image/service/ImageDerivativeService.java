@@ -0,0 +1,214 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.service;
+
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageDerivativeRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivativeGenerator;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivativeType;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivatives;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.types.config.ImageProcessingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 衍生图生成服务
+ * <p>
+ * 图片记录保存后异步生成列表缩略图、详情图和原尺寸压缩图，写回MinIO并记录到图片表。
+ * 对象名由原图路径确定，重复提交只会补齐缺失的衍生图
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final IMinIOService minIOService;
+    private final IImageDerivativeRepository imageDerivativeRepository;
+    private final ImageProcessingProperties properties;
+
+    /**
+     * 有界工作线程池，队列满时直接拒绝
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 正在排队或处理中的任务，避免同一张图片重复提交
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Timer generateTimer;
+
+    public ImageDerivativeService(IMinIOService minIOService,
+                                  IImageDerivativeRepository imageDerivativeRepository,
+                                  ImageProcessingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.minIOService = minIOService;
+        this.imageDerivativeRepository = imageDerivativeRepository;
+        this.properties = properties;
+
+        ImageProcessingProperties.Derivative config = properties.getDerivative();
+        int workers = Math.max(1, config.getWorkerThreads());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                r -> {
+                    Thread thread = new Thread(r, "image-derivative-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("wardrobe.image.derivative.queue", executor, e -> e.getQueue().size())
+                .description("等待生成衍生图的图片数量")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("wardrobe.image.derivative.rejected")
+                .description("队列已满被拒绝的衍生图任务数")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("wardrobe.image.derivative.failed")
+                .description("衍生图生成失败次数")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("wardrobe.image.derivative.skipped")
+                .description("衍生图已存在而跳过生成的次数")
+                .register(meterRegistry);
+        this.generateTimer = Timer.builder("wardrobe.image.derivative.latency")
+                .description("单张图片生成全部衍生图的耗时")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 提交衍生图生成任务
+     * <p>
+     * 存在活动事务时在事务提交后提交，保证回写时图片记录已经落库
+     *
+     * @param domainType 领域类型
+     * @param paths      原图路径列表
+     */
+    public void submit(DomainType domainType, Collection<String> paths) {
+        submit(domainType, paths, false);
+    }
+
+    /**
+     * 提交衍生图生成任务
+     *
+     * @param domainType 领域类型
+     * @param paths      原图路径列表
+     * @param force      是否强制重新生成已存在的衍生图
+     */
+    public void submit(DomainType domainType, Collection<String> paths, boolean force) {
+        if (!properties.getDerivative().isEnabled() || paths == null || paths.isEmpty()) {
+            return;
+        }
+        Set<String> distinctPaths = new LinkedHashSet<>(paths);
+        distinctPaths.remove(null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(domainType, distinctPaths, force);
+                }
+            });
+        } else {
+            enqueue(domainType, distinctPaths, force);
+        }
+    }
+
+    private void enqueue(DomainType domainType, Set<String> paths, boolean force) {
+        for (String path : paths) {
+            String taskKey = domainType.getCode() + ":" + path;
+            if (!inFlight.add(taskKey)) {
+                log.debug("衍生图任务已在处理中，跳过: {}", taskKey);
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(domainType, path, force);
+                    } finally {
+                        inFlight.remove(taskKey);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(taskKey);
+                rejectedCounter.increment();
+                log.warn("衍生图队列已满，丢弃任务: {}", taskKey);
+            }
+        }
+    }
+
+    /**
+     * 生成并记录单张原图的衍生图
+     */
+    private void process(DomainType domainType, String path, boolean force) {
+        ImageDerivatives derivatives = ImageDerivatives.of(path);
+        try {
+            if (!force && allExist(path)) {
+                skippedCounter.increment();
+            } else {
+                generateTimer.record(() -> generate(path));
+            }
+            int updated = imageDerivativeRepository.updateDerivatives(domainType, path, derivatives);
+            log.debug("衍生图处理完成，领域: {}, 路径: {}, 更新记录数: {}", domainType, path, updated);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("衍生图生成失败，领域: {}, 路径: {}, 错误: ", domainType, path, e);
+        }
+    }
+
+    private boolean allExist(String path) {
+        return Arrays.stream(ImageDerivativeType.values())
+                .allMatch(type -> minIOService.isObjectExist(type.keyOf(path)));
+    }
+
+    private void generate(String path) {
+        Map<ImageDerivativeType, byte[]> outputs;
+        try (InputStream source = minIOService.getObject(path)) {
+            outputs = ImageDerivativeGenerator.generate(source);
+        } catch (Exception e) {
+            throw new IllegalStateException("衍生图生成失败: " + path, e);
+        }
+
+        for (Map.Entry<ImageDerivativeType, byte[]> entry : outputs.entrySet()) {
+            byte[] bytes = entry.getValue();
+            try {
+                minIOService.uploadFile(entry.getKey().keyOf(path), new ByteArrayInputStream(bytes),
+                        bytes.length, ImageDerivativeType.CONTENT_TYPE);
+            } catch (Exception e) {
+                throw new IllegalStateException("衍生图上传失败: " + entry.getKey().keyOf(path), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
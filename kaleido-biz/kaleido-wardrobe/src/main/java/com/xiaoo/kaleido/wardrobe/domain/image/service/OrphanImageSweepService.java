@@ -0,0 +1,147 @@
+package com.xiaoo.kaleido.wardrobe.domain.image.service;
+
+import com.xiaoo.kaleido.file.service.IContentStore;
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.file.util.ContentAddress;
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageReferenceRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivativeType;
+import com.xiaoo.kaleido.wardrobe.domain.image.model.OrphanSweepResult;
+import com.xiaoo.kaleido.wardrobe.types.config.ImageSweepProperties;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 孤儿图片清理服务
+ * <p>
+ * 扫描MinIO中指定前缀下的对象，删除不再被任何图片记录引用的原图及其衍生图。
+ * 内容寻址对象可能被其他服务引用，还需在内容存储的锁内确认引用计数已归零才删除
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrphanImageSweepService {
+
+    private final IMinIOService minIOService;
+    private final IContentStore contentStore;
+    private final IImageReferenceRepository imageReferenceRepository;
+    private final ImageSweepProperties properties;
+
+    /**
+     * 执行一次清理
+     *
+     * @return 清理结果
+     */
+    public OrphanSweepResult sweep() {
+        OrphanSweepResult result = new OrphanSweepResult();
+
+        // 1.加载仍被引用的对象名（原图及其全部衍生图）
+        Set<String> referencedKeys = loadReferencedKeys();
+        ZonedDateTime cutoff = ZonedDateTime.now().minusHours(properties.getGraceHours());
+        int batchSize = Math.max(1, Math.min(1000, properties.getBatchSize()));
+
+        // 2.逐个前缀流式遍历对象，攒够一批后批量删除
+        List<String> batch = new ArrayList<>(batchSize);
+        for (String prefix : properties.getPrefixes()) {
+            for (Result<Item> itemResult : minIOService.listObjects(prefix, true)) {
+                Item item;
+                try {
+                    item = itemResult.get();
+                } catch (Exception e) {
+                    log.warn("读取对象列表失败，前缀: {}, 错误: {}", prefix, e.getMessage());
+                    continue;
+                }
+                if (item.isDir()) {
+                    continue;
+                }
+                result.setScanned(result.getScanned() + 1);
+
+                if (referencedKeys.contains(item.objectName())
+                        || item.lastModified() == null
+                        || item.lastModified().isAfter(cutoff)) {
+                    continue;
+                }
+                result.setOrphans(result.getOrphans() + 1);
+                batch.add(item.objectName());
+
+                if (batch.size() >= batchSize) {
+                    flush(batch, result);
+                }
+            }
+        }
+        flush(batch, result);
+
+        log.info("孤儿图片清理完成，试运行: {}, 扫描: {}, 孤儿: {}, 删除: {}, 失败: {}",
+                properties.isDryRun(), result.getScanned(), result.getOrphans(),
+                result.getDeleted(), result.getFailed());
+        return result;
+    }
+
+    private Set<String> loadReferencedKeys() {
+        Set<String> paths = imageReferenceRepository.findReferencedPaths();
+        Set<String> keys = new HashSet<>(paths.size() * (ImageDerivativeType.values().length + 1));
+        for (String path : paths) {
+            keys.add(path);
+            for (ImageDerivativeType type : ImageDerivativeType.values()) {
+                keys.add(type.keyOf(path));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 删除当前批次的孤儿对象，试运行时只记录日志
+     */
+    private void flush(List<String> batch, OrphanSweepResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (properties.isDryRun()) {
+            log.info("试运行，待删除孤儿对象 {} 个，示例: {}", batch.size(), batch.get(0));
+        } else {
+            List<String> plain = new ArrayList<>(batch.size());
+            for (String key : batch) {
+                if (ContentAddress.hashOf(key) != null) {
+                    removeContent(key, result);
+                } else {
+                    plain.add(key);
+                }
+            }
+            if (!plain.isEmpty()) {
+                Map<String, String> failures = minIOService.removeFiles(plain);
+                failures.forEach((key, reason) -> log.warn("孤儿对象删除失败: {}, 原因: {}", key, reason));
+                result.setDeleted(result.getDeleted() + plain.size() - failures.size());
+                result.setFailed(result.getFailed() + failures.size());
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * 删除内容寻址对象，引用计数仍大于0时保留
+     */
+    private void removeContent(String key, OrphanSweepResult result) {
+        try {
+            if (contentStore.removeIfUnreferenced(key)) {
+                result.setDeleted(result.getDeleted() + 1);
+            } else {
+                log.info("内容寻址对象仍有引用计数，跳过: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("内容寻址对象删除失败: {}, 原因: {}", key, e.getMessage());
+            result.setFailed(result.getFailed() + 1);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.xiaoo.kaleido.wardrobe.domain.image.service;
 import com.xiaoo.kaleido.wardrobe.domain.image.chain.ImageProcessingChainBuilder;
 import com.xiaoo.kaleido.wardrobe.domain.image.context.ImageProcessingContext;
 import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.domain.image.executor.ImageProcessingExecutor;
 import com.xiaoo.kaleido.wardrobe.domain.image.model.ProcessedImageInfo;
 import com.xiaoo.kaleido.wardrobe.domain.image.strategy.ImageConversionContext;
 import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file.BasicImageInfo;
@@ -12,7 +13,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 统一图片处理服务
@@ -30,6 +30,7 @@ public class UnifiedImageProcessingService {
     
     private final ImageProcessingChainBuilder chainBuilder;
     private final ImageConversionContext conversionContext;
+    private final ImageProcessingExecutor imageProcessingExecutor;
     
     /**
      * 处理图片列表（模板方法模式）
@@ -86,16 +87,20 @@ public class UnifiedImageProcessingService {
         
         return imageCommands.stream()
                 .map(adapter)
-                .collect(Collectors.toList());
+                .toList();
     }
     
     /**
      * 处理图片信息（责任链模式）
+     * <p>
+     * 多张图片并发执行责任链，结果顺序与输入一致，失败或处理超时（获取许可后计时）的图片降级为仅包含基础信息
      */
     private List<ProcessedImageInfo> processImageInfos(List<BasicImageInfo> basicInfos) {
-        return basicInfos.stream()
-                .map(this::processSingleImage)
-                .collect(Collectors.toList());
+        return imageProcessingExecutor.mapOrdered(
+                basicInfos,
+                this::processSingleImage,
+                ProcessedImageInfo::fromBasicOnly
+        );
     }
     
     /**
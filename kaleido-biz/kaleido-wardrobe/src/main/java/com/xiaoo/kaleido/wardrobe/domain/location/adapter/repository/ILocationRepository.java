@@ -2,7 +2,9 @@ package com.xiaoo.kaleido.wardrobe.domain.location.adapter.repository;
 
 
 import com.xiaoo.kaleido.wardrobe.domain.location.model.aggregate.StorageLocationAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.vo.LocationSummary;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,4 +109,17 @@ public interface ILocationRepository {
      * @throws com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException 当查询失败时抛出
      */
     List<StorageLocationAggregate> findByIds(List<String> locationIds);
+
+    /**
+     * 按游标分页查询用户位置列表摘要
+     * <p>
+     * 按创建时间和ID倒序，只查询列表展示字段和主图路径
+     *
+     * @param userId          用户ID，不能为空
+     * @param cursorCreatedAt 上一页最后一条记录的创建时间，首页为空
+     * @param cursorId        上一页最后一条记录的ID，首页为空
+     * @param limit           查询数量
+     * @return 位置列表摘要
+     */
+    List<LocationSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit);
 }
@@ -62,6 +62,21 @@ public class LocationImage extends BaseEntity {
      */
     private Integer height;
 
+    /**
+     * 列表缩略图路径（异步生成，生成前为空）
+     */
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径（异步生成，生成前为空）
+     */
+    private String detailPath;
+
+    /**
+     * 原尺寸压缩图路径（异步生成，生成前为空）
+     */
+    private String compressedPath;
+
     /**
      * 创建位置图片
 
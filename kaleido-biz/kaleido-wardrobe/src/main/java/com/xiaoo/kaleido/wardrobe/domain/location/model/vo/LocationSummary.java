@@ -0,0 +1,58 @@
+package com.xiaoo.kaleido.wardrobe.domain.location.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 位置列表摘要值对象
+ * <p>
+ * 列表页只读视图，仅包含列表展示所需字段和主图路径，不加载完整聚合
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LocationSummary {
+
+    /**
+     * 位置ID
+     */
+    private String id;
+
+    /**
+     * 位置名称
+     */
+    private String name;
+
+    /**
+     * 位置描述
+     */
+    private String description;
+
+    /**
+     * 具体地址
+     */
+    private String address;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
@@ -1,7 +1,9 @@
 package com.xiaoo.kaleido.wardrobe.domain.outfit.adapter.repository;
 
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.aggregate.OutfitAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo.OutfitSummary;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -96,4 +98,17 @@ public interface IOutfitRepository {
      * @return 如果已存在返回true，否则返回false
      */
     boolean existsByUserIdAndName(String userId, String name);
+
+    /**
+     * 按游标分页查询用户穿搭列表摘要
+     * <p>
+     * 按创建时间和ID倒序，只查询列表展示字段和主图路径
+     *
+     * @param userId          用户ID，不能为空
+     * @param cursorCreatedAt 上一页最后一条记录的创建时间，首页为空
+     * @param cursorId        上一页最后一条记录的ID，首页为空
+     * @param limit           查询数量
+     * @return 穿搭列表摘要
+     */
+    List<OutfitSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit);
 }
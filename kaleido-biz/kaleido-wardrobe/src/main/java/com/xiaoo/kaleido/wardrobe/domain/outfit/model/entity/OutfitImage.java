@@ -67,6 +67,21 @@ public class OutfitImage extends BaseEntity {
      */
     private String description;
 
+    /**
+     * 列表缩略图路径（异步生成，生成前为空）
+     */
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径（异步生成，生成前为空）
+     */
+    private String detailPath;
+
+    /**
+     * 原尺寸压缩图路径（异步生成，生成前为空）
+     */
+    private String compressedPath;
+
     /**
      * 创建穿搭图片
 
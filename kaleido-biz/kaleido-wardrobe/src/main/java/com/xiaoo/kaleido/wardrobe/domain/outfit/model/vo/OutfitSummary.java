@@ -0,0 +1,53 @@
+package com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 穿搭列表摘要值对象
+ * <p>
+ * 列表页只读视图，仅包含列表展示所需字段和主图路径，不加载完整聚合
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutfitSummary {
+
+    /**
+     * 穿搭ID
+     */
+    private String id;
+
+    /**
+     * 穿搭名称
+     */
+    private String name;
+
+    /**
+     * 穿搭描述
+     */
+    private String description;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
@@ -2,13 +2,13 @@ package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file;
 
 import com.xiaoo.kaleido.file.model.ImageInfo;
 import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.wardrobe.domain.image.executor.ImageProcessingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 /**
  * 通用图片处理服务
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 public class ImageProcessingService {
 
     private final IMinIOService minIOService;
+    private final ImageProcessingExecutor imageProcessingExecutor;
 
     /**
      * 处理图片信息列表，转换为目标DTO列表
@@ -43,8 +44,10 @@ public class ImageProcessingService {
             return List.of();
         }
 
-        return imageInfos.stream()
-                .map(info -> {
+        // 并发获取MinIO图片信息，结果顺序与输入一致
+        return imageProcessingExecutor.mapOrdered(
+                imageInfos,
+                info -> {
                     try {
                         // 从MinIO获取图片详细信息
                         ImageInfo minioImageInfo = minIOService.getImageInfo(info.getPath());
@@ -59,8 +62,10 @@ public class ImageProcessingService {
                         // 使用null作为MinIO信息，让转换函数处理异常情况
                         return converter.apply(info, null);
                     }
-                })
-                .collect(Collectors.toList());
+                },
+                // 超时时同样使用null作为MinIO信息
+                info -> converter.apply(info, null)
+        );
     }
 
     /**
@@ -82,6 +87,6 @@ public class ImageProcessingService {
 
         return imageInfos.stream()
                 .map(converter)
-                .collect(Collectors.toList());
+                .toList();
     }
 }
@@ -0,0 +1,116 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file;
+
+import com.xiaoo.kaleido.file.service.IContentStore;
+import com.xiaoo.kaleido.file.util.ContentAddress;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeErrorCode;
+import com.xiaoo.kaleido.wardrobe.types.exception.WardrobeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 图片引用计数维护
+ * <p>
+ * 图片列表被替换时，对新增的内容寻址图片增加引用、对移除的图片减少引用。
+ * 新增引用在事务内立即登记，图片已被删除时抛出异常使事务回滚，回滚时撤销已登记的引用；
+ * 移除引用在事务提交后执行，回滚不会释放仍在使用的图片
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageReferenceTracker {
+
+    private final IContentStore contentStore;
+
+    /**
+     * 记录图片列表的替换
+     *
+     * @param oldPaths 替换前的图片路径
+     * @param newPaths 替换后的图片路径
+     */
+    public void replace(Collection<String> oldPaths, Collection<String> newPaths) {
+        Set<String> before = contentPaths(oldPaths);
+        Set<String> after = contentPaths(newPaths);
+
+        List<String> added = after.stream().filter(path -> !before.contains(path)).toList();
+        List<String> removed = before.stream().filter(path -> !after.contains(path)).toList();
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        List<String> retained = new ArrayList<>(added.size());
+        try {
+            for (String path : added) {
+                contentStore.retain(path);
+                retained.add(path);
+            }
+        } catch (IllegalStateException e) {
+            retained.forEach(this::cancelQuietly);
+            log.warn("登记图片引用失败，图片已被删除，需要重新上传: {}", e.getMessage());
+            throw WardrobeException.of(WardrobeErrorCode.IMAGE_NOT_FOUND, "图片已失效，请重新上传");
+        } catch (RuntimeException e) {
+            retained.forEach(this::cancelQuietly);
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removed.forEach(this::releaseQuietly);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removed.forEach(ImageReferenceTracker.this::releaseQuietly);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    retained.forEach(ImageReferenceTracker.this::cancelQuietly);
+                }
+            }
+        });
+    }
+
+    /**
+     * 只保留内容寻址对象，其他路径不参与引用计数
+     */
+    private Set<String> contentPaths(Collection<String> paths) {
+        Set<String> result = new LinkedHashSet<>();
+        if (paths != null) {
+            for (String path : paths) {
+                if (ContentAddress.hashOf(path) != null) {
+                    result.add(path);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void cancelQuietly(String path) {
+        try {
+            contentStore.cancelRetain(path);
+        } catch (Exception e) {
+            log.error("撤销图片引用失败: {}, 错误: {}", path, e.getMessage(), e);
+        }
+    }
+
+    private void releaseQuietly(String path) {
+        try {
+            contentStore.release(path);
+        } catch (Exception e) {
+            log.error("释放图片引用失败: {}, 错误: {}", path, e.getMessage(), e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.xiaoo.kaleido.base.exception.BizErrorCode;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.adapter.repository.IClothingRepository;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.ClothingAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.entity.ClothingImage;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo.ClothingSummary;
+import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file.ImageReferenceTracker;
 import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor.ClothingImageInfraConvertor;
 import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor.ClothingInfraConvertor;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.ClothingDao;
@@ -17,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -34,6 +37,7 @@ public class ClothingRepositoryImpl implements IClothingRepository {
 
     private final ClothingDao clothingDao;
     private final ClothingImageDao clothingImageDao;
+    private final ImageReferenceTracker imageReferenceTracker;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -47,6 +51,7 @@ public class ClothingRepositoryImpl implements IClothingRepository {
 
             // 3.保存图片列表
             saveImages(clothingAggregate);
+            imageReferenceTracker.replace(List.of(), imagePaths(clothingAggregate.getImages()));
 
             log.info("服装保存成功，服装ID: {}, 用户ID: {}, 服装名称: {}, 图片数量: {}",
                     clothingAggregate.getId(), clothingAggregate.getUserId(),
@@ -68,10 +73,12 @@ public class ClothingRepositoryImpl implements IClothingRepository {
             clothingDao.updateById(clothingPO);
 
             // 3.删除原有图片
+            List<String> oldPaths = existingImagePaths(clothingAggregate.getId());
             clothingImageDao.deleteByClothingId(clothingAggregate.getId());
 
             // 4.保存新图片列表
             saveImages(clothingAggregate);
+            imageReferenceTracker.replace(oldPaths, imagePaths(clothingAggregate.getImages()));
 
             log.info("服装更新成功，服装ID: {}, 用户ID: {}, 服装名称: {}, 图片数量: {}",
                     clothingAggregate.getId(), clothingAggregate.getUserId(),
@@ -87,7 +94,9 @@ public class ClothingRepositoryImpl implements IClothingRepository {
     public void delete(String clothingId) {
         try {
             // 1.删除图片
+            List<String> oldPaths = existingImagePaths(clothingId);
             clothingImageDao.deleteByClothingId(clothingId);
+            imageReferenceTracker.replace(oldPaths, List.of());
 
             // 2.删除服装
             clothingDao.deleteById(clothingId);
@@ -152,6 +161,51 @@ public class ClothingRepositoryImpl implements IClothingRepository {
         }
     }
 
+    @Override
+    public List<ClothingSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit) {
+        try {
+            return ClothingInfraConvertor.INSTANCE.toSummaries(
+                    clothingDao.findSummariesByUserId(userId, cursorCreatedAt, cursorId, limit));
+        } catch (Exception e) {
+            log.error("分页查询用户服装列表失败，用户ID: {}, 原因: {}", userId, e.getMessage(), e);
+            throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "用户服装列表查询失败");
+        }
+    }
+
+    @Override
+    public List<ClothingAggregate> findAfterId(String cursorId, int limit) {
+        try {
+            return clothingDao.findAfterId(cursorId, limit).stream()
+                    .map(ClothingInfraConvertor.INSTANCE::toAggregate)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("扫描服装列表失败，游标ID: {}, 原因: {}", cursorId, e.getMessage(), e);
+            throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "服装列表扫描失败");
+        }
+    }
+
+    /**
+     * 查询服装当前已保存的图片路径
+     *
+     * @param clothingId 服装ID
+     * @return 图片路径列表
+     */
+    private List<String> existingImagePaths(String clothingId) {
+        return clothingImageDao.findByClothingId(clothingId).stream()
+                .map(ClothingImagePO::getPath)
+                .toList();
+    }
+
+    /**
+     * 提取图片列表中的路径
+     *
+     * @param images 图片列表，可为空
+     * @return 图片路径列表
+     */
+    private List<String> imagePaths(List<ClothingImage> images) {
+        return images == null ? List.of() : images.stream().map(ClothingImage::getPath).toList();
+    }
+
     /**
      * 保存服装图片列表
      *
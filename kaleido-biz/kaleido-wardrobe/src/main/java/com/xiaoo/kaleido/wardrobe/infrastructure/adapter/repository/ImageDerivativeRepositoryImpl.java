@@ -0,0 +1,40 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageDerivativeRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivatives;
+import com.xiaoo.kaleido.wardrobe.domain.image.enums.DomainType;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.ClothingImageDao;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.LocationImageDao;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.OutfitImageDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 衍生图仓储实现（基础设施层）
+ *
+ * @author ouyucheng
+ * @date 2026/2/3
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ImageDerivativeRepositoryImpl implements IImageDerivativeRepository {
+
+    private final ClothingImageDao clothingImageDao;
+    private final OutfitImageDao outfitImageDao;
+    private final LocationImageDao locationImageDao;
+
+    @Override
+    public int updateDerivatives(DomainType domainType, String path, ImageDerivatives derivatives) {
+        String thumbnailPath = derivatives.getThumbnailPath();
+        String detailPath = derivatives.getDetailPath();
+        String compressedPath = derivatives.getCompressedPath();
+
+        return switch (domainType) {
+            case CLOTHING -> clothingImageDao.updateDerivativesByPath(path, thumbnailPath, detailPath, compressedPath);
+            case OUTFIT -> outfitImageDao.updateDerivativesByPath(path, thumbnailPath, detailPath, compressedPath);
+            case LOCATION -> locationImageDao.updateDerivativesByPath(path, thumbnailPath, detailPath, compressedPath);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.adapter.repository.IImageReferenceRepository;
+import com.xiaoo.kaleido.wardrobe.domain.image.derivative.ImageDerivativeType;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.ClothingImageDao;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.LocationImageDao;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.OutfitImageDao;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ClothingImagePO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ImageReferenceCountPO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.LocationImagePO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitImagePO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 图片引用仓储实现（基础设施层）
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageReferenceRepositoryImpl implements IImageReferenceRepository {
+
+    /**
+     * 每页查询数量
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    private final ClothingImageDao clothingImageDao;
+    private final OutfitImageDao outfitImageDao;
+    private final LocationImageDao locationImageDao;
+
+    @Override
+    public Set<String> findReferencedPaths() {
+        Set<String> paths = new HashSet<>();
+        collect(clothingImageDao::findPathsAfterId, ClothingImagePO::getId, ClothingImagePO::getPath, paths);
+        collect(outfitImageDao::findPathsAfterId, OutfitImagePO::getId, OutfitImagePO::getPath, paths);
+        collect(locationImageDao::findPathsAfterId, LocationImagePO::getId, LocationImagePO::getPath, paths);
+        return paths;
+    }
+
+    @Override
+    public boolean isOwnedByUser(String userId, String objectName) {
+        String stem = ImageDerivativeType.sourceStemOf(objectName);
+        String stemPattern = stem == null ? null : escapeLike(stem) + ".%";
+        return clothingImageDao.countOwnedPath(userId, objectName, stem, stemPattern) > 0
+                || outfitImageDao.countOwnedPath(userId, objectName, stem, stemPattern) > 0
+                || locationImageDao.countOwnedPath(userId, objectName, stem, stemPattern) > 0;
+    }
+
+    /**
+     * 转义LIKE通配符，路径中的%和_按字面匹配，避免通过构造的对象名匹配到其他用户的图片
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public Map<String, Long> countContentReferences() {
+        Map<String, Long> counts = new HashMap<>();
+        for (List<ImageReferenceCountPO> rows : List.of(clothingImageDao.countContentReferences(),
+                outfitImageDao.countContentReferences(),
+                locationImageDao.countContentReferences())) {
+            for (ImageReferenceCountPO row : rows) {
+                counts.merge(row.getPath(), row.getRefCount(), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 按ID游标逐页读取路径，避免一次性加载整张表
+     */
+    private <T> void collect(BiFunction<String, Integer, List<T>> pageQuery,
+                             Function<T, String> idGetter,
+                             Function<T, String> pathGetter,
+                             Set<String> paths) {
+        String lastId = null;
+        List<T> page;
+        do {
+            page = pageQuery.apply(lastId, PAGE_SIZE);
+            for (T po : page) {
+                paths.add(pathGetter.apply(po));
+            }
+            if (!page.isEmpty()) {
+                lastId = idGetter.apply(page.get(page.size() - 1));
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+}
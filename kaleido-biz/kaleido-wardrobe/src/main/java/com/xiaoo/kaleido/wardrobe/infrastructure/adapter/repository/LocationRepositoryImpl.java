@@ -8,6 +8,8 @@ import com.xiaoo.kaleido.base.exception.BizErrorCode;
 import com.xiaoo.kaleido.wardrobe.domain.location.adapter.repository.ILocationRepository;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.aggregate.StorageLocationAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.entity.LocationImage;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.vo.LocationSummary;
+import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file.ImageReferenceTracker;
 import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor.LocationInfraConvertor;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.LocationDao;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.LocationImageDao;
@@ -20,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +41,7 @@ public class LocationRepositoryImpl implements ILocationRepository {
 
     private final LocationDao locationDao;
     private final LocationImageDao locationImageDao;
+    private final ImageReferenceTracker imageReferenceTracker;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -54,6 +58,7 @@ public class LocationRepositoryImpl implements ILocationRepository {
                 List<LocationImagePO> imagePOs = LocationInfraConvertor.INSTANCE.toImagePOs(locationAggregate.getImages());
                 locationImageDao.batchInsert(imagePOs);
             }
+            imageReferenceTracker.replace(List.of(), imagePaths(locationAggregate.getImages()));
 
             log.info("位置保存成功，位置ID: {}, 位置名称: {}, 用户ID: {}, 图片数量: {}",
                     locationAggregate.getId(), locationAggregate.getName(), locationAggregate.getUserId(),
@@ -76,6 +81,7 @@ public class LocationRepositoryImpl implements ILocationRepository {
             locationDao.updateById(locationPO);
 
             // 3.删除旧图片
+            List<String> oldPaths = existingImagePaths(locationAggregate.getId());
             locationImageDao.deleteByLocationId(locationAggregate.getId());
 
             // 4.保存新图片（如果有）
@@ -83,6 +89,7 @@ public class LocationRepositoryImpl implements ILocationRepository {
                 List<LocationImagePO> imagePOs = LocationInfraConvertor.INSTANCE.toImagePOs(locationAggregate.getImages());
                 locationImageDao.batchInsert(imagePOs);
             }
+            imageReferenceTracker.replace(oldPaths, imagePaths(locationAggregate.getImages()));
 
             log.info("位置更新成功，位置ID: {}, 位置名称: {}, 图片数量: {}",
                     locationAggregate.getId(), locationAggregate.getName(), locationAggregate.getImageCount());
@@ -98,7 +105,9 @@ public class LocationRepositoryImpl implements ILocationRepository {
     public void delete(String locationId) {
         try {
             // 1.删除关联图片
+            List<String> oldPaths = existingImagePaths(locationId);
             locationImageDao.deleteByLocationId(locationId);
+            imageReferenceTracker.replace(oldPaths, List.of());
             
             // 2.逻辑删除位置
             locationDao.deleteById(locationId);
@@ -191,6 +200,17 @@ public class LocationRepositoryImpl implements ILocationRepository {
         }
     }
 
+    @Override
+    public List<LocationSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit) {
+        try {
+            return LocationInfraConvertor.INSTANCE.toSummaries(
+                    locationDao.findSummariesByUserId(userId, cursorCreatedAt, cursorId, limit));
+        } catch (Exception e) {
+            log.error("分页查询用户位置列表失败，用户ID: {}, 原因: {}", userId, e.getMessage(), e);
+            throw WardrobeException.of(WardrobeErrorCode.QUERY_FAIL, "用户位置列表查询失败");
+        }
+    }
+
     @Override
     public List<StorageLocationAggregate> findByIds(List<String> locationIds) {
         try {
@@ -251,4 +271,14 @@ public class LocationRepositoryImpl implements ILocationRepository {
             }
         }
     }
+
+    private List<String> existingImagePaths(String locationId) {
+        return locationImageDao.findByLocationId(locationId).stream()
+                .map(LocationImagePO::getPath)
+                .toList();
+    }
+
+    private List<String> imagePaths(List<LocationImage> images) {
+        return images == null ? List.of() : images.stream().map(LocationImage::getPath).toList();
+    }
 }
@@ -5,6 +5,8 @@ import com.xiaoo.kaleido.wardrobe.domain.outfit.model.aggregate.OutfitAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitClothing;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitImage;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.WearRecord;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo.OutfitSummary;
+import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.file.ImageReferenceTracker;
 import com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor.OutfitInfraConvertor;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.OutfitClothingDao;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.OutfitDao;
@@ -17,8 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +40,7 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
     private final OutfitDao outfitDao;
     private final OutfitImageDao outfitImageDao;
     private final OutfitClothingDao outfitClothingDao;
+    private final ImageReferenceTracker imageReferenceTracker;
     private final OutfitInfraConvertor convertor = OutfitInfraConvertor.INSTANCE;
 
     @Override
@@ -65,19 +71,7 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
             );
         }
 
-        OutfitAggregate aggregate = convertor.toAggregate(outfitPO);
-
-        // 加载关联的图片
-        List<OutfitImagePO> imagePOs = outfitImageDao.findByOutfitId(id);
-        List<OutfitImage> images = convertor.toImageEntities(imagePOs);
-        aggregate.setImages(images);
-
-        // 加载关联的服装
-        List<OutfitClothingPO> clothingPOs = outfitClothingDao.findByOutfitIds(Collections.singletonList(id));
-        List<OutfitClothing> clothings = convertor.toClothingEntities(clothingPOs);
-        aggregate.setClothings(clothings);
-
-        return aggregate;
+        return assemble(Collections.singletonList(outfitPO)).get(0);
     }
 
     @Override
@@ -105,35 +99,12 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
             return Collections.emptyList();
         }
 
-        List<String> outfitIds = outfitPOs.stream()
-                .map(OutfitPO::getId)
-                .collect(Collectors.toList());
-
-        // 批量加载图片
-        List<OutfitImagePO> allImagePOs = outfitImageDao.findByOutfitIds(outfitIds);
-
-        // 批量加载服装关联
-        List<OutfitClothingPO> allClothingPOs = outfitClothingDao.findByOutfitIds(outfitIds);
-
-        return outfitPOs.stream().map(outfitPO -> {
-            OutfitAggregate aggregate = convertor.toAggregate(outfitPO);
-
-            // 过滤当前穿搭的图片
-            List<OutfitImagePO> imagePOs = allImagePOs.stream()
-                    .filter(po -> po.getOutfitId().equals(outfitPO.getId()))
-                    .collect(Collectors.toList());
-            List<OutfitImage> images = convertor.toImageEntities(imagePOs);
-            aggregate.setImages(images);
-
-            // 过滤当前穿搭的服装关联
-            List<OutfitClothingPO> clothingPOs = allClothingPOs.stream()
-                    .filter(po -> po.getOutfitId().equals(outfitPO.getId()))
-                    .collect(Collectors.toList());
-            List<OutfitClothing> clothings = convertor.toClothingEntities(clothingPOs);
-            aggregate.setClothings(clothings);
+        return assemble(outfitPOs);
+    }
 
-            return aggregate;
-        }).collect(Collectors.toList());
+    @Override
+    public List<OutfitSummary> findSummariesByUserId(String userId, Date cursorCreatedAt, String cursorId, int limit) {
+        return convertor.toSummaries(outfitDao.findSummariesByUserId(userId, cursorCreatedAt, cursorId, limit));
     }
 
     @Override
@@ -145,19 +116,7 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
             );
         }
 
-        OutfitAggregate aggregate = convertor.toAggregate(outfitPO);
-
-        // 加载关联的图片
-        List<OutfitImagePO> imagePOs = outfitImageDao.findByOutfitId(outfitPO.getId());
-        List<OutfitImage> images = convertor.toImageEntities(imagePOs);
-        aggregate.setImages(images);
-
-        // 加载关联的服装
-        List<OutfitClothingPO> clothingPOs = outfitClothingDao.findByOutfitIds(Collections.singletonList(outfitPO.getId()));
-        List<OutfitClothing> clothings = convertor.toClothingEntities(clothingPOs);
-        aggregate.setClothings(clothings);
-
-        return aggregate;
+        return assemble(Collections.singletonList(outfitPO)).get(0);
     }
 
     @Override
@@ -171,7 +130,9 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
         }
 
         // 删除关联的图片
+        List<String> oldPaths = existingImagePaths(id);
         outfitImageDao.deleteByOutfitId(id);
+        imageReferenceTracker.replace(oldPaths, List.of());
 
         // 删除关联的服装
         outfitClothingDao.deleteByOutfitId(id);
@@ -188,6 +149,42 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
         return outfitDao.existsByUserIdAndName(userId, name);
     }
 
+    /**
+     * 批量组装穿搭聚合根
+     * <p>
+     * 一次查询全部图片和服装关联，按穿搭ID分组后逐个组装，组装耗时与记录数成线性关系
+     *
+     * @param outfitPOs 穿搭PO列表
+     * @return 穿搭聚合根列表，顺序与入参一致
+     */
+    private List<OutfitAggregate> assemble(List<OutfitPO> outfitPOs) {
+        List<String> outfitIds = outfitPOs.stream()
+                .map(OutfitPO::getId)
+                .collect(Collectors.toList());
+
+        // 批量加载图片和服装关联，按穿搭ID分组（分组保留查询时的排序）
+        Map<String, List<OutfitImagePO>> imagesByOutfit = outfitImageDao.findByOutfitIds(outfitIds).stream()
+                .collect(Collectors.groupingBy(OutfitImagePO::getOutfitId));
+        Map<String, List<OutfitClothingPO>> clothingsByOutfit = outfitClothingDao.findByOutfitIds(outfitIds).stream()
+                .collect(Collectors.groupingBy(OutfitClothingPO::getOutfitId));
+
+        List<OutfitAggregate> aggregates = new ArrayList<>(outfitPOs.size());
+        for (OutfitPO outfitPO : outfitPOs) {
+            OutfitAggregate aggregate = convertor.toAggregate(outfitPO);
+
+            List<OutfitImage> images = convertor.toImageEntities(
+                    imagesByOutfit.getOrDefault(outfitPO.getId(), Collections.emptyList()));
+            aggregate.setImages(images);
+
+            List<OutfitClothing> clothings = convertor.toClothingEntities(
+                    clothingsByOutfit.getOrDefault(outfitPO.getId(), Collections.emptyList()));
+            aggregate.setClothings(clothings);
+
+            aggregates.add(aggregate);
+        }
+        return aggregates;
+    }
+
     /**
      * 保存穿搭图片
      *
@@ -197,6 +194,7 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
         String outfitId = aggregate.getId();
 
         // 先删除旧的图片
+        List<String> oldPaths = existingImagePaths(outfitId);
         outfitImageDao.deleteByOutfitId(outfitId);
 
         // 保存新的图片
@@ -207,6 +205,14 @@ public class OutfitRepositoryImpl implements IOutfitRepository {
                 outfitImageDao.insert(po);
             }
         }
+        imageReferenceTracker.replace(oldPaths, images == null ? List.of()
+                : images.stream().map(OutfitImage::getPath).toList());
+    }
+
+    private List<String> existingImagePaths(String outfitId) {
+        return outfitImageDao.findByOutfitId(outfitId).stream()
+                .map(OutfitImagePO::getPath)
+                .toList();
     }
 
     /**
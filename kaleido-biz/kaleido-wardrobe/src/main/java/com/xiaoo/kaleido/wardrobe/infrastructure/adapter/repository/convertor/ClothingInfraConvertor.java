@@ -1,11 +1,15 @@
 package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor;
 
 import com.xiaoo.kaleido.wardrobe.domain.clothing.model.aggregate.ClothingAggregate;
+import com.xiaoo.kaleido.wardrobe.domain.clothing.model.vo.ClothingSummary;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ClothingPO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ClothingSummaryPO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 /**
  * 服装基础设施层转换器
  * <p>
@@ -35,4 +39,12 @@ public interface ClothingInfraConvertor {
      */
     @Mapping(target = "images", ignore = true)
     ClothingAggregate toAggregate(ClothingPO po);
+
+    /**
+     * ClothingSummaryPO列表转换为服装列表摘要
+     *
+     * @param pos 服装列表摘要查询结果
+     * @return 服装列表摘要
+     */
+    List<ClothingSummary> toSummaries(List<ClothingSummaryPO> pos);
 }
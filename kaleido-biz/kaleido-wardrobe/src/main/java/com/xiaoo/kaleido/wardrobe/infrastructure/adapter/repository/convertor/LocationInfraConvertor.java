@@ -3,8 +3,10 @@ package com.xiaoo.kaleido.wardrobe.infrastructure.adapter.repository.convertor;
 import com.xiaoo.kaleido.api.wardrobe.enums.ImageTypeEnums;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.aggregate.StorageLocationAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.location.model.entity.LocationImage;
+import com.xiaoo.kaleido.wardrobe.domain.location.model.vo.LocationSummary;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.LocationPO;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.LocationImagePO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.LocationSummaryPO;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
@@ -96,4 +98,12 @@ public interface LocationInfraConvertor {
         }
         return ImageTypeEnums.fromMimeType(mimeType);
     }
+
+    /**
+     * LocationSummaryPO列表转换为位置列表摘要
+     *
+     * @param pos 位置列表摘要查询结果
+     * @return 位置列表摘要
+     */
+    List<LocationSummary> toSummaries(List<LocationSummaryPO> pos);
 }
@@ -4,9 +4,11 @@ import com.xiaoo.kaleido.api.wardrobe.enums.ImageTypeEnums;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.aggregate.OutfitAggregate;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitClothing;
 import com.xiaoo.kaleido.wardrobe.domain.outfit.model.entity.OutfitImage;
+import com.xiaoo.kaleido.wardrobe.domain.outfit.model.vo.OutfitSummary;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitClothingPO;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitImagePO;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitPO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitSummaryPO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -79,4 +81,12 @@ public interface OutfitInfraConvertor {
      * @return 持久化对象列表
      */
     List<OutfitClothingPO> toClothingPOs(List<OutfitClothing> entities);
+
+    /**
+     * OutfitSummaryPO列表转换为穿搭列表摘要
+     *
+     * @param pos 穿搭列表摘要查询结果
+     * @return 穿搭列表摘要
+     */
+    List<OutfitSummary> toSummaries(List<OutfitSummaryPO> pos);
 }
@@ -2,9 +2,11 @@ package com.xiaoo.kaleido.wardrobe.infrastructure.dao;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ClothingPO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ClothingSummaryPO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -43,4 +45,31 @@ public interface ClothingDao extends BaseMapper<ClothingPO> {
      */
     boolean existsByUserIdAndName(@Param("userId") String userId, @Param("name") String name);
 
+
+    /**
+     * 按游标分页查询用户服装列表摘要
+     * <p>
+     * 按(created_at, id)倒序，游标为上一页最后一条记录的创建时间和ID，首页游标为空
+     *
+     * @param userId          用户ID
+     * @param cursorCreatedAt 游标创建时间
+     * @param cursorId        游标ID
+     * @param limit           查询数量
+     * @return 服装列表摘要
+     */
+    List<ClothingSummaryPO> findSummariesByUserId(@Param("userId") String userId,
+                                                  @Param("cursorCreatedAt") Date cursorCreatedAt,
+                                                  @Param("cursorId") String cursorId,
+                                                  @Param("limit") int limit);
+
+    /**
+     * 按ID游标扫描全部服装
+     * <p>
+     * 按id升序遍历所有用户未删除的服装，游标为上一页最后一条记录的ID，首页游标为空
+     *
+     * @param cursorId 游标ID
+     * @param limit    查询数量
+     * @return 服装列表
+     */
+    List<ClothingPO> findAfterId(@Param("cursorId") String cursorId, @Param("limit") int limit);
 }
@@ -1,6 +1,7 @@
 package com.xiaoo.kaleido.wardrobe.infrastructure.dao;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.ImageReferenceCountPO;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.LocationImagePO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -49,4 +50,48 @@ public interface LocationImageDao extends BaseMapper<LocationImagePO> {
      * @return 插入的行数
      */
     int batchInsert(@Param("list") List<LocationImagePO> imagePOs);
+
+    /**
+     * 按原图路径回写衍生图路径
+     *
+     * @param path           原图路径
+     * @param thumbnailPath  列表缩略图路径
+     * @param detailPath     详情图路径
+     * @param compressedPath 原尺寸压缩图路径
+     * @return 更新数量
+     */
+    int updateDerivativesByPath(@Param("path") String path,
+                                @Param("thumbnailPath") String thumbnailPath,
+                                @Param("detailPath") String detailPath,
+                                @Param("compressedPath") String compressedPath);
+
+    /**
+     * 按ID游标分页查询未删除图片的路径
+     *
+     * @param lastId 上一页最后一条记录的ID，首页传null
+     * @param limit  每页数量
+     * @return 图片列表（只包含id和path）
+     */
+    List<LocationImagePO> findPathsAfterId(@Param("lastId") String lastId, @Param("limit") int limit);
+
+    /**
+     * 统计用户名下引用指定原图的图片数量
+     *
+     * @param userId      用户ID
+     * @param path        原图路径，stem为空时精确匹配
+     * @param stem        去掉扩展名的原图路径，用于衍生图反查原图
+     * @param stemPattern 已转义通配符的LIKE模式，匹配stem加任意扩展名
+     * @return 图片数量
+     */
+    int countOwnedPath(@Param("userId") String userId,
+                       @Param("path") String path,
+                       @Param("stem") String stem,
+                       @Param("stemPattern") String stemPattern);
+
+    /**
+     * 统计内容寻址图片被多少个位置引用
+     *
+     * @return 每个内容寻址路径的引用数
+     */
+    List<ImageReferenceCountPO> countContentReferences();
 }
@@ -2,9 +2,11 @@ package com.xiaoo.kaleido.wardrobe.infrastructure.dao;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitPO;
+import com.xiaoo.kaleido.wardrobe.infrastructure.dao.po.OutfitSummaryPO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -59,4 +61,20 @@ public interface OutfitDao extends BaseMapper<OutfitPO> {
      * @return 穿搭持久化对象
      */
     OutfitPO findByIdIncludeDeleted(@Param("id") String id);
+
+    /**
+     * 按游标分页查询用户穿搭列表摘要
+     * <p>
+     * 按(created_at, id)倒序，游标为上一页最后一条记录的创建时间和ID，首页游标为空
+     *
+     * @param userId          用户ID
+     * @param cursorCreatedAt 游标创建时间
+     * @param cursorId        游标ID
+     * @param limit           查询数量
+     * @return 穿搭列表摘要
+     */
+    List<OutfitSummaryPO> findSummariesByUserId(@Param("userId") String userId,
+                                                @Param("cursorCreatedAt") Date cursorCreatedAt,
+                                                @Param("cursorId") String cursorId,
+                                                @Param("limit") int limit);
 }
@@ -0,0 +1,65 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.dao.po;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 服装列表摘要查询结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+public class ClothingSummaryPO {
+
+    /**
+     * 服装ID
+     */
+    private String id;
+
+    /**
+     * 服装名称
+     */
+    private String name;
+
+    /**
+     * 服装类型编码
+     */
+    private String typeCode;
+
+    /**
+     * 颜色编码
+     */
+    private String colorCode;
+
+    /**
+     * 季节编码
+     */
+    private String seasonCode;
+
+    /**
+     * 品牌ID
+     */
+    private String brandId;
+
+    /**
+     * 当前位置ID
+     */
+    private String currentLocationId;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
@@ -0,0 +1,23 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.dao.po;
+
+import lombok.Data;
+
+/**
+ * 图片路径引用数查询结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Data
+public class ImageReferenceCountPO {
+
+    /**
+     * 图片路径
+     */
+    private String path;
+
+    /**
+     * 引用该路径的聚合数量
+     */
+    private long refCount;
+}
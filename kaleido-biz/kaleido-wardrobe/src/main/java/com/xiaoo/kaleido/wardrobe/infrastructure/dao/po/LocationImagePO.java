@@ -66,4 +66,22 @@ public class LocationImagePO extends BasePO {
      */
     @TableField("height")
     private Integer height;
+
+    /**
+     * 列表缩略图路径
+     */
+    @TableField("thumbnail_path")
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径
+     */
+    @TableField("detail_path")
+    private String detailPath;
+
+    /**
+     * 原尺寸压缩图路径
+     */
+    @TableField("compressed_path")
+    private String compressedPath;
 }
@@ -0,0 +1,50 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.dao.po;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 位置列表摘要查询结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+public class LocationSummaryPO {
+
+    /**
+     * 位置ID
+     */
+    private String id;
+
+    /**
+     * 位置名称
+     */
+    private String name;
+
+    /**
+     * 位置描述
+     */
+    private String description;
+
+    /**
+     * 具体地址
+     */
+    private String address;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
@@ -76,4 +76,22 @@ public class OutfitImagePO extends BasePO {
      */
     @TableField("description")
     private String description;
+
+    /**
+     * 列表缩略图路径
+     */
+    @TableField("thumbnail_path")
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径
+     */
+    @TableField("detail_path")
+    private String detailPath;
+
+    /**
+     * 原尺寸压缩图路径
+     */
+    @TableField("compressed_path")
+    private String compressedPath;
 }
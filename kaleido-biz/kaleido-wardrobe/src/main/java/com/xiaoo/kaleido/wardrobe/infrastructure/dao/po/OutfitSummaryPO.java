@@ -0,0 +1,45 @@
+package com.xiaoo.kaleido.wardrobe.infrastructure.dao.po;
+
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * 穿搭列表摘要查询结果
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+public class OutfitSummaryPO {
+
+    /**
+     * 穿搭ID
+     */
+    private String id;
+
+    /**
+     * 穿搭名称
+     */
+    private String name;
+
+    /**
+     * 穿搭描述
+     */
+    private String description;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径
+     */
+    private String primaryThumbnailPath;
+}
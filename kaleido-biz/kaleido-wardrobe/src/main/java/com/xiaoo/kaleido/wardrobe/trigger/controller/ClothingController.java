@@ -5,6 +5,8 @@ import com.alibaba.csp.sentinel.slots.block.BlockException;
 import com.xiaoo.kaleido.api.wardrobe.command.CreateClothingWithImagesCommand;
 import com.xiaoo.kaleido.api.wardrobe.command.UpdateClothingCommand;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.ClothingSummaryResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.base.exception.BizErrorCode;
 import com.xiaoo.kaleido.base.result.Result;
 import com.xiaoo.kaleido.satoken.util.StpUserUtil;
@@ -94,6 +96,21 @@ public class ClothingController {
         return Result.success(clothingList);
     }
 
+    /**
+     * 按游标分页查询用户服装列表（列表视图，只包含主图）
+     *
+     * @param cursor 上一页返回的游标，首页不传
+     * @param limit  每页数量，默认20，最大100
+     * @return 服装列表项分页响应
+     */
+    @GetMapping("/page")
+    public Result<CursorPageResponse<ClothingSummaryResponse>> pageClothing(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        String userId = StpUserUtil.getLoginId();
+        return Result.success(clothingQueryService.pageByUserId(userId, cursor, limit));
+    }
+
     /**
      * 根据ID查询服装详情
      *
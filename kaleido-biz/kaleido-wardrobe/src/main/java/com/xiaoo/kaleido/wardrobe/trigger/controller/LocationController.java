@@ -2,7 +2,9 @@ package com.xiaoo.kaleido.wardrobe.trigger.controller;
 
 import com.xiaoo.kaleido.api.wardrobe.command.CreateLocationWithImagesCommand;
 import com.xiaoo.kaleido.api.wardrobe.command.UpdateLocationCommand;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.LocationInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.LocationSummaryResponse;
 import com.xiaoo.kaleido.base.result.Result;
 import com.xiaoo.kaleido.satoken.util.StpUserUtil;
 import com.xiaoo.kaleido.wardrobe.application.command.LocationCommandService;
@@ -90,6 +92,21 @@ public class LocationController {
         return Result.success(locationList);
     }
 
+    /**
+     * 按游标分页查询用户位置列表（列表视图，只包含主图）
+     *
+     * @param cursor 上一页返回的游标，首页不传
+     * @param limit  每页数量，默认20，最大100
+     * @return 位置列表项分页响应
+     */
+    @GetMapping("/page")
+    public Result<CursorPageResponse<LocationSummaryResponse>> pageLocations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        String userId = StpUserUtil.getLoginId();
+        return Result.success(locationQueryService.pageByUserId(userId, cursor, limit));
+    }
+
     /**
      * 根据ID查询位置详情
      *
@@ -0,0 +1,137 @@
+package com.xiaoo.kaleido.wardrobe.trigger.controller;
+
+import com.xiaoo.kaleido.satoken.util.StpUserUtil;
+import com.xiaoo.kaleido.wardrobe.application.query.IMediaQueryService;
+import com.xiaoo.kaleido.wardrobe.domain.image.model.MediaObject;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 媒体下载控制器
+ * <p>
+ * 支持Range断点续传和ETag协商缓存，按请求的字节区间从MinIO读取并直接写入响应，不在内存中缓冲整张图片
+ *
+ * @author ouyucheng
+ * @date 2026/2/5
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/wardrobe/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    /**
+     * 浏览器私有缓存时长，对象名包含内容哈希或唯一ID，内容不会原地变化
+     */
+    private static final Duration CACHE_MAX_AGE = Duration.ofDays(7);
+
+    private final IMediaQueryService mediaQueryService;
+
+    /**
+     * 下载媒体对象
+     *
+     * @param path    MinIO对象名，原图或衍生图
+     * @param headers 请求头，读取Range、If-None-Match、If-Range
+     * @return 完整内容（200）、部分内容（206）、未修改（304）或区间无效（416）
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> download(
+            @NotBlank(message = "对象路径不能为空")
+            @RequestParam String path,
+            @RequestHeader HttpHeaders headers) {
+        MediaObject media = mediaQueryService.findOwnedMedia(StpUserUtil.getLoginId(), path);
+        String etag = "\"" + media.getEtag() + "\"";
+        long size = media.getSize();
+
+        // 1.ETag协商缓存
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (ifNoneMatch.contains(etag) || ifNoneMatch.contains("*")) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.maxAge(CACHE_MAX_AGE).cachePrivate())
+                    .build();
+        }
+
+        // 2.解析Range，If-Range不匹配或多区间时返回完整内容
+        List<HttpRange> ranges;
+        try {
+            ranges = headers.getRange();
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(size);
+        }
+        String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        boolean partial = ranges.size() == 1 && (ifRange == null || ifRange.equals(etag));
+
+        long start = 0;
+        long end = size - 1;
+        if (partial) {
+            try {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(size);
+            }
+        }
+        long length = end - start + 1;
+
+        // 3.按区间流式转发MinIO对象
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(CACHE_MAX_AGE).cachePrivate())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(resolveContentType(media.getContentType()))
+                .contentLength(length);
+        if (partial) {
+            builder.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        if (media.getLastModified() != null) {
+            builder.lastModified(media.getLastModified());
+        }
+        if (length == 0) {
+            return builder.body(out -> {
+            });
+        }
+
+        long offset = start;
+        return builder.body(out -> {
+            try (InputStream in = mediaQueryService.openRange(path, offset, length)) {
+                in.transferTo(out);
+            } catch (Exception e) {
+                log.warn("媒体对象传输中断: {}, 错误: {}", path, e.getMessage());
+            }
+        });
+    }
+
+    private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(long size) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build();
+    }
+
+    private MediaType resolveContentType(String contentType) {
+        try {
+            return contentType != null ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM;
+        } catch (Exception e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.xiaoo.kaleido.wardrobe.trigger.controller;
 import com.xiaoo.kaleido.api.wardrobe.command.CreateOutfitWithClothingsCommand;
 import com.xiaoo.kaleido.api.wardrobe.command.RecordOutfitWearCommand;
 import com.xiaoo.kaleido.api.wardrobe.command.UpdateOutfitCommand;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.OutfitInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.OutfitSummaryResponse;
 import com.xiaoo.kaleido.api.wardrobe.response.WearRecordResponse;
 import com.xiaoo.kaleido.base.result.Result;
 import com.xiaoo.kaleido.satoken.util.StpUserUtil;
@@ -112,6 +114,21 @@ public class OutfitController {
         return Result.success(outfitList);
     }
 
+    /**
+     * 按游标分页查询用户穿搭列表（列表视图，只包含主图）
+     *
+     * @param cursor 上一页返回的游标，首页不传
+     * @param limit  每页数量，默认20，最大100
+     * @return 穿搭列表项分页响应
+     */
+    @GetMapping("/page")
+    public Result<CursorPageResponse<OutfitSummaryResponse>> pageOutfits(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        String userId = StpUserUtil.getLoginId();
+        return Result.success(outfitQueryService.pageByUserId(userId, cursor, limit));
+    }
+
     /**
      * 根据ID查询穿搭详情
      *
@@ -0,0 +1,45 @@
+package com.xiaoo.kaleido.wardrobe.trigger.job;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.model.ContentReferenceBackfillResult;
+import com.xiaoo.kaleido.wardrobe.domain.image.service.ContentReferenceBackfillService;
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 内容寻址图片引用计数回填任务
+ * <p>
+ * 建议在业务低峰手动触发，执行期间新登记的引用可能被数据库快照覆盖，可再次执行校正
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentReferenceBackfillJob {
+
+    private final ContentReferenceBackfillService contentReferenceBackfillService;
+
+    /**
+     * XXL-Job入口方法
+     */
+    @XxlJob("contentReferenceBackfillHandler")
+    public void contentReferenceBackfillHandler() {
+        XxlJobHelper.log("开始执行内容寻址引用计数回填任务");
+        try {
+            ContentReferenceBackfillResult result = contentReferenceBackfillService.backfill();
+            XxlJobHelper.log("引用计数回填完成，扫描: {}，有引用: {}，无引用: {}，缺失: {}，失败: {}",
+                    result.getScanned(), result.getReferenced(), result.getUnreferenced(),
+                    result.getMissing(), result.getFailed());
+            if (result.getFailed() > 0) {
+                XxlJobHelper.handleFail("部分对象引用计数回填失败: " + result.getFailed());
+            }
+        } catch (Exception e) {
+            log.error("内容寻址引用计数回填任务执行异常", e);
+            XxlJobHelper.handleFail("内容寻址引用计数回填任务执行异常: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.xiaoo.kaleido.wardrobe.trigger.job;
+
+import com.xiaoo.kaleido.wardrobe.domain.image.model.OrphanSweepResult;
+import com.xiaoo.kaleido.wardrobe.domain.image.service.OrphanImageSweepService;
+import com.xxl.job.core.context.XxlJobHelper;
+import com.xxl.job.core.handler.annotation.XxlJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 孤儿图片清理计划任务
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageSweepJob {
+
+    private final OrphanImageSweepService orphanImageSweepService;
+
+    /**
+     * XXL-Job入口方法
+     */
+    @XxlJob("orphanImageSweepHandler")
+    public void orphanImageSweepHandler() {
+        XxlJobHelper.log("开始执行孤儿图片清理任务");
+        try {
+            OrphanSweepResult result = orphanImageSweepService.sweep();
+            XxlJobHelper.log("孤儿图片清理完成，扫描: {}，孤儿: {}，删除: {}，失败: {}",
+                    result.getScanned(), result.getOrphans(), result.getDeleted(), result.getFailed());
+            if (result.getFailed() > 0) {
+                XxlJobHelper.handleFail("部分孤儿图片删除失败: " + result.getFailed());
+            }
+        } catch (Exception e) {
+            log.error("孤儿图片清理任务执行异常", e);
+            XxlJobHelper.handleFail("孤儿图片清理任务执行异常: " + e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.xiaoo.kaleido.wardrobe.trigger.rpc;
 
 import com.xiaoo.kaleido.api.wardrobe.IRpcClothingService;
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.base.result.Result;
 import com.xiaoo.kaleido.rpc.constant.RpcConstants;
 import com.xiaoo.kaleido.wardrobe.application.convertor.WardrobeConvertor;
 import com.xiaoo.kaleido.wardrobe.application.query.IClothingQueryService;
 import com.xiaoo.kaleido.wardrobe.domain.clothing.service.IClothingDomainService;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,4 +53,12 @@ public class RpcClothingServiceImpl implements IRpcClothingService {
         ClothingInfoResponse clothingInfo = wardrobeConvertor.toClothingResponse(clothing);
         return Result.success(clothingInfo);
     }
+
+    @Override
+    public Result<CursorPageResponse<ClothingEventMessage>> scanClothingForIndex(String cursor, @Min(1) int limit) {
+        log.info("RPC扫描服装索引数据，游标: {}, 数量: {}", cursor, limit);
+
+        // 内部全量扫描，不区分用户
+        return Result.success(clothingQueryService.scanForIndex(cursor, limit));
+    }
 }
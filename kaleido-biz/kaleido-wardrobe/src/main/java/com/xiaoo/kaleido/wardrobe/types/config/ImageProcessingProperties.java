@@ -0,0 +1,69 @@
+package com.xiaoo.kaleido.wardrobe.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 图片处理配置属性
+ * <p>
+ * 控制图片处理的并发模式、并发上限、单张图片超时时间以及衍生图生成
+ *
+ * @author ouyucheng
+ * @date 2026/2/2
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "wardrobe.image.processing")
+public class ImageProcessingProperties {
+
+    /**
+     * 是否启用并发处理
+     * <p>
+     * 关闭时在调用线程中逐张串行处理
+     */
+    private boolean parallelEnabled = true;
+
+    /**
+     * 全局最大并发数（所有请求共享）
+     */
+    private int maxConcurrency = 64;
+
+    /**
+     * 单次请求的最大并发数
+     */
+    private int perRequestConcurrency = 4;
+
+    /**
+     * 单张图片处理超时时间（毫秒），不含等待并发许可的时间，获取许可后才开始计时；
+     * 等待全局许可另行以同一时长为上限，超过则按超时降级
+     */
+    private long timeoutMillis = 5000;
+
+    /**
+     * 衍生图（缩略图、压缩图）生成配置
+     */
+    private Derivative derivative = new Derivative();
+
+    /**
+     * 衍生图生成配置
+     */
+    @Data
+    public static class Derivative {
+
+        /**
+         * 是否启用衍生图生成
+         */
+        private boolean enabled = true;
+
+        /**
+         * 工作线程数（解码和编码为CPU密集型操作）
+         */
+        private int workerThreads = 2;
+
+        /**
+         * 等待队列容量，队列满时拒绝新任务，后续可通过重新提交补齐
+         */
+        private int queueCapacity = 200;
+    }
+}
@@ -0,0 +1,42 @@
+package com.xiaoo.kaleido.wardrobe.types.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 孤儿图片清理配置属性
+ *
+ * @author ouyucheng
+ * @date 2026/2/4
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "wardrobe.image.sweep")
+public class ImageSweepProperties {
+
+    /**
+     * 是否只统计不删除
+     */
+    private boolean dryRun = true;
+
+    /**
+     * 需要扫描的对象前缀
+     * <p>
+     * 原图与其他服务上传的文件共用目录，默认只扫描衍生图目录和内容寻址存储目录，扫描原图目录需显式配置
+     */
+    private List<String> prefixes = new ArrayList<>(List.of("derivative/", "cas-staging/", "cas/"));
+
+    /**
+     * 宽限时间（小时），最近修改时间在此范围内的对象不会被删除，避免误删刚上传尚未入库的图片
+     */
+    private long graceHours = 24;
+
+    /**
+     * 每次批量删除的对象数量
+     */
+    private int batchSize = 1000;
+}
@@ -21,7 +21,7 @@ public class FileUploadResponse {
 
     /**
      * 对象名称
-     * 文件在MinIO中的存储路径，格式：yyyyMMdd/fileHash.extension
+     * 文件在MinIO中的存储路径，格式：cas/{哈希前两位}/{contentHash}.extension
      */
     private String objectName;
 
@@ -43,4 +43,10 @@ public class FileUploadResponse {
      * 文件大小，单位：字节
      */
     private Long fileSize;
+
+    /**
+     * 内容哈希
+     * 文件内容的SHA-256十六进制摘要，上传时边读边计算
+     */
+    private String contentHash;
 }
@@ -1,7 +1,10 @@
 package com.xiaoo.kaleido.api.wardrobe;
 
+import com.xiaoo.kaleido.api.wardrobe.event.ClothingEventMessage;
 import com.xiaoo.kaleido.api.wardrobe.response.ClothingInfoResponse;
+import com.xiaoo.kaleido.api.wardrobe.response.CursorPageResponse;
 import com.xiaoo.kaleido.base.result.Result;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import java.util.List;
@@ -34,4 +37,16 @@ public interface IRpcClothingService {
      * @return 服装信息响应
      */
     Result<ClothingInfoResponse> getClothingById(@NotBlank String clothingId);
+
+    /**
+     * 按游标扫描全部服装的向量索引数据
+     * <p>
+     * 供向量索引全量重建使用，按服装ID升序遍历所有用户未删除的服装。
+     * 每条数据与服装事件载荷一致（字典、品牌和位置已解析为名称），事件类型固定为UPDATE
+     *
+     * @param cursor 上一页返回的游标，首页为空
+     * @param limit  每页数量，超过上限时截断
+     * @return 服装索引数据分页响应
+     */
+    Result<CursorPageResponse<ClothingEventMessage>> scanClothingForIndex(String cursor, @Min(1) int limit);
 }
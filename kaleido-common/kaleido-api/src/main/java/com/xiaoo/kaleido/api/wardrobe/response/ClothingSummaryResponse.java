@@ -0,0 +1,80 @@
+package com.xiaoo.kaleido.api.wardrobe.response;
+
+import com.xiaoo.kaleido.base.response.BaseResp;
+import lombok.*;
+
+import java.util.Date;
+
+/**
+ * 服装列表项响应
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClothingSummaryResponse extends BaseResp {
+
+    /**
+     * 服装ID
+     */
+    private String clothingId;
+
+    /**
+     * 服装名称
+     */
+    private String name;
+
+    /**
+     * 服装类型编码
+     */
+    private String typeCode;
+
+    /**
+     * 颜色编码
+     */
+    private String colorCode;
+
+    /**
+     * 季节编码
+     */
+    private String seasonCode;
+
+    /**
+     * 品牌ID
+     */
+    private String brandId;
+
+    /**
+     * 当前位置ID
+     */
+    private String currentLocationId;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径（异步生成，生成前为空）
+     */
+    private String primaryThumbnailPath;
+
+    /**
+     * 主图预签名访问URL
+     */
+    private String primaryImageUrl;
+
+    /**
+     * 主图列表缩略图预签名访问URL
+     */
+    private String primaryThumbnailUrl;
+}
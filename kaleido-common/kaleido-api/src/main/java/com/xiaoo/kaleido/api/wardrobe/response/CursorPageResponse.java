@@ -0,0 +1,37 @@
+package com.xiaoo.kaleido.api.wardrobe.response;
+
+import com.xiaoo.kaleido.base.response.BaseResp;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 游标分页响应
+ * <p>
+ * 按创建时间倒序分页，下一页请求携带nextCursor，hasMore为false时表示已到末页
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> extends BaseResp {
+
+    /**
+     * 当前页数据
+     */
+    private List<T> items;
+
+    /**
+     * 下一页游标，没有下一页时为空
+     */
+    private String nextCursor;
+
+    /**
+     * 是否还有下一页
+     */
+    private Boolean hasMore;
+}
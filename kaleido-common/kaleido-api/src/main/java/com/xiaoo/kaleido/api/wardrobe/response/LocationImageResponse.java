@@ -53,4 +53,24 @@ public class LocationImageResponse {
      * 图片类型
      */
     private ImageTypeEnums imageTypeEnums;
+
+    /**
+     * 列表缩略图路径（异步生成，生成前为空）
+     */
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径（异步生成，生成前为空）
+     */
+    private String detailPath;
+
+    /**
+     * 原图预签名访问URL（查询时填充）
+     */
+    private String url;
+
+    /**
+     * 列表缩略图预签名访问URL（缩略图生成后填充）
+     */
+    private String thumbnailUrl;
 }
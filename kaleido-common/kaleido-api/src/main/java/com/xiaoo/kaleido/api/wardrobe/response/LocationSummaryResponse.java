@@ -0,0 +1,65 @@
+package com.xiaoo.kaleido.api.wardrobe.response;
+
+import com.xiaoo.kaleido.base.response.BaseResp;
+import lombok.*;
+
+import java.util.Date;
+
+/**
+ * 位置列表项响应
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LocationSummaryResponse extends BaseResp {
+
+    /**
+     * 位置ID
+     */
+    private String locationId;
+
+    /**
+     * 位置名称
+     */
+    private String name;
+
+    /**
+     * 位置描述
+     */
+    private String description;
+
+    /**
+     * 具体地址
+     */
+    private String address;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径（异步生成，生成前为空）
+     */
+    private String primaryThumbnailPath;
+
+    /**
+     * 主图预签名访问URL
+     */
+    private String primaryImageUrl;
+
+    /**
+     * 主图列表缩略图预签名访问URL
+     */
+    private String primaryThumbnailUrl;
+}
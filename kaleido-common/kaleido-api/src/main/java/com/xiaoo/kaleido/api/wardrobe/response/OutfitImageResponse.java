@@ -59,4 +59,24 @@ public class OutfitImageResponse {
      * 图片描述
      */
     private String description;
+
+    /**
+     * 列表缩略图路径（异步生成，生成前为空）
+     */
+    private String thumbnailPath;
+
+    /**
+     * 详情图路径（异步生成，生成前为空）
+     */
+    private String detailPath;
+
+    /**
+     * 原图预签名访问URL（查询时填充）
+     */
+    private String url;
+
+    /**
+     * 列表缩略图预签名访问URL（缩略图生成后填充）
+     */
+    private String thumbnailUrl;
 }
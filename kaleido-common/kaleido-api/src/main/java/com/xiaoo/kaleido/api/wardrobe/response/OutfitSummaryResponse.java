@@ -0,0 +1,60 @@
+package com.xiaoo.kaleido.api.wardrobe.response;
+
+import com.xiaoo.kaleido.base.response.BaseResp;
+import lombok.*;
+
+import java.util.Date;
+
+/**
+ * 穿搭列表项响应
+ *
+ * @author ouyucheng
+ * @date 2026/2/6
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutfitSummaryResponse extends BaseResp {
+
+    /**
+     * 穿搭ID
+     */
+    private String outfitId;
+
+    /**
+     * 穿搭名称
+     */
+    private String name;
+
+    /**
+     * 穿搭描述
+     */
+    private String description;
+
+    /**
+     * 创建时间
+     */
+    private Date createdAt;
+
+    /**
+     * 主图路径（没有主图时取排序第一张）
+     */
+    private String primaryImagePath;
+
+    /**
+     * 主图列表缩略图路径（异步生成，生成前为空）
+     */
+    private String primaryThumbnailPath;
+
+    /**
+     * 主图预签名访问URL
+     */
+    private String primaryImageUrl;
+
+    /**
+     * 主图列表缩略图预签名访问URL
+     */
+    private String primaryThumbnailUrl;
+}
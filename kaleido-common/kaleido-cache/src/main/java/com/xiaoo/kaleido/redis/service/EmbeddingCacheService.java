@@ -0,0 +1,170 @@
+package com.xiaoo.kaleido.redis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.xiaoo.kaleido.redis.constant.RedisConstant;
+import jakarta.annotation.Resource;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 向量缓存服务
+ * <p>
+ * 按模型和文本内容的摘要缓存向量，本地Caffeine加Redis两级缓存。
+ * 相同模型下相同文本的向量不变，因此缓存不需要失效，只按有效期淘汰。
+ * Redis键不带服务前缀，使用相同向量模型的服务共享同一份缓存；与具体AI框架无关，各服务在自己的向量模型外层调用
+ *
+ * @author ouyucheng
+ * @date 2026/2/8
+ */
+public class EmbeddingCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingCacheService.class);
+
+    /**
+     * 缓存键前缀
+     */
+    private static final String KEY_PREFIX = RedisConstant.PROJECT_CACHE_KEY_PREFIX + "embedding" + RedisConstant.SPLIT;
+
+    /**
+     * Redis缓存有效期
+     */
+    private static final Duration REMOTE_EXPIRE = Duration.ofDays(30);
+
+    @Resource
+    private RedissonClient redissonClient;
+
+    /**
+     * 本地缓存
+     */
+    private final Cache<String, float[]> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    /**
+     * 批量获取向量，只对缓存未命中的文本调用向量化
+     * <p>
+     * 同一批内重复的文本只向量化一次，返回结果与输入文本一一对应。Redis不可用时退化为直接向量化
+     *
+     * @param model    模型标识，不同模型或维度必须使用不同标识
+     * @param texts    文本列表
+     * @param embedder 向量化函数，输入未命中的文本，按相同顺序返回向量
+     * @return 向量列表
+     */
+    public List<float[]> embedAll(String model, List<String> texts, Function<List<String>, List<float[]>> embedder) {
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 计算缓存键，重复文本共用一个键
+        List<String> keys = new ArrayList<>(texts.size());
+        Map<String, String> textByKey = new LinkedHashMap<>();
+        for (String text : texts) {
+            String key = key(model, text);
+            keys.add(key);
+            textByKey.putIfAbsent(key, text);
+        }
+
+        // 2. 依次读取本地缓存和Redis
+        Map<String, float[]> vectors = new LinkedHashMap<>(localCache.getAllPresent(textByKey.keySet()));
+        List<String> remoteKeys = textByKey.keySet().stream()
+                .filter(key -> !vectors.containsKey(key))
+                .toList();
+        if (!remoteKeys.isEmpty()) {
+            Map<String, float[]> remoteVectors = getRemote(remoteKeys);
+            localCache.putAll(remoteVectors);
+            vectors.putAll(remoteVectors);
+        }
+
+        // 3. 向量化未命中的文本并写回两级缓存
+        List<String> missingKeys = remoteKeys.stream()
+                .filter(key -> !vectors.containsKey(key))
+                .toList();
+        if (!missingKeys.isEmpty()) {
+            List<float[]> embedded = embedder.apply(missingKeys.stream().map(textByKey::get).toList());
+
+            Map<String, float[]> loaded = new LinkedHashMap<>();
+            for (int i = 0; i < missingKeys.size(); i++) {
+                loaded.put(missingKeys.get(i), embedded.get(i));
+            }
+            localCache.putAll(loaded);
+            putRemote(loaded);
+            vectors.putAll(loaded);
+        }
+
+        log.debug("向量缓存查询完成，模型: {}, 文本数: {}, 去重后: {}, 未命中: {}",
+                model, texts.size(), textByKey.size(), missingKeys.size());
+        return keys.stream().map(vectors::get).toList();
+    }
+
+    private Map<String, float[]> getRemote(List<String> keys) {
+        try {
+            Map<String, byte[]> values = redissonClient.getBuckets(ByteArrayCodec.INSTANCE)
+                    .get(keys.stream().map(key -> KEY_PREFIX + key).toArray(String[]::new));
+            Map<String, float[]> vectors = new LinkedHashMap<>(values.size());
+            values.forEach((redisKey, bytes) -> vectors.put(redisKey.substring(KEY_PREFIX.length()), decode(bytes)));
+            return vectors;
+        } catch (Exception e) {
+            log.warn("读取向量缓存失败，直接向量化，错误: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void putRemote(Map<String, float[]> vectors) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            vectors.forEach((key, vector) ->
+                    batch.<byte[]>getBucket(KEY_PREFIX + key, ByteArrayCodec.INSTANCE).setAsync(encode(vector), REMOTE_EXPIRE));
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("写入向量缓存失败，错误: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 构建缓存键：模型标识和文本内容的SHA-256摘要
+     */
+    private static String key(String model, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 向量按小端float32紧凑编码，比Java序列化节省空间且与语言无关
+     */
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * MinIO配置属性
  */
@@ -36,4 +38,27 @@ public class MinIOProperties {
      * 密码
      */
     private String secretKey;
+
+    /**
+     * 分片上传的分片大小（字节），长度未知时按此大小分片，取值范围5MB~5GB
+     */
+    private long partSize = 10 * 1024 * 1024;
+
+    /**
+     * 批量预签名URL的默认有效期，最长7天
+     */
+    private Duration presignTtl = Duration.ofHours(1);
+
+    /**
+     * 预签名URL缓存的最大条目数
+     */
+    private long presignCacheMaxSize = 10_000;
+
+    /**
+     * 内容寻址对象引用计数归零时是否立即删除对象
+     * <p>
+     * 引用计数由使用方回填完成前必须保持关闭，否则缺失或偏小的计数会误删仍被引用的内容；
+     * 关闭期间不再被引用的对象由使用方的孤儿清理任务回收
+     */
+    private boolean contentDeleteOnRelease = false;
 }
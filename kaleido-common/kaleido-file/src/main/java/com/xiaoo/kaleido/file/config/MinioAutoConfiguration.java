@@ -1,14 +1,21 @@
 package com.xiaoo.kaleido.file.config;
 
+import com.xiaoo.kaleido.file.service.IContentStore;
 import com.xiaoo.kaleido.file.service.IMinIOService;
 import com.xiaoo.kaleido.file.service.impl.MinIOServiceImpl;
+import com.xiaoo.kaleido.file.service.impl.RedissonContentStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.minio.MinioClient;
+import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 /**
@@ -26,4 +33,42 @@ public class MinioAutoConfiguration {
     public IMinIOService minIOService(MinioClient minioClient, MinIOProperties properties) {
         return new MinIOServiceImpl(minioClient, properties);
     }
+
+    /**
+     * 内容寻址存储配置，依赖Redisson保存元数据和引用计数
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedissonClient.class)
+    static class ContentStoreConfiguration {
+
+        /**
+         * 创建内容寻址存储 Bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public IContentStore contentStore(IMinIOService minIOService, RedissonClient redissonClient,
+                                          MinIOProperties properties) {
+            return new RedissonContentStore(minIOService, redissonClient, properties.isContentDeleteOnRelease());
+        }
+    }
+
+    /**
+     * 预签名URL缓存指标配置，引入Micrometer时注册缓存命中率等指标
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class PresignCacheMetricsConfiguration {
+
+        /**
+         * 注册预签名URL缓存指标，指标名前缀为cache，缓存名为minio.presign
+         */
+        @Bean
+        public MeterBinder presignCacheMetrics(IMinIOService minIOService) {
+            return registry -> {
+                if (minIOService instanceof MinIOServiceImpl impl) {
+                    CaffeineCacheMetrics.monitor(registry, impl.getPresignCache(), "minio.presign");
+                }
+            };
+        }
+    }
 }
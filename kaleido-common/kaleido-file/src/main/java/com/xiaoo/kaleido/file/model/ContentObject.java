@@ -0,0 +1,75 @@
+package com.xiaoo.kaleido.file.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 内容寻址对象
+ * <p>
+ * 同一份内容只存储一次，元数据按哈希缓存，无需重复读取MinIO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentObject implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 内容的SHA-256十六进制摘要
+     */
+    private String hash;
+
+    /**
+     * 在MinIO中的对象名称
+     */
+    private String objectName;
+
+    /**
+     * 文件大小（字节）
+     */
+    private long fileSize;
+
+    /**
+     * 图片类型（如 JPEG、PNG），非图片为UNKNOWN
+     */
+    private String imageType;
+
+    /**
+     * 图片宽度（像素），非图片为0
+     */
+    private int width;
+
+    /**
+     * 图片高度（像素），非图片为0
+     */
+    private int height;
+
+    /**
+     * MIME 类型
+     */
+    private String mimeType;
+
+    /**
+     * 转换为图片信息
+     *
+     * @return 图片信息
+     */
+    public ImageInfo toImageInfo() {
+        ImageInfo imageInfo = new ImageInfo();
+        imageInfo.setObjectName(objectName);
+        imageInfo.setImageType(imageType);
+        imageInfo.setFileSize(fileSize);
+        imageInfo.setWidth(width);
+        imageInfo.setHeight(height);
+        imageInfo.setMimeType(mimeType);
+        int dot = objectName == null ? -1 : objectName.lastIndexOf('.');
+        imageInfo.setExtension(dot >= 0 ? objectName.substring(dot + 1) : "");
+        return imageInfo;
+    }
+}
@@ -0,0 +1,32 @@
+package com.xiaoo.kaleido.file.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 流式上传结果
+ */
+@Data
+@Builder
+public class UploadResult {
+
+    /**
+     * 对象名称
+     */
+    private String objectName;
+
+    /**
+     * MinIO返回的ETag
+     */
+    private String etag;
+
+    /**
+     * 实际上传的字节数
+     */
+    private long size;
+
+    /**
+     * 内容的SHA-256十六进制摘要，可用于去重
+     */
+    private String contentHash;
+}
@@ -0,0 +1,107 @@
+package com.xiaoo.kaleido.file.service;
+
+import com.xiaoo.kaleido.file.model.ContentObject;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * 内容寻址存储服务
+ * <p>
+ * 以内容的SHA-256作为对象名，相同内容只存储一份；按哈希缓存元数据并维护引用计数。
+ * 只有使用方对每个引用都登记和释放时才能使用内容寻址对象，不维护引用计数的场景应使用普通上传
+ */
+public interface IContentStore {
+
+    /**
+     * 存储内容
+     * <p>
+     * 上传时计算哈希，内容已存在时直接返回已有对象，不会重复存储。存储本身不增加引用计数，
+     * 返回的对象在使用方{@link #retain(String)}之前可能被释放删除，此时retain失败，需要重新上传
+     *
+     * @param inputStream 内容输入流
+     * @param objectSize  内容大小（字节），未知时传-1
+     * @param contentType 内容类型，可为空
+     * @param extension   扩展名，可为空
+     * @return 内容寻址对象
+     * @throws Exception 上传或转存异常
+     */
+    ContentObject store(InputStream inputStream, long objectSize, String contentType, String extension) throws Exception;
+
+    /**
+     * 存储MultipartFile
+     *
+     * @param file 上传的文件对象
+     * @return 内容寻址对象
+     * @throws Exception 上传或转存异常
+     */
+    ContentObject store(MultipartFile file) throws Exception;
+
+    /**
+     * 根据内容哈希查询已存储的对象
+     * <p>
+     * 客户端可先计算哈希查询，命中时无需再上传
+     *
+     * @param hash SHA-256十六进制摘要
+     * @return 内容寻址对象
+     */
+    Optional<ContentObject> findByHash(String hash);
+
+    /**
+     * 根据对象名查询已存储的对象
+     *
+     * @param objectName 对象名
+     * @return 内容寻址对象，不是内容寻址对象名或未登记时为空
+     */
+    Optional<ContentObject> findByObjectName(String objectName);
+
+    /**
+     * 增加引用计数
+     * <p>
+     * 与释放和删除串行执行，对象已不存在时抛出异常，使用方应在自己的事务提交前调用，失败时回滚
+     *
+     * @param objectName 对象名
+     * @return 增加后的引用计数，不是内容寻址对象名时返回-1
+     * @throws IllegalStateException 对象已被删除
+     */
+    long retain(String objectName);
+
+    /**
+     * 撤销一次尚未生效的引用
+     * <p>
+     * 用于使用方事务回滚时抵消之前的{@link #retain(String)}，只减少计数，不删除对象
+     *
+     * @param objectName 对象名
+     * @return 减少后的引用计数，不是内容寻址对象名时返回-1
+     */
+    long cancelRetain(String objectName);
+
+    /**
+     * 减少引用计数
+     * <p>
+     * 只有计数从1减到0且开启了归零删除时才删除对象及元数据；计数缺失或减为负数时重置计数并保留对象
+     *
+     * @param objectName 对象名
+     * @return 减少后的引用计数，不是内容寻址对象名或释放失败时返回-1
+     */
+    long release(String objectName);
+
+    /**
+     * 按使用方统计的实际引用数覆盖引用计数，用于回填或校正
+     *
+     * @param objectName 对象名
+     * @param references 实际引用数，小于等于0时删除计数
+     */
+    void resetReferences(String objectName, long references);
+
+    /**
+     * 引用计数不大于0时删除对象、元数据和计数
+     * <p>
+     * 与引用登记串行执行，供孤儿清理任务在确认没有业务引用后调用
+     *
+     * @param objectName 对象名
+     * @return 是否已删除，仍有引用或不是内容寻址对象名时返回false
+     */
+    boolean removeIfUnreferenced(String objectName);
+}
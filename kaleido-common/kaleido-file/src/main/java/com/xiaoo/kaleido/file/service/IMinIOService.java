@@ -1,13 +1,18 @@
 package com.xiaoo.kaleido.file.service;
 
 import com.xiaoo.kaleido.file.model.ImageInfo;
+import com.xiaoo.kaleido.file.model.UploadResult;
 import io.minio.ObjectWriteResponse;
+import io.minio.StatObjectResponse;
 import io.minio.messages.Bucket;
 import io.minio.messages.Item;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -113,6 +118,15 @@ public interface IMinIOService {
      */
     InputStream getObject(String objectName, long offset, long length) throws Exception;
 
+    /**
+     * 获取文件元数据（大小、ETag、类型、最后修改时间）
+     *
+     * @param objectName 文件对象名称
+     * @return 文件元数据
+     * @throws Exception MinIO操作异常，对象不存在时抛出ErrorResponseException
+     */
+    StatObjectResponse statObject(String objectName) throws Exception;
+
     /**
      * 获取路径下文件列表
      *
@@ -165,6 +179,43 @@ public interface IMinIOService {
      */
     String uploadFile(String objectName, InputStream inputStream, boolean needUrl) throws Exception;
 
+    /**
+     * 通过流上传文件（已知长度）
+     *
+     * @param objectName  文件对象名称
+     * @param inputStream 文件输入流
+     * @param objectSize  文件大小（字节）
+     * @param contentType 文件内容类型
+     * @return MinIO上传响应对象
+     * @throws Exception MinIO操作异常
+     */
+    ObjectWriteResponse uploadFile(String objectName, InputStream inputStream, long objectSize, String contentType) throws Exception;
+
+    /**
+     * 流式上传文件并计算内容哈希
+     * <p>
+     * 长度已知时按实际长度上传，长度未知（传-1）时按配置的分片大小分片上传，内存占用与文件大小无关
+     *
+     * @param objectName  文件对象名称
+     * @param inputStream 文件输入流
+     * @param objectSize  文件大小（字节），未知时传-1
+     * @param contentType 文件内容类型，可为空
+     * @return 上传结果（包含实际大小和SHA-256摘要）
+     * @throws Exception MinIO操作异常
+     */
+    UploadResult uploadStream(String objectName, InputStream inputStream, long objectSize, String contentType) throws Exception;
+
+    /**
+     * 流式上传MultipartFile并计算内容哈希
+     *
+     * @param file        上传的文件对象
+     * @param objectName  文件在MinIO中的对象名称
+     * @param contentType 文件内容类型
+     * @return 上传结果（包含实际大小和SHA-256摘要）
+     * @throws Exception MinIO操作异常
+     */
+    UploadResult uploadStream(MultipartFile file, String objectName, String contentType) throws Exception;
+
     /**
      * 创建文件夹或目录
      *
@@ -174,6 +225,16 @@ public interface IMinIOService {
      */
     ObjectWriteResponse createDir(String objectName) throws Exception;
 
+    /**
+     * 服务端复制对象，数据不经过应用
+     *
+     * @param sourceObjectName 源对象名称
+     * @param targetObjectName 目标对象名称
+     * @return MinIO上传响应对象
+     * @throws Exception MinIO操作异常
+     */
+    ObjectWriteResponse copyObject(String sourceObjectName, String targetObjectName) throws Exception;
+
     /**
      * 获取文件信息
      *
@@ -194,10 +255,13 @@ public interface IMinIOService {
 
     /**
      * 批量删除文件
+     * <p>
+     * 使用S3批量删除接口，每个请求最多删除1000个对象
      *
-     * @param keys       需要删除的文件列表
+     * @param keys 需要删除的文件列表
+     * @return 删除失败的对象名称及失败原因，全部成功时为空
      */
-    void removeFiles(List<String> keys);
+    Map<String, String> removeFiles(List<String> keys);
 
     /**
      * 获取文件外链（带过期时间）
@@ -217,6 +281,26 @@ public interface IMinIOService {
      * @throws Exception MinIO操作异常
      */
     String getPresignedObjectUrl(String objectName) throws Exception;
+
+    /**
+     * 批量获取文件外链
+     * <p>
+     * 签名结果会被缓存，缓存时长为有效期的一半，保证返回的URL至少还剩一半有效期
+     *
+     * @param objectNames 文件对象名称集合
+     * @param ttl         有效期，小于等于7天
+     * @return 对象名称到预签名URL的映射，签名失败的对象不包含在内
+     */
+    Map<String, String> presignAll(Collection<String> objectNames, Duration ttl);
+
+    /**
+     * 批量获取文件外链（使用配置的默认有效期）
+     *
+     * @param objectNames 文件对象名称集合
+     * @return 对象名称到预签名URL的映射，签名失败的对象不包含在内
+     */
+    Map<String, String> presignAll(Collection<String> objectNames);
+
     /**
      * 获取图片详细信息
      *
@@ -2,10 +2,17 @@ package com.xiaoo.kaleido.file.service.impl;
 
 import com.xiaoo.kaleido.file.config.MinIOProperties;
 import com.xiaoo.kaleido.file.model.ImageInfo;
+import com.xiaoo.kaleido.file.model.UploadResult;
 import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.file.util.ContentHashInputStream;
+import com.xiaoo.kaleido.file.util.ImageHeaderReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.minio.*;
 import io.minio.http.Method;
 import io.minio.messages.Bucket;
+import io.minio.messages.DeleteError;
 import io.minio.messages.DeleteObject;
 import io.minio.messages.Item;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +23,14 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MinIO服务实现类
@@ -32,9 +43,24 @@ public class MinIOServiceImpl implements IMinIOService {
 
     private static final String SEPARATOR = "/";
 
+    /**
+     * S3批量删除接口单次请求的对象数量上限
+     */
+    private static final int REMOVE_BATCH_SIZE = 1000;
+
+    /**
+     * 预签名URL缓存，键为对象名称和有效期，缓存时长为有效期的一半
+     */
+    private final Cache<PresignKey, String> presignCache;
+
     public MinIOServiceImpl(MinioClient minioClient, MinIOProperties properties) {
         this.minioClient = minioClient;
         this.properties = properties;
+        this.presignCache = Caffeine.newBuilder()
+                .maximumSize(properties.getPresignCacheMaxSize())
+                .expireAfter(new PresignExpiry())
+                .recordStats()
+                .build();
         // 初始化Bucket
         init();
     }
@@ -156,6 +182,15 @@ public class MinIOServiceImpl implements IMinIOService {
                         .build());
     }
 
+    @Override
+    public StatObjectResponse statObject(String objectName) throws Exception {
+        return minioClient.statObject(
+                StatObjectArgs.builder()
+                        .bucket(properties.getBucketName())
+                        .object(objectName)
+                        .build());
+    }
+
     @Override
     public Iterable<Result<Item>> listObjects(String prefix, boolean recursive) {
         return minioClient.listObjects(
@@ -168,14 +203,9 @@ public class MinIOServiceImpl implements IMinIOService {
 
     @Override
     public ObjectWriteResponse uploadFile(MultipartFile file, String objectName, String contentType) throws Exception {
-        InputStream inputStream = file.getInputStream();
-        return minioClient.putObject(
-                PutObjectArgs.builder()
-                        .bucket(properties.getBucketName())
-                        .object(objectName)
-                        .contentType(contentType)
-                        .stream(inputStream, inputStream.available(), -1)
-                        .build());
+        try (InputStream inputStream = file.getInputStream()) {
+            return putObject(objectName, inputStream, file.getSize(), contentType);
+        }
     }
 
     @Override
@@ -195,22 +225,12 @@ public class MinIOServiceImpl implements IMinIOService {
 
     @Override
     public ObjectWriteResponse uploadFile(String objectName, InputStream inputStream) throws Exception {
-        return minioClient.putObject(
-                PutObjectArgs.builder()
-                        .bucket(properties.getBucketName())
-                        .object(objectName)
-                        .stream(inputStream, inputStream.available(), -1)
-                        .build());
+        return putObject(objectName, inputStream, -1, null);
     }
 
     @Override
     public String uploadFile(String objectName, InputStream inputStream, boolean needUrl) throws Exception {
-        minioClient.putObject(
-                PutObjectArgs.builder()
-                        .bucket(properties.getBucketName())
-                        .object(objectName)
-                        .stream(inputStream, inputStream.available(), -1)
-                        .build());
+        putObject(objectName, inputStream, -1, null);
         if (needUrl) {
             String imageUrl = properties.getFileHost() + SEPARATOR + properties.getBucketName() + SEPARATOR + objectName;
             return imageUrl;
@@ -218,6 +238,64 @@ public class MinIOServiceImpl implements IMinIOService {
         return "";
     }
 
+    @Override
+    public ObjectWriteResponse uploadFile(String objectName, InputStream inputStream, long objectSize, String contentType) throws Exception {
+        return putObject(objectName, inputStream, objectSize, contentType);
+    }
+
+    @Override
+    public UploadResult uploadStream(String objectName, InputStream inputStream, long objectSize, String contentType) throws Exception {
+        ContentHashInputStream hashingStream = new ContentHashInputStream(inputStream);
+        ObjectWriteResponse response = putObject(objectName, hashingStream, objectSize, contentType);
+        return UploadResult.builder()
+                .objectName(objectName)
+                .etag(response.etag())
+                .size(hashingStream.getBytesRead())
+                .contentHash(hashingStream.hexDigest())
+                .build();
+    }
+
+    @Override
+    public UploadResult uploadStream(MultipartFile file, String objectName, String contentType) throws Exception {
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadStream(objectName, inputStream, file.getSize(), contentType);
+        }
+    }
+
+    /**
+     * 上传对象
+     * <p>
+     * 长度未知时不能使用available()估算（非缓冲流通常返回0），交由MinIO按分片大小读取并分片上传，
+     * 每次只缓冲一个分片
+     *
+     * @param objectSize 对象大小，未知时为-1
+     */
+    private ObjectWriteResponse putObject(String objectName, InputStream inputStream, long objectSize, String contentType) throws Exception {
+        PutObjectArgs.Builder builder = PutObjectArgs.builder()
+                .bucket(properties.getBucketName())
+                .object(objectName)
+                .stream(inputStream, objectSize, resolvePartSize(objectSize));
+        if (contentType != null && !contentType.isEmpty()) {
+            builder.contentType(contentType);
+        }
+        return minioClient.putObject(builder.build());
+    }
+
+    /**
+     * 计算分片大小
+     * <p>
+     * 在配置值基础上限制到MinIO允许的范围，并保证分片数不超过上限
+     */
+    private long resolvePartSize(long objectSize) {
+        long partSize = Math.max(ObjectWriteArgs.MIN_MULTIPART_SIZE,
+                Math.min(ObjectWriteArgs.MAX_PART_SIZE, properties.getPartSize()));
+        if (objectSize > 0) {
+            long minPartSize = (objectSize + ObjectWriteArgs.MAX_MULTIPART_COUNT - 1) / ObjectWriteArgs.MAX_MULTIPART_COUNT;
+            partSize = Math.max(partSize, minPartSize);
+        }
+        return partSize;
+    }
+
     @Override
     public ObjectWriteResponse createDir(String objectName) throws Exception {
         return minioClient.putObject(
@@ -228,6 +306,19 @@ public class MinIOServiceImpl implements IMinIOService {
                         .build());
     }
 
+    @Override
+    public ObjectWriteResponse copyObject(String sourceObjectName, String targetObjectName) throws Exception {
+        return minioClient.copyObject(
+                CopyObjectArgs.builder()
+                        .bucket(properties.getBucketName())
+                        .object(targetObjectName)
+                        .source(CopySource.builder()
+                                .bucket(properties.getBucketName())
+                                .object(sourceObjectName)
+                                .build())
+                        .build());
+    }
+
     @Override
     public String getFileStatusInfo(String objectName) throws Exception {
         return minioClient.statObject(
@@ -248,16 +339,49 @@ public class MinIOServiceImpl implements IMinIOService {
     }
 
     @Override
-    public void removeFiles(List<String> keys) {
-        List<DeleteObject> objects = new LinkedList<>();
-        keys.forEach(s -> {
-            objects.add(new DeleteObject(s));
-            try {
-                removeFile(s);
-            } catch (Exception e) {
-                log.error("批量删除失败！error:{}", e);
+    public Map<String, String> removeFiles(List<String> keys) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return failures;
+        }
+        List<String> distinctKeys = keys.stream()
+                .filter(key -> key != null && !key.isEmpty())
+                .distinct()
+                .toList();
+
+        for (int from = 0; from < distinctKeys.size(); from += REMOVE_BATCH_SIZE) {
+            List<String> batch = distinctKeys.subList(from, Math.min(from + REMOVE_BATCH_SIZE, distinctKeys.size()));
+            removeBatch(batch, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            log.warn("批量删除完成，共 {} 个对象，失败 {} 个", distinctKeys.size(), failures.size());
+        }
+        return failures;
+    }
+
+    /**
+     * 单次批量删除请求
+     * <p>
+     * removeObjects返回的结果是惰性的，必须遍历才会真正发出请求；结果中只包含删除失败的对象
+     */
+    private void removeBatch(List<String> batch, Map<String, String> failures) {
+        List<DeleteObject> objects = new ArrayList<>(batch.size());
+        batch.forEach(key -> objects.add(new DeleteObject(key)));
+        try {
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(properties.getBucketName())
+                            .objects(objects)
+                            .build());
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                failures.put(error.objectName(), error.code() + ": " + error.message());
             }
-        });
+        } catch (Exception e) {
+            log.error("批量删除请求失败，对象数量: {}, 错误: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(key -> failures.putIfAbsent(key, e.getMessage()));
+        }
     }
 
     @Override
@@ -275,6 +399,82 @@ public class MinIOServiceImpl implements IMinIOService {
         return minioClient.getPresignedObjectUrl(args);
     }
 
+    @Override
+    public Map<String, String> presignAll(Collection<String> objectNames, Duration ttl) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (objectNames == null || objectNames.isEmpty()) {
+            return urls;
+        }
+
+        int expirySeconds = (int) Math.min(Math.max(ttl.toSeconds(), 2), GetPresignedObjectUrlArgs.DEFAULT_EXPIRY_TIME);
+        for (String objectName : objectNames) {
+            if (objectName == null || objectName.isBlank() || urls.containsKey(objectName)) {
+                continue;
+            }
+            try {
+                urls.put(objectName, presignCache.get(new PresignKey(objectName, expirySeconds), this::presign));
+            } catch (Exception e) {
+                log.warn("生成预签名URL失败: {}, 错误: {}", objectName, e.getMessage());
+            }
+        }
+        return urls;
+    }
+
+    @Override
+    public Map<String, String> presignAll(Collection<String> objectNames) {
+        return presignAll(objectNames, properties.getPresignTtl());
+    }
+
+    /**
+     * 获取预签名URL缓存，用于注册命中率指标
+     */
+    public Cache<?, String> getPresignCache() {
+        return presignCache;
+    }
+
+    /**
+     * 生成预签名URL，签名在本地计算，不访问MinIO
+     */
+    private String presign(PresignKey key) {
+        try {
+            return minioClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
+                    .bucket(properties.getBucketName())
+                    .object(key.objectName())
+                    .expiry(key.expirySeconds())
+                    .build());
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 预签名缓存键
+     */
+    private record PresignKey(String objectName, int expirySeconds) {
+    }
+
+    /**
+     * 按签名有效期的一半过期，读取不续期
+     */
+    private static final class PresignExpiry implements Expiry<PresignKey, String> {
+
+        @Override
+        public long expireAfterCreate(PresignKey key, String value, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(key.expirySeconds()) / 2;
+        }
+
+        @Override
+        public long expireAfterUpdate(PresignKey key, String value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(PresignKey key, String value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
 
     @Override
     public ImageInfo getImageInfo(String objectName) throws Exception {
@@ -301,17 +501,27 @@ public class MinIOServiceImpl implements IMinIOService {
         // 4. 获取图片类型
         String imageType = extension.isEmpty() ? "UNKNOWN" : extension.toUpperCase();
         
-        // 5. 下载图片并读取宽高信息
-        int width = 0;
-        int height = 0;
-        
-        try (InputStream inputStream = getObject(objectName)) {
-            BufferedImage image = ImageIO.read(inputStream);
-            if (image != null) {
-                width = image.getWidth();
-                height = image.getHeight();
-            } else {
-                throw new IllegalArgumentException("无法读取图片文件或文件不是有效的图片格式: " + objectName);
+        // 5. 优先只读取文件头部解析宽高，解析失败时再下载完整图片解码
+        int width;
+        int height;
+
+        ImageHeaderReader.HeaderInfo header = readImageHeader(objectName, fileSize);
+        if (header != null) {
+            width = header.width();
+            height = header.height();
+            if (mimeType == null || mimeType.isEmpty()) {
+                mimeType = header.mimeType();
+            }
+        } else {
+            log.debug("图片头部解析失败，回退到完整解码: {}", objectName);
+            try (InputStream inputStream = getObject(objectName)) {
+                BufferedImage image = ImageIO.read(inputStream);
+                if (image != null) {
+                    width = image.getWidth();
+                    height = image.getHeight();
+                } else {
+                    throw new IllegalArgumentException("无法读取图片文件或文件不是有效的图片格式: " + objectName);
+                }
             }
         }
         
@@ -331,5 +541,32 @@ public class MinIOServiceImpl implements IMinIOService {
         return imageInfo;
     }
 
+    /**
+     * 通过范围读取解析图片头部信息
+     *
+     * @param objectName 图片对象名称
+     * @param fileSize   文件大小
+     * @return 头部信息，无法解析时返回 null
+     */
+    private ImageHeaderReader.HeaderInfo readImageHeader(String objectName, long fileSize) {
+        if (fileSize <= 0) {
+            return null;
+        }
+        try {
+            return ImageHeaderReader.read((offset, length) -> {
+                if (offset >= fileSize) {
+                    return new byte[0];
+                }
+                long readLength = Math.min(length, fileSize - offset);
+                try (InputStream inputStream = getObject(objectName, offset, readLength)) {
+                    return inputStream.readNBytes((int) readLength);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("读取图片头部失败: {}, 错误: {}", objectName, e.getMessage());
+            return null;
+        }
+    }
+
     /******************************  Operate Files End  ******************************/
 }
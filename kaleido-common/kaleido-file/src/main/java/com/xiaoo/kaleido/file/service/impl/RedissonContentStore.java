@@ -0,0 +1,299 @@
+package com.xiaoo.kaleido.file.service.impl;
+
+import com.xiaoo.kaleido.file.model.ContentObject;
+import com.xiaoo.kaleido.file.model.ImageInfo;
+import com.xiaoo.kaleido.file.model.UploadResult;
+import com.xiaoo.kaleido.file.service.IContentStore;
+import com.xiaoo.kaleido.file.service.IMinIOService;
+import com.xiaoo.kaleido.file.util.ContentAddress;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.codec.TypedJsonJacksonCodec;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 基于Redisson的内容寻址存储实现
+ * <p>
+ * 内容先上传到暂存对象并边读边计算哈希，再在服务端复制到内容寻址对象名。
+ * 元数据和引用计数保存在Redis中，同一哈希的转存、引用、释放和删除通过分布式锁串行化
+ */
+@Slf4j
+public class RedissonContentStore implements IContentStore {
+
+    private static final String KEY_PREFIX = "kaleido:file:cas:";
+    private static final String META_KEY = KEY_PREFIX + "meta:";
+    private static final String REF_KEY = KEY_PREFIX + "ref:";
+    private static final String LOCK_KEY = KEY_PREFIX + "lock:";
+
+    /**
+     * 锁持有时间上限（秒），防止实例宕机后锁无法释放
+     */
+    private static final long LOCK_LEASE_SECONDS = 30;
+
+    /**
+     * 元数据按JSON存储，不依赖使用方配置的Redisson默认编解码器（如StringCodec）
+     */
+    private static final TypedJsonJacksonCodec META_CODEC = new TypedJsonJacksonCodec(ContentObject.class);
+
+    private final IMinIOService minIOService;
+    private final RedissonClient redissonClient;
+
+    /**
+     * 引用计数从1减到0时是否删除对象
+     */
+    private final boolean deleteOnRelease;
+
+    public RedissonContentStore(IMinIOService minIOService, RedissonClient redissonClient, boolean deleteOnRelease) {
+        this.minIOService = minIOService;
+        this.redissonClient = redissonClient;
+        this.deleteOnRelease = deleteOnRelease;
+    }
+
+    @Override
+    public ContentObject store(InputStream inputStream, long objectSize, String contentType, String extension) throws Exception {
+        String ext = ContentAddress.normalizeExtension(extension);
+        String stagingName = ContentAddress.STAGING_PREFIX + UUID.randomUUID() + ext;
+
+        UploadResult upload = minIOService.uploadStream(stagingName, inputStream, objectSize, contentType);
+        String hash = upload.getContentHash();
+        try {
+            RLock lock = redissonClient.getLock(LOCK_KEY + hash);
+            lock.lock(LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+            try {
+                ContentObject existing = readMeta(hash);
+                if (existing != null && minIOService.isObjectExist(existing.getObjectName())) {
+                    log.info("内容已存在，复用对象: {}, 哈希: {}", existing.getObjectName(), hash);
+                    return existing;
+                }
+
+                String objectName = ContentAddress.objectNameOf(hash, ext);
+                minIOService.copyObject(stagingName, objectName);
+                ContentObject created = describe(hash, objectName, upload.getSize(), contentType);
+                meta(hash).set(created);
+                log.info("内容寻址对象创建成功: {}, 大小: {} bytes", objectName, upload.getSize());
+                return created;
+            } finally {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            removeQuietly(stagingName);
+        }
+    }
+
+    @Override
+    public ContentObject store(MultipartFile file) throws Exception {
+        String originalName = file.getOriginalFilename();
+        String extension = originalName != null && originalName.lastIndexOf('.') >= 0
+                ? originalName.substring(originalName.lastIndexOf('.'))
+                : "";
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(inputStream, file.getSize(), file.getContentType(), extension);
+        }
+    }
+
+    @Override
+    public Optional<ContentObject> findByHash(String hash) {
+        if (!ContentAddress.isHash(hash)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(readMeta(hash));
+    }
+
+    @Override
+    public Optional<ContentObject> findByObjectName(String objectName) {
+        String hash = ContentAddress.hashOf(objectName);
+        return hash == null ? Optional.empty() : findByHash(hash);
+    }
+
+    @Override
+    public long retain(String objectName) {
+        String hash = ContentAddress.hashOf(objectName);
+        if (hash == null) {
+            return -1;
+        }
+        return withLock(hash, () -> {
+            // 与释放和删除在同一把锁内，确认对象仍存在后再增加引用，避免引用已被删除的内容
+            if (!minIOService.isObjectExist(objectName)) {
+                throw new IllegalStateException("内容寻址对象不存在: " + objectName);
+            }
+            RAtomicLong ref = ref(hash);
+            long current = ref.get();
+            if (current < 0) {
+                log.warn("内容寻址对象引用计数为负，已重置: {}, 计数: {}", objectName, current);
+                ref.set(0);
+            }
+            return ref.incrementAndGet();
+        });
+    }
+
+    @Override
+    public long cancelRetain(String objectName) {
+        String hash = ContentAddress.hashOf(objectName);
+        if (hash == null) {
+            return -1;
+        }
+        return withLock(hash, () -> decrement(hash, objectName));
+    }
+
+    @Override
+    public long release(String objectName) {
+        String hash = ContentAddress.hashOf(objectName);
+        if (hash == null) {
+            return -1;
+        }
+        try {
+            return withLock(hash, () -> {
+                long before = ref(hash).get();
+                long remaining = decrement(hash, objectName);
+                // 只有计数从1减到0才说明最后一个引用被释放；计数缺失或为负时不能确认对象无人引用
+                if (before == 1 && remaining == 0 && deleteOnRelease) {
+                    removeContent(hash, objectName);
+                    log.info("内容寻址对象引用归零已删除: {}", objectName);
+                }
+                return remaining;
+            });
+        } catch (Exception e) {
+            log.error("释放内容寻址对象失败: {}, 错误: {}", objectName, e.getMessage(), e);
+            return -1;
+        }
+    }
+
+    @Override
+    public void resetReferences(String objectName, long references) {
+        String hash = ContentAddress.hashOf(objectName);
+        if (hash == null) {
+            return;
+        }
+        withLock(hash, () -> {
+            if (references > 0) {
+                ref(hash).set(references);
+            } else {
+                ref(hash).delete();
+            }
+            return references;
+        });
+    }
+
+    @Override
+    public boolean removeIfUnreferenced(String objectName) {
+        String hash = ContentAddress.hashOf(objectName);
+        if (hash == null) {
+            return false;
+        }
+        return withLock(hash, () -> {
+            if (ref(hash).get() > 0) {
+                return false;
+            }
+            removeContent(hash, objectName);
+            return true;
+        });
+    }
+
+    /**
+     * 减少引用计数，调用方需持有该哈希的锁
+     * <p>
+     * 计数不存在或已为0时减为负数，说明之前的引用没有登记，此时删除计数并返回0，不影响对象本身
+     */
+    private long decrement(String hash, String objectName) {
+        RAtomicLong ref = ref(hash);
+        long remaining = ref.decrementAndGet();
+        if (remaining < 0) {
+            log.warn("内容寻址对象引用计数小于0，已重置且保留对象: {}, 计数: {}", objectName, remaining);
+            ref.delete();
+            return 0;
+        }
+        if (remaining == 0) {
+            ref.delete();
+        }
+        return remaining;
+    }
+
+    /**
+     * 删除对象、元数据和引用计数，调用方需持有该哈希的锁
+     */
+    private void removeContent(String hash, String objectName) {
+        try {
+            minIOService.removeFile(objectName);
+        } catch (Exception e) {
+            throw new IllegalStateException("删除内容寻址对象失败: " + objectName, e);
+        }
+        ContentObject content = readMeta(hash);
+        if (content == null || objectName.equals(content.getObjectName())) {
+            meta(hash).delete();
+        }
+        ref(hash).delete();
+    }
+
+    private <T> T withLock(String hash, Supplier<T> action) {
+        RLock lock = redissonClient.getLock(LOCK_KEY + hash);
+        lock.lock(LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+        try {
+            return action.get();
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 生成内容元数据，图片解析宽高，非图片只记录大小和类型
+     */
+    private ContentObject describe(String hash, String objectName, long fileSize, String contentType) {
+        ContentObject.ContentObjectBuilder builder = ContentObject.builder()
+                .hash(hash)
+                .objectName(objectName)
+                .fileSize(fileSize)
+                .imageType("UNKNOWN")
+                .mimeType(contentType);
+        try {
+            ImageInfo imageInfo = minIOService.getImageInfo(objectName);
+            builder.imageType(imageInfo.getImageType())
+                    .width(imageInfo.getWidth())
+                    .height(imageInfo.getHeight())
+                    .mimeType(imageInfo.getMimeType());
+        } catch (Exception e) {
+            log.debug("内容不是可解析的图片，只记录基础元数据: {}", objectName);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 读取元数据，无法解码的旧数据视为不存在，由下一次转存覆盖
+     */
+    private ContentObject readMeta(String hash) {
+        try {
+            return meta(hash).get();
+        } catch (Exception e) {
+            log.warn("内容寻址元数据无法解析，按不存在处理: {}, 错误: {}", hash, e.getMessage());
+            return null;
+        }
+    }
+
+    private RBucket<ContentObject> meta(String hash) {
+        return redissonClient.getBucket(META_KEY + hash, META_CODEC);
+    }
+
+    private RAtomicLong ref(String hash) {
+        return redissonClient.getAtomicLong(REF_KEY + hash);
+    }
+
+    private void removeQuietly(String objectName) {
+        try {
+            minIOService.removeFile(objectName);
+        } catch (Exception e) {
+            log.warn("删除暂存对象失败: {}, 错误: {}", objectName, e.getMessage());
+        }
+    }
+}
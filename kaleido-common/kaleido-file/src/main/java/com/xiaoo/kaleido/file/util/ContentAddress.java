@@ -0,0 +1,78 @@
+package com.xiaoo.kaleido.file.util;
+
+/**
+ * 内容寻址对象名工具
+ * <p>
+ * 对象名由内容的SHA-256决定，格式：cas/{哈希前两位}/{哈希}.{扩展名}，相同内容只存一份
+ */
+public final class ContentAddress {
+
+    /**
+     * 内容寻址对象名前缀
+     */
+    public static final String KEY_PREFIX = "cas/";
+
+    /**
+     * 上传暂存对象名前缀，计算出哈希后再转存到内容寻址对象名
+     */
+    public static final String STAGING_PREFIX = "cas-staging/";
+
+    private static final int HASH_LENGTH = 64;
+
+    private ContentAddress() {
+    }
+
+    /**
+     * 根据内容哈希生成对象名
+     *
+     * @param hash      SHA-256十六进制摘要
+     * @param extension 扩展名（可带点，可为空）
+     * @return 对象名
+     */
+    public static String objectNameOf(String hash, String extension) {
+        return KEY_PREFIX + hash.substring(0, 2) + "/" + hash + normalizeExtension(extension);
+    }
+
+    /**
+     * 从对象名中解析内容哈希
+     *
+     * @param objectName 对象名
+     * @return 内容哈希，不是内容寻址对象名时返回null
+     */
+    public static String hashOf(String objectName) {
+        if (objectName == null || !objectName.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+        String fileName = objectName.substring(objectName.lastIndexOf('/') + 1);
+        int dot = fileName.indexOf('.');
+        String hash = dot >= 0 ? fileName.substring(0, dot) : fileName;
+        return isHash(hash) ? hash : null;
+    }
+
+    /**
+     * 是否为合法的SHA-256十六进制摘要
+     */
+    public static boolean isHash(String value) {
+        if (value == null || value.length() != HASH_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 规范化扩展名为小写并带点，空值返回空字符串
+     */
+    public static String normalizeExtension(String extension) {
+        if (extension == null || extension.isEmpty() || ".".equals(extension)) {
+            return "";
+        }
+        String ext = extension.startsWith(".") ? extension : "." + extension;
+        return ext.toLowerCase();
+    }
+}
@@ -0,0 +1,96 @@
+package com.xiaoo.kaleido.file.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 边读边计算SHA-256的输入流
+ * <p>
+ * 上传时包装原始流，流读完即可得到内容哈希和实际字节数，无需额外缓冲整个文件
+ */
+public class ContentHashInputStream extends FilterInputStream {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final MessageDigest digest;
+
+    private long bytesRead;
+
+    public ContentHashInputStream(InputStream in) {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("不支持的摘要算法: " + ALGORITHM, e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            bytesRead++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n > 0) {
+            digest.update(b, off, n);
+            bytesRead += n;
+        }
+        return n;
+    }
+
+    /**
+     * 跳过的字节同样计入哈希，保证结果与完整内容一致
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * 已读取的字节数
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * 已读取内容的SHA-256十六进制摘要，应在流读完后调用
+     */
+    public String hexDigest() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,333 @@
+package com.xiaoo.kaleido.file.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 图片头部信息解析器
+ * <p>
+ * 只读取文件头部字节即可解析出图片宽高，避免下载并解码整张图片。
+ * 支持 JPEG(SOF)、PNG(IHDR)、GIF、WebP(VP8/VP8L/VP8X)，以及 JPEG 的 EXIF 方向
+ */
+public final class ImageHeaderReader {
+
+    /**
+     * 首次读取的头部字节数
+     */
+    public static final int PROBE_SIZE = 8 * 1024;
+
+    /**
+     * JPEG 分段读取的最大次数（EXIF 等 APP 段可能把 SOF 推到首个窗口之外）
+     */
+    private static final int MAX_JPEG_FETCHES = 4;
+
+    /**
+     * EXIF 方向标签
+     */
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ImageHeaderReader() {
+    }
+
+    /**
+     * 按范围读取字节
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+
+        /**
+         * 读取指定范围的字节
+         *
+         * @param offset 起始字节的位置
+         * @param length 要读取的长度
+         * @return 读取到的字节，文件末尾时可能少于 length
+         * @throws Exception 读取异常
+         */
+        byte[] read(long offset, int length) throws Exception;
+    }
+
+    /**
+     * 图片头部信息
+     *
+     * @param format   图片格式（JPEG、PNG、GIF、WEBP）
+     * @param mimeType MIME 类型
+     * @param width    宽度（像素）
+     * @param height   高度（像素）
+     */
+    public record HeaderInfo(String format, String mimeType, int width, int height) {
+    }
+
+    /**
+     * 读取图片头部信息
+     *
+     * @param reader 范围读取器
+     * @return 头部信息，无法解析时返回 null
+     * @throws Exception 读取异常
+     */
+    public static HeaderInfo read(RangeReader reader) throws Exception {
+        byte[] head = reader.read(0, PROBE_SIZE);
+        if (head == null || head.length < 12) {
+            return null;
+        }
+        if (isJpeg(head)) {
+            return readJpeg(head, reader);
+        }
+        if (isPng(head)) {
+            return readPng(head);
+        }
+        if (isGif(head)) {
+            return readGif(head);
+        }
+        if (isWebp(head)) {
+            return readWebp(head);
+        }
+        return null;
+    }
+
+    private static boolean isJpeg(byte[] b) {
+        return u8(b, 0) == 0xFF && u8(b, 1) == 0xD8 && u8(b, 2) == 0xFF;
+    }
+
+    private static boolean isPng(byte[] b) {
+        return u8(b, 0) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G'
+                && u8(b, 4) == 0x0D && u8(b, 5) == 0x0A && u8(b, 6) == 0x1A && u8(b, 7) == 0x0A;
+    }
+
+    private static boolean isGif(byte[] b) {
+        return b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8';
+    }
+
+    private static boolean isWebp(byte[] b) {
+        return b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P';
+    }
+
+    /**
+     * 解析 PNG：IHDR 固定位于签名之后，宽高为大端 32 位整数
+     */
+    private static HeaderInfo readPng(byte[] b) {
+        if (b.length < 24 || b[12] != 'I' || b[13] != 'H' || b[14] != 'D' || b[15] != 'R') {
+            return null;
+        }
+        return of("PNG", "image/png", u32be(b, 16), u32be(b, 20));
+    }
+
+    /**
+     * 解析 GIF：逻辑屏幕宽高为小端 16 位整数
+     */
+    private static HeaderInfo readGif(byte[] b) {
+        return of("GIF", "image/gif", u16le(b, 6), u16le(b, 8));
+    }
+
+    /**
+     * 解析 WebP：根据首个分块类型区分有损、无损和扩展格式
+     */
+    private static HeaderInfo readWebp(byte[] b) {
+        if (b.length < 30) {
+            return null;
+        }
+        String chunk = new String(b, 12, 4, StandardCharsets.US_ASCII);
+        switch (chunk) {
+            case "VP8 " -> {
+                // 帧头3字节后为起始码 9D 01 2A，随后是14位宽高
+                if (u8(b, 23) != 0x9D || u8(b, 24) != 0x01 || u8(b, 25) != 0x2A) {
+                    return null;
+                }
+                return of("WEBP", "image/webp", u16le(b, 26) & 0x3FFF, u16le(b, 28) & 0x3FFF);
+            }
+            case "VP8L" -> {
+                // 签名 0x2F 后 28 位依次为 (宽-1) 14位、(高-1) 14位
+                if (u8(b, 20) != 0x2F) {
+                    return null;
+                }
+                long bits = u8(b, 21) | (u8(b, 22) << 8) | (u8(b, 23) << 16) | ((long) u8(b, 24) << 24);
+                return of("WEBP", "image/webp", (int) (bits & 0x3FFF) + 1, (int) ((bits >> 14) & 0x3FFF) + 1);
+            }
+            case "VP8X" -> {
+                // 画布 (宽-1)、(高-1) 为小端 24 位整数
+                return of("WEBP", "image/webp", u24le(b, 24) + 1, u24le(b, 27) + 1);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 解析 JPEG：逐段跳过直到 SOF 段，SOF 不在当前窗口时按偏移补读
+     */
+    private static HeaderInfo readJpeg(byte[] head, RangeReader reader) throws Exception {
+        byte[] window = head;
+        long windowStart = 0;
+        long pos = 2;
+        int fetches = 1;
+
+        while (true) {
+            // 每个段至少需要标记(2) + 长度(2) + SOF精度和宽高(5)
+            if (pos + 9 > windowStart + window.length) {
+                // 当前窗口已读到文件末尾，或补读次数用尽
+                if (window.length < PROBE_SIZE || fetches >= MAX_JPEG_FETCHES) {
+                    return null;
+                }
+                window = reader.read(pos, PROBE_SIZE);
+                windowStart = pos;
+                fetches++;
+                if (window == null || window.length < 9) {
+                    return null;
+                }
+            }
+
+            int i = (int) (pos - windowStart);
+            if (u8(window, i) != 0xFF) {
+                return null;
+            }
+            int marker = u8(window, i + 1);
+            // 填充字节
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            // 无长度的独立标记
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;
+                continue;
+            }
+            // 图像数据开始或结束仍未找到 SOF
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+            int segmentLength = u16be(window, i + 2);
+            if (segmentLength < 2) {
+                return null;
+            }
+            if (isSofMarker(marker)) {
+                return of("JPEG", "image/jpeg", u16be(window, i + 7), u16be(window, i + 5));
+            }
+            pos += 2 + segmentLength;
+        }
+    }
+
+    /**
+     * 读取 JPEG 的 EXIF 方向
+     * <p>
+     * 只在给定的头部字节内查找 APP1(Exif) 段的 IFD0 方向标签，非 JPEG、无 EXIF 或越界时返回 1（正常方向）
+     *
+     * @param head 文件头部字节
+     * @return EXIF 方向值 1~8
+     */
+    public static int readJpegOrientation(byte[] head) {
+        if (head == null || head.length < 4 || !isJpeg(head)) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= head.length) {
+            if (u8(head, pos) != 0xFF) {
+                return 1;
+            }
+            int marker = u8(head, pos + 1);
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+                pos += 2;
+                continue;
+            }
+            // 图像数据之后不会再出现 EXIF
+            if (marker == 0xD9 || marker == 0xDA) {
+                return 1;
+            }
+            int segmentLength = u16be(head, pos + 2);
+            if (segmentLength < 2) {
+                return 1;
+            }
+            int dataStart = pos + 4;
+            int dataEnd = Math.min(head.length, pos + 2 + segmentLength);
+            if (marker == 0xE1 && isExif(head, dataStart, dataEnd)) {
+                return readTiffOrientation(head, dataStart + 6, dataEnd);
+            }
+            pos += 2 + segmentLength;
+        }
+        return 1;
+    }
+
+    private static boolean isExif(byte[] b, int start, int end) {
+        return end - start >= 6 && b[start] == 'E' && b[start + 1] == 'x' && b[start + 2] == 'i'
+                && b[start + 3] == 'f' && b[start + 4] == 0 && b[start + 5] == 0;
+    }
+
+    /**
+     * 解析 TIFF 头和 IFD0，查找方向标签（SHORT 类型，值直接存放在条目内）
+     */
+    private static int readTiffOrientation(byte[] b, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian;
+        if (b[tiff] == 'I' && b[tiff + 1] == 'I') {
+            littleEndian = true;
+        } else if (b[tiff] == 'M' && b[tiff + 1] == 'M') {
+            littleEndian = false;
+        } else {
+            return 1;
+        }
+        long ifdOffset = u32(b, tiff + 4, littleEndian) & 0xFFFFFFFFL;
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+        int entries = u16(b, ifd, littleEndian);
+        for (int n = 0; n < entries; n++) {
+            int entry = ifd + 2 + n * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (u16(b, entry, littleEndian) == TAG_ORIENTATION) {
+                int orientation = u16(b, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * SOF0~SOF15，排除 DHT(C4)、JPG(C8)、DAC(CC)
+     */
+    private static boolean isSofMarker(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static HeaderInfo of(String format, String mimeType, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        return new HeaderInfo(format, mimeType, width, height);
+    }
+
+    private static int u8(byte[] b, int i) {
+        return b[i] & 0xFF;
+    }
+
+    private static int u16be(byte[] b, int i) {
+        return (u8(b, i) << 8) | u8(b, i + 1);
+    }
+
+    private static int u16le(byte[] b, int i) {
+        return u8(b, i) | (u8(b, i + 1) << 8);
+    }
+
+    private static int u24le(byte[] b, int i) {
+        return u8(b, i) | (u8(b, i + 1) << 8) | (u8(b, i + 2) << 16);
+    }
+
+    private static int u32be(byte[] b, int i) {
+        return (u8(b, i) << 24) | (u8(b, i + 1) << 16) | (u8(b, i + 2) << 8) | u8(b, i + 3);
+    }
+
+    private static int u16(byte[] b, int i, boolean littleEndian) {
+        return littleEndian ? u16le(b, i) : u16be(b, i);
+    }
+
+    private static int u32(byte[] b, int i, boolean littleEndian) {
+        return littleEndian ? u16le(b, i) | (u16le(b, i + 2) << 16) : u32be(b, i);
+    }
+}